@@ -7,6 +7,7 @@ import com.renzzle.backend.domain.auth.dao.AdminRepository;
 import com.renzzle.backend.domain.user.dao.UserRepository;
 import com.renzzle.backend.domain.puzzle.training.service.TrainingService;
 import com.renzzle.backend.domain.user.domain.UserEntity;
+import com.renzzle.backend.domain.user.service.NicknameSearchIndex;
 import com.renzzle.backend.global.exception.CustomException;
 import com.renzzle.backend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class AccountService {
     private final AuthService authService;
     private final TrainingService trainingService;
     private final AdminRepository adminRepository;
+    private final NicknameSearchIndex nicknameSearchIndex;
 
     @Transactional(readOnly = true)
     public boolean isDuplicatedEmail(String email) {
@@ -73,7 +75,9 @@ public class AccountService {
                 .nickname(nickname)
                 .deviceId(deviceId)
                 .build();
-        return userRepository.save(user);
+        UserEntity saved = userRepository.save(user);
+        nicknameSearchIndex.index(saved.getId(), nickname);
+        return saved;
     }
 
     @Transactional
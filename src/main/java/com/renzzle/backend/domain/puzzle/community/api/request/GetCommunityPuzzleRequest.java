@@ -8,6 +8,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 
 public record GetCommunityPuzzleRequest(
+        // Deprecated: id of the last puzzle of the previous page, superseded by cursor
         Long id,
 
         @Min(value = 1, message = "size는 최소 1이어야 합니다")
@@ -33,5 +34,8 @@ public record GetCommunityPuzzleRequest(
         Boolean solved,
 
         @Size(min = 1, max = 10, message = "검색어는 1글자 이상, 최대 10글자까지 가능합니다")
-        String query
+        String query,
+
+        // cursor of the last puzzle of the previous page
+        String cursor
 ) { }
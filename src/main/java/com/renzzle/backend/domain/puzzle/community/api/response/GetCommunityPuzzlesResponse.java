@@ -16,5 +16,6 @@ public record GetCommunityPuzzlesResponse(
         int likeCount,
         String createdAt,
         boolean isSolved,
-        boolean isVerified
+        boolean isVerified,
+        String cursor
 ) { }
@@ -0,0 +1,61 @@
+package com.renzzle.backend.domain.puzzle.community.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC writes for bulk community puzzle updates.
+ * Relative updates never overwrite a concurrent change to the same row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityPuzzleBatchRepository {
+
+    private static final long FLUSH_STATE_ID = 1L;
+
+    private static final String ADD_VIEWS = "UPDATE community_puzzle SET `view` = `view` + ? WHERE id = ?";
+
+    private static final String INSERT_FLUSH_STATE =
+            "INSERT IGNORE INTO community_puzzle_view_flush_state (id, last_flush_id) VALUES (?, 0)";
+    private static final String LOCK_FLUSH_STATE =
+            "SELECT last_flush_id FROM community_puzzle_view_flush_state WHERE id = ? FOR UPDATE";
+    private static final String SELECT_LAST_FLUSH_ID =
+            "SELECT last_flush_id FROM community_puzzle_view_flush_state WHERE id = ?";
+    private static final String UPDATE_FLUSH_STATE =
+            "UPDATE community_puzzle_view_flush_state SET last_flush_id = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds one buffered flush to the view counts and records its id in the same transaction.
+     * A flush that was already applied (a retry after a crash) is skipped, so views are never added twice.
+     */
+    @Transactional
+    public boolean addViews(long flushId, Map<Long, Long> viewsByPuzzle) {
+        jdbcTemplate.update(INSERT_FLUSH_STATE, FLUSH_STATE_ID);
+        Long lastFlushId = jdbcTemplate.queryForObject(LOCK_FLUSH_STATE, Long.class, FLUSH_STATE_ID);
+        if (lastFlushId != null && lastFlushId >= flushId) {
+            return false;
+        }
+
+        List<Object[]> rows = new ArrayList<>(viewsByPuzzle.size());
+        viewsByPuzzle.forEach((puzzleId, views) -> rows.add(new Object[]{views, puzzleId}));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_VIEWS, rows);
+        }
+        jdbcTemplate.update(UPDATE_FLUSH_STATE, flushId, FLUSH_STATE_ID);
+        return true;
+    }
+
+    // 0 before the first flush; inside a transaction it matches the view counts read there
+    public long findLastViewFlushId() {
+        List<Long> lastFlushIds = jdbcTemplate.queryForList(SELECT_LAST_FLUSH_ID, Long.class, FLUSH_STATE_ID);
+        return lastFlushIds.isEmpty() ? 0 : lastFlushIds.get(0);
+    }
+}
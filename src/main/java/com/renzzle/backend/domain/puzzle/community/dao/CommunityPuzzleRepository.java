@@ -2,6 +2,8 @@ package com.renzzle.backend.domain.puzzle.community.dao;
 
 import com.renzzle.backend.domain.puzzle.community.dao.query.CommunityPuzzleQueryRepository;
 import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.rank.dao.projection.PuzzlerActivityProjection;
+import com.renzzle.backend.domain.puzzle.rank.dao.projection.RankCandidateProjection;
 import com.renzzle.backend.domain.user.domain.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,29 +15,6 @@ import java.util.List;
 
 public interface CommunityPuzzleRepository extends JpaRepository<CommunityPuzzle, Long>, CommunityPuzzleQueryRepository {
 
-    @Query(value = "SELECT cp.* FROM community_puzzle cp " +
-            "JOIN user_community_puzzle ucp ON ucp.community_id = cp.id " +
-            "WHERE cp.status != 'DELETED' AND ucp.user_id = :userId AND ucp.is_liked = TRUE AND ucp.liked_at IS NOT NULL " +
-            "AND (" +
-            "   :cursorId IS NULL " +
-            "   OR (ucp.liked_at, cp.id) < (SELECT ucp2.liked_at, cp2.id FROM user_community_puzzle ucp2 " +
-            "                       JOIN community_puzzle cp2 ON ucp2.community_id = cp2.id " +
-            "                       WHERE cp2.id = :cursorId AND ucp2.user_id = :userId)) " +
-            "ORDER BY ucp.liked_at DESC, cp.id DESC " +
-            "LIMIT :size", nativeQuery = true)
-    List<CommunityPuzzle> getUserLikedPuzzles(@Param("userId") Long userId, @Param("cursorId") Long cursorId, @Param("size") int size);
-
-    @Query(value = "SELECT cp.* FROM community_puzzle cp " +
-            "WHERE cp.status != 'DELETED' AND cp.author_id = :userId " +
-            "AND (" +
-            "   :cursorId IS NULL " +
-            "   OR (cp.created_at, cp.id) < (SELECT cp2.created_at, cp2.id FROM community_puzzle cp2 " +
-            "                               WHERE cp2.id = :cursorId)" +
-            ") " +
-            "ORDER BY cp.created_at DESC, cp.id DESC " +
-            "LIMIT :size", nativeQuery = true)
-    List<CommunityPuzzle> getUserPuzzles(@Param("userId") Long userId, @Param("cursorId") Long cursorId, @Param("size") int size);
-
     @Modifying
     @Query("UPDATE CommunityPuzzle cp SET cp.status = (SELECT s FROM Status s WHERE s.name = 'DELETED'), " +
             "cp.deletedAt = :deletedAt WHERE cp.id = :puzzleId")
@@ -44,12 +23,11 @@ public interface CommunityPuzzleRepository extends JpaRepository<CommunityPuzzle
     @Query("SELECT c FROM CommunityPuzzle c WHERE c.rating BETWEEN :min AND :max AND c.isVerified = true AND c.user <> :user")
     List<CommunityPuzzle> findAvailablePuzzlesForUser(@Param("min") double min, @Param("max") double max, @Param("user") UserEntity user);
 
-    @Query("SELECT p FROM CommunityPuzzle p " +
-            "WHERE p.boardStatus NOT IN (" +
-            "    SELECT l.boardStatus FROM LatestRankPuzzle l WHERE l.user = :user" +
-            ") AND p.isVerified = true " +
+    @Query("SELECT p.id AS id, p.rating AS rating " +
+            "FROM CommunityPuzzle p " +
+            "WHERE p.isVerified = true " +
             "ORDER BY p.rating ASC")
-    List<CommunityPuzzle> findAvailableCommunityPuzzlesSortedByRating(@Param("user") UserEntity user);
+    List<RankCandidateProjection> findAllRankCandidates();
 
     @Query(value = "SELECT * FROM community_puzzle WHERE id = :id", nativeQuery = true)
     CommunityPuzzle findByIdIncludingDeleted(@Param("id") Long id);
@@ -58,16 +36,33 @@ public interface CommunityPuzzleRepository extends JpaRepository<CommunityPuzzle
 
     List<CommunityPuzzle> findTop30ByCreatedAtBeforeOrderByCreatedAtDesc(Instant before);
 
-    @Query("SELECT COUNT(p) FROM CommunityPuzzle p WHERE p.user.id = :userId")
-    long countByAuthor(@Param("userId") Long userId);
-
-    @Query("SELECT COALESCE(SUM(p.likeCount), 0) FROM CommunityPuzzle p WHERE p.user.id = :userId")
-    int sumLikesByUser(@Param("userId") Long userId);
-
-    @Query("SELECT COALESCE(SUM(p.dislikeCount), 0) FROM CommunityPuzzle p WHERE p.user.id = :userId")
-    int sumDislikesByUser(@Param("userId") Long userId);
-
-    @Query("SELECT DISTINCT p.user FROM CommunityPuzzle p WHERE p.createdAt >= :since")
-    List<UserEntity> findUsersWhoCreatedPuzzlesSince(@Param("since") Instant since);
+    // (solved, authored, likes, dislikes) of every user who created or solved a puzzle since the given time, in one grouped query
+    @Query(value = "WITH active AS (" +
+            "   SELECT cp.author_id AS user_id FROM community_puzzle cp " +
+            "   WHERE cp.created_at >= :since AND cp.status != 'DELETED' " +
+            "   UNION " +
+            "   SELECT ucp.user_id FROM user_community_puzzle ucp WHERE ucp.solved_at >= :since" +
+            ") " +
+            "SELECT u.id AS userId, u.nickname AS nickname, " +
+            "   COALESCE(s.solved_count, 0) AS solvedCount, " +
+            "   COALESCE(a.authored_count, 0) AS authoredCount, " +
+            "   COALESCE(a.like_sum, 0) AS likeSum, " +
+            "   COALESCE(a.dislike_sum, 0) AS dislikeSum " +
+            "FROM user u " +
+            "JOIN active ON active.user_id = u.id " +
+            "LEFT JOIN (" +
+            "   SELECT ucp.user_id, COUNT(*) AS solved_count FROM user_community_puzzle ucp " +
+            "   JOIN active ON active.user_id = ucp.user_id " +
+            "   WHERE ucp.is_solved = TRUE GROUP BY ucp.user_id" +
+            ") s ON s.user_id = u.id " +
+            "LEFT JOIN (" +
+            "   SELECT cp.author_id, COUNT(*) AS authored_count, " +
+            "       SUM(cp.like_count) AS like_sum, SUM(cp.dislike_count) AS dislike_sum " +
+            "   FROM community_puzzle cp " +
+            "   JOIN active ON active.user_id = cp.author_id " +
+            "   WHERE cp.status != 'DELETED' GROUP BY cp.author_id" +
+            ") a ON a.author_id = u.id " +
+            "WHERE u.status != 'DELETED'", nativeQuery = true)
+    List<PuzzlerActivityProjection> findPuzzlerActivitiesSince(@Param("since") Instant since);
 
 }
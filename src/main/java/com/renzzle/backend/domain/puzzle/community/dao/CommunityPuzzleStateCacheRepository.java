@@ -0,0 +1,61 @@
+package com.renzzle.backend.domain.puzzle.community.dao;
+
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleUserState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Per-user hash of community puzzle states: field = puzzle id, value = CommunityPuzzleUserState bits.
+ * A missing field means "not cached"; puzzles the user never touched are stored as 0.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityPuzzleStateCacheRepository {
+
+    private static final String KEY_PREFIX = "community:state:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Map<Long, CommunityPuzzleUserState> findAll(Long userId, List<Long> puzzleIds) {
+        List<Object> fields = new ArrayList<>(puzzleIds.size());
+        for (Long puzzleId : puzzleIds) {
+            fields.add(String.valueOf(puzzleId));
+        }
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(key(userId), fields);
+
+        Map<Long, CommunityPuzzleUserState> states = new HashMap<>();
+        for (int i = 0; i < puzzleIds.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                states.put(puzzleIds.get(i), CommunityPuzzleUserState.fromBits(Integer.parseInt((String) value)));
+            }
+        }
+        return states;
+    }
+
+    public void saveAll(Long userId, Map<Long, CommunityPuzzleUserState> states, Duration ttl) {
+        String key = key(userId);
+        Map<String, String> fields = new HashMap<>();
+        states.forEach((puzzleId, state) -> fields.put(String.valueOf(puzzleId), String.valueOf(state.toBits())));
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.hMSet(key, fields);
+            redis.expire(key, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    public void delete(Long userId) {
+        stringRedisTemplate.delete(key(userId));
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
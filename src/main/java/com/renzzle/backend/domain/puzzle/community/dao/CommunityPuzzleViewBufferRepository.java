@@ -0,0 +1,159 @@
+package com.renzzle.backend.domain.puzzle.community.dao;
+
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleBufferedViews;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleViewFlush;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * View increments of community puzzles not yet written to the database, shared by all instances.
+ * - pending: hash of puzzle id -> views counted since the last flush
+ * - flushing: the pending hash renamed away while a flush writes it; a crashed flush leaves it to be retried
+ * - flushing id / flush sequence: every flush gets the next id, recorded in the database with its views
+ * - lock: only one instance flushes at a time; holds a per-run token so a run never releases another run's lock
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityPuzzleViewBufferRepository {
+
+    private static final String PENDING_KEY = "community:views:pending";
+    private static final String FLUSHING_KEY = "community:views:flushing";
+    private static final String FLUSHING_ID_KEY = "community:views:flushing:id";
+    private static final String FLUSH_SEQUENCE_KEY = "community:views:flush-seq";
+    private static final String LOCK_KEY = "community:views:lock";
+
+    private static final List<String> BUFFER_KEYS = List.of(PENDING_KEY, FLUSHING_KEY, FLUSHING_ID_KEY, FLUSH_SEQUENCE_KEY);
+
+    /*
+        Reads both parts of the buffered views of the given puzzles (ARGV) together with the flush ids they belong to.
+        Returns {flushing id, flush sequence, pending 1, flushing 1, pending 2, flushing 2, ...}, missing values as '0'.
+     */
+    private static final RedisScript<List> FIND_BUFFERED_SCRIPT = new DefaultRedisScript<>(
+            "local result = { redis.call('GET', KEYS[3]) or '0', redis.call('GET', KEYS[4]) or '0' } " +
+            "local pending = redis.call('HMGET', KEYS[1], unpack(ARGV)) " +
+            "local flushing = redis.call('HMGET', KEYS[2], unpack(ARGV)) " +
+            "for i = 1, #ARGV do " +
+            "   table.insert(result, pending[i] or '0') " +
+            "   table.insert(result, flushing[i] or '0') " +
+            "end " +
+            "return result",
+            List.class
+    );
+
+    /*
+        Moves the pending hash aside under the next flush id, unless an unfinished flush is still there.
+        Returns {flush id, field, value, field, value, ...}, or an empty list when nothing is buffered.
+     */
+    private static final RedisScript<List> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "   if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "   redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "   redis.call('SET', KEYS[3], redis.call('INCR', KEYS[4])) " +
+            "end " +
+            "local id = redis.call('GET', KEYS[3]) " +
+            "if not id then " +
+            "   id = redis.call('INCR', KEYS[4]) " +
+            "   redis.call('SET', KEYS[3], id) " +
+            "end " +
+            "local result = redis.call('HGETALL', KEYS[2]) " +
+            "table.insert(result, 1, tostring(id)) " +
+            "return result",
+            List.class
+    );
+
+    // Keeps flush ids ahead of the last one applied in the database, e.g. after the sequence key was lost
+    private static final RedisScript<Long> ADVANCE_SEQUENCE_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('GET', KEYS[1]) or '0') < tonumber(ARGV[1]) then " +
+            "   redis.call('SET', KEYS[1], ARGV[1]) " +
+            "   return 1 " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "   return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void increment(Long puzzleId) {
+        stringRedisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(puzzleId), 1);
+    }
+
+    // Views of the puzzle counted but possibly not yet in the database, read in one step
+    public CommunityPuzzleBufferedViews findBuffered(Long puzzleId) {
+        return findBuffered(List.of(puzzleId)).get(puzzleId);
+    }
+
+    // Same for a page of puzzles, still in one round trip
+    @SuppressWarnings("unchecked")
+    public Map<Long, CommunityPuzzleBufferedViews> findBuffered(List<Long> puzzleIds) {
+        if (puzzleIds.isEmpty()) {
+            return Map.of();
+        }
+        Object[] fields = puzzleIds.stream().map(String::valueOf).toArray();
+        List<String> values = stringRedisTemplate.execute(FIND_BUFFERED_SCRIPT, BUFFER_KEYS, fields);
+        long flushingId = Long.parseLong(values.get(0));
+        long pendingFlushId = Long.parseLong(values.get(1)) + 1;
+
+        Map<Long, CommunityPuzzleBufferedViews> result = new HashMap<>();
+        for (int i = 0; i < puzzleIds.size(); i++) {
+            result.put(puzzleIds.get(i), new CommunityPuzzleBufferedViews(
+                    Long.parseLong(values.get(2 + 2 * i)),
+                    pendingFlushId,
+                    Long.parseLong(values.get(3 + 2 * i)),
+                    flushingId
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * Moves the pending increments aside and returns them with their flush id.
+     * Increments counted from now on go to a fresh pending hash.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<CommunityPuzzleViewFlush> beginFlush() {
+        List<String> values = stringRedisTemplate.execute(BEGIN_FLUSH_SCRIPT, BUFFER_KEYS);
+        if (values == null || values.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Long, Long> views = new HashMap<>();
+        for (int i = 1; i + 1 < values.size(); i += 2) {
+            views.put(Long.parseLong(values.get(i)), Long.parseLong(values.get(i + 1)));
+        }
+        return Optional.of(new CommunityPuzzleViewFlush(Long.parseLong(values.get(0)), views));
+    }
+
+    public void endFlush() {
+        stringRedisTemplate.delete(List.of(FLUSHING_KEY, FLUSHING_ID_KEY));
+    }
+
+    public void advanceFlushSequence(long lastFlushId) {
+        stringRedisTemplate.execute(ADVANCE_SEQUENCE_SCRIPT, List.of(FLUSH_SEQUENCE_KEY), String.valueOf(lastFlushId));
+    }
+
+    public boolean tryLock(String token, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, ttl));
+    }
+
+    // Released only while it still holds the token, i.e. it did not expire and get taken by another instance
+    public void unlock(String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+    }
+}
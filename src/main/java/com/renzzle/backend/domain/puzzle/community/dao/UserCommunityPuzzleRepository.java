@@ -1,14 +1,15 @@
 package com.renzzle.backend.domain.puzzle.community.dao;
 
 import com.renzzle.backend.domain.puzzle.community.dao.projection.LikeDislikeProjection;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.UserPuzzleStateProjection;
 import com.renzzle.backend.domain.puzzle.community.domain.UserCommunityPuzzle;
-import com.renzzle.backend.domain.user.domain.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,15 +33,17 @@ public interface UserCommunityPuzzleRepository extends JpaRepository<UserCommuni
             @Param("userId") Long userId,
             @Param("puzzleId") Long puzzleId);
 
+    // One indexed lookup (user_id, community_id) for a whole page of puzzles
+    @Query("SELECT ucp.puzzle.id AS puzzleId, ucp.isSolved AS isSolved, " +
+            "ucp.isLiked AS isLiked, ucp.isDisliked AS isDisliked " +
+            "FROM UserCommunityPuzzle ucp " +
+            "WHERE ucp.user.id = :userId AND ucp.puzzle.id IN :puzzleIds")
+    List<UserPuzzleStateProjection> findStates(@Param("userId") Long userId,
+                                               @Param("puzzleIds") Collection<Long> puzzleIds);
+
     @Modifying
     @Query("UPDATE UserCommunityPuzzle ucp SET ucp.isSolved = TRUE, ucp.solvedAt = :solvedAt " +
             "WHERE ucp.user.id = :userId AND ucp.puzzle.id = :puzzleId")
     int solvePuzzle(@Param("userId") Long userId, @Param("puzzleId") Long puzzleId, @Param("solvedAt") Instant solvedAt);
 
-    @Query("SELECT DISTINCT ucp.user FROM UserCommunityPuzzle ucp WHERE ucp.solvedAt >= :since")
-    List<UserEntity> findUsersWhoSolvedPuzzlesSince(@Param("since") Instant since);
-
-    @Query("SELECT COUNT(ucp) FROM UserCommunityPuzzle ucp WHERE ucp.user.id = :userId AND ucp.isSolved = true")
-    long countSolvedByUser(@Param("userId") Long userId);
-
 }
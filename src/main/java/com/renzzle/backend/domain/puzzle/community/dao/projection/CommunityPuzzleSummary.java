@@ -0,0 +1,22 @@
+package com.renzzle.backend.domain.puzzle.community.dao.projection;
+
+import java.time.Instant;
+
+/**
+ * Columns of a community puzzle list row, selected directly instead of hydrating CommunityPuzzle.
+ * Author id and nickname come from the same join.
+ */
+public record CommunityPuzzleSummary(
+        Long id,
+        String boardStatus,
+        Long authorId,
+        String authorName,
+        String description,
+        Integer depth,
+        String winColor,
+        Integer solvedCount,
+        Integer view,
+        Integer likeCount,
+        Instant createdAt,
+        Boolean isVerified
+) { }
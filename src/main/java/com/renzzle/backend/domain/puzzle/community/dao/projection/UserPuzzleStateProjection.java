@@ -0,0 +1,10 @@
+package com.renzzle.backend.domain.puzzle.community.dao.projection;
+
+public interface UserPuzzleStateProjection {
+
+    Long getPuzzleId();
+    Boolean getIsSolved();
+    Boolean getIsLiked();
+    Boolean getIsDisliked();
+
+}
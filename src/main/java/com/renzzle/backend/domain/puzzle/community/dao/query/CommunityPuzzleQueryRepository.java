@@ -1,18 +1,26 @@
 package com.renzzle.backend.domain.puzzle.community.dao.query;
 
 import com.renzzle.backend.domain.puzzle.community.api.request.GetCommunityPuzzleRequest;
-import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.CommunityPuzzleSummary;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleCursor;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleSearchMatch;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface CommunityPuzzleQueryRepository {
 
-    List<CommunityPuzzle> searchCommunityPuzzles(GetCommunityPuzzleRequest request, Long userId);
+    /**
+     * Rows strictly after the cursor in the cursor's sort order (from the top when the cursor is null).
+     * The search box query is applied through the resolved match (not applied when null).
+     */
+    List<CommunityPuzzleSummary> searchCommunityPuzzles(GetCommunityPuzzleRequest request, CommunityPuzzleCursor after,
+                                                        CommunityPuzzleSearchMatch match, Long userId);
 
     /**
      * For cache entry: exact author-nickname match (not applied if empty), win color, depth range, and id-cursor pagination.
      */
-    List<CommunityPuzzle> searchCommunityPuzzlesForCache(
+    List<CommunityPuzzleSummary> searchCommunityPuzzlesForCache(
             String authorNicknameExact,
             String stone,
             Integer depthMin,
@@ -20,4 +28,15 @@ public interface CommunityPuzzleQueryRepository {
             Long cursorId,
             int size
     );
+
+    /**
+     * Puzzles the user liked, most recently liked first. The cursor is the id of the last puzzle of the previous page.
+     */
+    List<CommunityPuzzleSummary> getUserLikedPuzzles(Long userId, Long cursorId, int size);
+
+    /**
+     * Puzzles the user created, newest first. The cursor is (createdAt, id) of the last puzzle of the previous page,
+     * resolved by the caller so that a puzzle deleted since then still works as a cursor.
+     */
+    List<CommunityPuzzleSummary> getUserPuzzles(Long userId, Instant cursorCreatedAt, Long cursorId, int size);
 }
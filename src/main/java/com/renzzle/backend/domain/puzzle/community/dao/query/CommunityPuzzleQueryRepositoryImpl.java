@@ -1,18 +1,24 @@
 package com.renzzle.backend.domain.puzzle.community.dao.query;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.renzzle.backend.domain.puzzle.community.api.request.GetCommunityPuzzleRequest;
-import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
-import com.renzzle.backend.domain.puzzle.community.domain.QCommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.CommunityPuzzleSummary;
+import com.renzzle.backend.domain.puzzle.community.domain.QUserCommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleCursor;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleSearchMatch;
 import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
 import com.renzzle.backend.global.common.constant.SortOption;
+import com.renzzle.backend.global.common.domain.Status;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 import static com.renzzle.backend.domain.puzzle.community.domain.QCommunityPuzzle.communityPuzzle;
@@ -23,60 +29,55 @@ import static com.renzzle.backend.domain.user.domain.QUserEntity.userEntity;
 @RequiredArgsConstructor
 public class CommunityPuzzleQueryRepositoryImpl implements CommunityPuzzleQueryRepository {
 
+    // List rows are read as plain values: no entity hydration, no per-row association loads
+    private static final ConstructorExpression<CommunityPuzzleSummary> SUMMARY = Projections.constructor(
+            CommunityPuzzleSummary.class,
+            communityPuzzle.id,
+            communityPuzzle.boardStatus,
+            userEntity.id,
+            userEntity.nickname,
+            communityPuzzle.description,
+            communityPuzzle.depth,
+            communityPuzzle.winColor.name,
+            communityPuzzle.solvedCount,
+            communityPuzzle.view,
+            communityPuzzle.likeCount,
+            communityPuzzle.createdAt,
+            communityPuzzle.isVerified
+    );
+
     private final JPAQueryFactory queryFactory;
-    QCommunityPuzzle p2 = new QCommunityPuzzle("p2");
+    QUserCommunityPuzzle ucp2 = new QUserCommunityPuzzle("ucp2");
 
     @Override
-    public List<CommunityPuzzle> searchCommunityPuzzles(GetCommunityPuzzleRequest request, Long userId) {
+    public List<CommunityPuzzleSummary> searchCommunityPuzzles(GetCommunityPuzzleRequest request, CommunityPuzzleCursor after,
+                                                               CommunityPuzzleSearchMatch match, Long userId) {
         return queryFactory
-                .selectFrom(communityPuzzle)
+                .select(SUMMARY)
+                .from(communityPuzzle)
                 .join(communityPuzzle.user, userEntity)
                 .where(
-                        idCursorCondition(request.id(), request.sort()),
+                        cursorCondition(after),
                         stoneEq(request.stone()),
                         authEq(request.auth()),
                         depthBetween(request.depthMin(), request.depthMax()),
                         solvedCondition(request.solved(), userId),
-                        queryCondition(request.query())
+                        queryCondition(match)
                 )
                 .orderBy(orderSpecifier(request.sort()))
                 .limit(size(request.size()))
                 .fetch();
     }
 
-    private BooleanExpression idCursorCondition(Long id, String sort) {
-        SortOption sortOption;
-        if (sort != null) {
-            sortOption = SortOption.valueOf(sort);
-        } else {
-            sortOption = SortOption.LATEST;
-        }
-
-        if (id == null) return null;
+    // Plain range seek on the (sort key, id) index
+    private BooleanExpression cursorCondition(CommunityPuzzleCursor after) {
+        if (after == null) return null;
 
-        return switch (sortOption) {
-            case LATEST -> communityPuzzle.createdAt.lt(
-                    JPAExpressions.select(p2.createdAt)
-                            .from(p2)
-                            .where(p2.id.eq(id))
-            ).or(
-                    communityPuzzle.createdAt.eq(
-                            JPAExpressions.select(p2.createdAt)
-                                    .from(p2)
-                                    .where(p2.id.eq(id))
-                    ).and(communityPuzzle.id.gt(id))
-            );
-            case LIKE -> communityPuzzle.likeCount.lt(
-                    JPAExpressions.select(p2.likeCount)
-                            .from(p2)
-                            .where(p2.id.eq(id))
-            ).or(
-                    communityPuzzle.likeCount.eq(
-                            JPAExpressions.select(p2.likeCount)
-                                    .from(p2)
-                                    .where(p2.id.eq(id))
-                    ).and(communityPuzzle.id.gt(id))
-            );
+        return switch (after.sort()) {
+            case LATEST -> communityPuzzle.createdAt.lt(after.createdAt())
+                    .or(communityPuzzle.createdAt.eq(after.createdAt()).and(communityPuzzle.id.lt(after.id())));
+            case LIKE -> communityPuzzle.likeCount.lt(after.likeCount())
+                    .or(communityPuzzle.likeCount.eq(after.likeCount()).and(communityPuzzle.id.lt(after.id())));
         };
     }
 
@@ -111,12 +112,22 @@ public class CommunityPuzzleQueryRepositoryImpl implements CommunityPuzzleQueryR
                 : subQuery.notExists();
     }
 
-    private BooleanExpression queryCondition(String query) {
-        if (query == null || query.isBlank()) return null;
-
-        BooleanExpression byId = communityPuzzle.id.stringValue().eq(query);
-        BooleanExpression byAuthor = communityPuzzle.user.nickname.containsIgnoreCase(query);
-        return byId.or(byAuthor);
+    // Primary key lookup and/or a seek by author id; the nickname check only runs on those authors' rows,
+    // or on every row when the query matched too many authors to list
+    private BooleanExpression queryCondition(CommunityPuzzleSearchMatch match) {
+        if (match == null) return null;
+
+        BooleanExpression byId = match.puzzleId() != null ? communityPuzzle.id.eq(match.puzzleId()) : null;
+        BooleanExpression byAuthor;
+        if (match.authorIds() == null) {
+            byAuthor = userEntity.nickname.containsIgnoreCase(match.query());
+        } else if (match.authorIds().isEmpty()) {
+            byAuthor = null;
+        } else {
+            byAuthor = communityPuzzle.user.id.in(match.authorIds()).and(userEntity.nickname.containsIgnoreCase(match.query()));
+        }
+        if (byId == null) return byAuthor;
+        return byAuthor != null ? byId.or(byAuthor) : byId;
     }
 
     private OrderSpecifier<?>[] orderSpecifier(String sort) {
@@ -130,11 +141,11 @@ public class CommunityPuzzleQueryRepositoryImpl implements CommunityPuzzleQueryR
         return switch (sortOption) {
             case LATEST -> new OrderSpecifier<?>[]{
                     communityPuzzle.createdAt.desc(),
-                    communityPuzzle.id.asc()
+                    communityPuzzle.id.desc()
             };
             case LIKE -> new OrderSpecifier<?>[]{
                     communityPuzzle.likeCount.desc(),
-                    communityPuzzle.id.asc()
+                    communityPuzzle.id.desc()
             };
         };
     }
@@ -144,7 +155,7 @@ public class CommunityPuzzleQueryRepositoryImpl implements CommunityPuzzleQueryR
     }
 
     @Override
-    public List<CommunityPuzzle> searchCommunityPuzzlesForCache(
+    public List<CommunityPuzzleSummary> searchCommunityPuzzlesForCache(
             String authorNicknameExact,
             String stone,
             Integer depthMin,
@@ -153,7 +164,8 @@ public class CommunityPuzzleQueryRepositoryImpl implements CommunityPuzzleQueryR
             int size
     ) {
         return queryFactory
-                .selectFrom(communityPuzzle)
+                .select(SUMMARY)
+                .from(communityPuzzle)
                 .join(communityPuzzle.user, userEntity)
                 .where(
                         nicknameExactEq(authorNicknameExact),
@@ -180,4 +192,61 @@ public class CommunityPuzzleQueryRepositoryImpl implements CommunityPuzzleQueryR
         return communityPuzzle.id.lt(cursorId);
     }
 
+    @Override
+    public List<CommunityPuzzleSummary> getUserLikedPuzzles(Long userId, Long cursorId, int size) {
+        return queryFactory
+                .select(SUMMARY)
+                .from(userCommunityPuzzle)
+                .join(userCommunityPuzzle.puzzle, communityPuzzle)
+                .join(communityPuzzle.user, userEntity)
+                .where(
+                        userCommunityPuzzle.user.id.eq(userId),
+                        userCommunityPuzzle.isLiked.isTrue(),
+                        userCommunityPuzzle.likedAt.isNotNull(),
+                        communityPuzzle.status.name.ne(Status.StatusName.DELETED.name()),
+                        likedAtCursor(userId, cursorId)
+                )
+                .orderBy(userCommunityPuzzle.likedAt.desc(), communityPuzzle.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<CommunityPuzzleSummary> getUserPuzzles(Long userId, Instant cursorCreatedAt, Long cursorId, int size) {
+        return queryFactory
+                .select(SUMMARY)
+                .from(communityPuzzle)
+                .join(communityPuzzle.user, userEntity)
+                .where(
+                        userEntity.id.eq(userId),
+                        createdAtCursor(cursorCreatedAt, cursorId)
+                )
+                .orderBy(communityPuzzle.createdAt.desc(), communityPuzzle.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // (likedAt, id) < (likedAt, id) of the cursor puzzle
+    private BooleanExpression likedAtCursor(Long userId, Long cursorId) {
+        if (cursorId == null) {
+            return null;
+        }
+        JPQLQuery<Instant> cursorLikedAt = JPAExpressions
+                .select(ucp2.likedAt)
+                .from(ucp2)
+                .where(ucp2.user.id.eq(userId), ucp2.puzzle.id.eq(cursorId));
+
+        return userCommunityPuzzle.likedAt.lt(cursorLikedAt)
+                .or(userCommunityPuzzle.likedAt.eq(cursorLikedAt).and(communityPuzzle.id.lt(cursorId)));
+    }
+
+    // (createdAt, id) < (createdAt, id) of the cursor puzzle
+    private BooleanExpression createdAtCursor(Instant cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return communityPuzzle.createdAt.lt(cursorCreatedAt)
+                .or(communityPuzzle.createdAt.eq(cursorCreatedAt).and(communityPuzzle.id.lt(cursorId)));
+    }
+
 }
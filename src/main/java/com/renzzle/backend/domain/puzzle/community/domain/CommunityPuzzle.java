@@ -25,8 +25,8 @@ import static com.renzzle.backend.global.common.domain.Status.STATUS_IS_NOT_DELE
                 @UniqueConstraint(columnNames = {"board_key", "status", "deleted_at"})
         },
         indexes = {
-                @Index(columnList = "created_at"),
-                @Index(columnList = "like_count")
+                @Index(columnList = "created_at, id"),
+                @Index(columnList = "like_count, id")
         }
 )
 @SQLRestriction(value = STATUS_IS_NOT_DELETED)
@@ -66,8 +66,9 @@ public class CommunityPuzzle {
     @Column(name = "dislike_count")
     private int dislikeCount = 0;
 
+    // Written only by CommunityPuzzleViewCounter's relative updates, never by entity updates
     @Builder.Default
-    @Column(name = "view")
+    @Column(name = "view", updatable = false)
     private int view = 0;
 
     @Column(name = "description", length = 127)
@@ -107,10 +108,6 @@ public class CommunityPuzzle {
         }
     }
 
-    public void increaseViews() {
-        this.view++;
-    }
-
     public void increaseSolvedCount() {
         this.solvedCount++;
     }
@@ -0,0 +1,26 @@
+package com.renzzle.backend.domain.puzzle.community.domain;
+
+/**
+ * Views of one community puzzle still in the Redis buffer, each part tagged with the flush that writes it.
+ * - flushing: views of the flush in progress (flushingId), 0 when no flush is in progress
+ * - pending: views counted since, written by the next flush (pendingFlushId)
+ */
+public record CommunityPuzzleBufferedViews(
+        long pending,
+        long pendingFlushId,
+        long flushing,
+        long flushingId
+) {
+
+    // Views the stored count lacks, given the last flush applied to it
+    public long notAppliedAfter(long lastFlushId) {
+        long views = 0;
+        if (flushingId > lastFlushId) {
+            views += flushing;
+        }
+        if (pendingFlushId > lastFlushId) {
+            views += pending;
+        }
+        return views;
+    }
+}
@@ -0,0 +1,28 @@
+package com.renzzle.backend.domain.puzzle.community.domain;
+
+/**
+ * What one user has done with one community puzzle (user_community_puzzle flags).
+ */
+public record CommunityPuzzleUserState(
+        boolean solved,
+        boolean liked,
+        boolean disliked
+) {
+    public static final CommunityPuzzleUserState NONE = new CommunityPuzzleUserState(false, false, false);
+
+    private static final int SOLVED_BIT = 1;
+    private static final int LIKED_BIT = 1 << 1;
+    private static final int DISLIKED_BIT = 1 << 2;
+
+    public int toBits() {
+        return (solved ? SOLVED_BIT : 0) | (liked ? LIKED_BIT : 0) | (disliked ? DISLIKED_BIT : 0);
+    }
+
+    public static CommunityPuzzleUserState fromBits(int bits) {
+        return new CommunityPuzzleUserState(
+                (bits & SOLVED_BIT) != 0,
+                (bits & LIKED_BIT) != 0,
+                (bits & DISLIKED_BIT) != 0
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.renzzle.backend.domain.puzzle.community.domain;
+
+import java.util.Map;
+
+// One batch of buffered views (puzzle id -> views), written to the database under its flush id
+public record CommunityPuzzleViewFlush(
+        long id,
+        Map<Long, Long> views
+) {
+}
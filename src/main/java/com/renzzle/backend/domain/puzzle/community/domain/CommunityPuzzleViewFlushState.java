@@ -0,0 +1,23 @@
+package com.renzzle.backend.domain.puzzle.community.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row record of the last buffered view flush added to community_puzzle.view.
+ * Updated in the same transaction as the view counts, so readers and retried flushes can tell whether a flush is in them.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "community_puzzle_view_flush_state")
+public class CommunityPuzzleViewFlushState {
+
+    @Id
+    private Long id;
+
+    @Column(name = "last_flush_id", nullable = false)
+    private Long lastFlushId;
+}
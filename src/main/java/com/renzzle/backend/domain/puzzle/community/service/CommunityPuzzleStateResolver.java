@@ -0,0 +1,86 @@
+package com.renzzle.backend.domain.puzzle.community.service;
+
+import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleStateCacheRepository;
+import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.UserPuzzleStateProjection;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleUserState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+import static com.renzzle.backend.global.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Solved / liked / disliked flags of a user for a page of community puzzles.
+ * - Default: one IN query against user_community_puzzle per page
+ * - With community.state-cache.enabled: a short-lived per-user Redis hash in front of that query,
+ *   dropped after commit whenever the user solves, likes or dislikes a puzzle
+ */
+@Component
+public class CommunityPuzzleStateResolver {
+
+    private static final Duration CACHE_TTL = Duration.ofMinutes(1);
+
+    private final UserCommunityPuzzleRepository userCommunityPuzzleRepository;
+    private final CommunityPuzzleStateCacheRepository communityPuzzleStateCacheRepository;
+    private final boolean cacheEnabled;
+
+    public CommunityPuzzleStateResolver(UserCommunityPuzzleRepository userCommunityPuzzleRepository,
+                                        CommunityPuzzleStateCacheRepository communityPuzzleStateCacheRepository,
+                                        @Value("${community.state-cache.enabled:false}") boolean cacheEnabled) {
+        this.userCommunityPuzzleRepository = userCommunityPuzzleRepository;
+        this.communityPuzzleStateCacheRepository = communityPuzzleStateCacheRepository;
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    // Every requested id is in the result; puzzles the user never touched map to NONE
+    public Map<Long, CommunityPuzzleUserState> resolve(Long userId, Collection<Long> puzzleIds) {
+        if (puzzleIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(puzzleIds));
+        if (!cacheEnabled) {
+            return load(userId, ids);
+        }
+
+        Map<Long, CommunityPuzzleUserState> states = new HashMap<>(communityPuzzleStateCacheRepository.findAll(userId, ids));
+        List<Long> missing = ids.stream()
+                .filter(id -> !states.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            Map<Long, CommunityPuzzleUserState> loaded = load(userId, missing);
+            communityPuzzleStateCacheRepository.saveAll(userId, loaded, CACHE_TTL);
+            states.putAll(loaded);
+        }
+        return states;
+    }
+
+    public CommunityPuzzleUserState resolve(Long userId, Long puzzleId) {
+        return resolve(userId, List.of(puzzleId)).get(puzzleId);
+    }
+
+    // Called by every write to the user's solved / liked / disliked flags
+    public void evict(Long userId) {
+        if (!cacheEnabled) {
+            return;
+        }
+        runAfterCommit(() -> communityPuzzleStateCacheRepository.delete(userId));
+    }
+
+    private Map<Long, CommunityPuzzleUserState> load(Long userId, List<Long> puzzleIds) {
+        Map<Long, CommunityPuzzleUserState> states = new HashMap<>();
+        for (Long puzzleId : puzzleIds) {
+            states.put(puzzleId, CommunityPuzzleUserState.NONE);
+        }
+        for (UserPuzzleStateProjection row : userCommunityPuzzleRepository.findStates(userId, puzzleIds)) {
+            states.put(row.getPuzzleId(), new CommunityPuzzleUserState(
+                    Boolean.TRUE.equals(row.getIsSolved()),
+                    Boolean.TRUE.equals(row.getIsLiked()),
+                    Boolean.TRUE.equals(row.getIsDisliked())
+            ));
+        }
+        return states;
+    }
+}
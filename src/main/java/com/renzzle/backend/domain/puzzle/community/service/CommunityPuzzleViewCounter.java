@@ -0,0 +1,90 @@
+package com.renzzle.backend.domain.puzzle.community.service;
+
+import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleBatchRepository;
+import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleViewBufferRepository;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleBufferedViews;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleViewFlush;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Counts community puzzle views without touching the puzzle row on every view.
+ * - Views are buffered in a Redis hash and written every few seconds as batched relative UPDATEs
+ * - Each flush has an id that is stored with the view counts, so a retried flush is never added twice
+ * - Reads add only the buffered views whose flush is not yet in the stored count
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommunityPuzzleViewCounter {
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    private final CommunityPuzzleViewBufferRepository communityPuzzleViewBufferRepository;
+    private final CommunityPuzzleBatchRepository communityPuzzleBatchRepository;
+
+    public void record(Long puzzleId) {
+        communityPuzzleViewBufferRepository.increment(puzzleId);
+    }
+
+    // Must run before the stored count is read, in the same transaction as withBuffered
+    public CommunityPuzzleBufferedViews findBuffered(Long puzzleId) {
+        return communityPuzzleViewBufferRepository.findBuffered(puzzleId);
+    }
+
+    public int withBuffered(int storedViews, CommunityPuzzleBufferedViews buffered) {
+        long lastFlushId = communityPuzzleBatchRepository.findLastViewFlushId();
+        return (int) (storedViews + buffered.notAppliedAfter(lastFlushId));
+    }
+
+    /**
+     * Views of a page of puzzles not yet in their stored counts, by puzzle id; puzzles without any are left out.
+     * Read after the page, so call it in the page's transaction: the last applied flush id then matches the stored counts.
+     */
+    public Map<Long, Long> findUnflushedViews(List<Long> puzzleIds) {
+        if (puzzleIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, CommunityPuzzleBufferedViews> buffered = communityPuzzleViewBufferRepository.findBuffered(puzzleIds);
+        long lastFlushId = communityPuzzleBatchRepository.findLastViewFlushId();
+
+        Map<Long, Long> result = new HashMap<>();
+        buffered.forEach((puzzleId, views) -> {
+            long notApplied = views.notAppliedAfter(lastFlushId);
+            if (notApplied > 0) {
+                result.put(puzzleId, notApplied);
+            }
+        });
+        return result;
+    }
+
+    @Scheduled(fixedDelay = 1000 * 10) // Runs 10 seconds after the previous flush
+    public void flush() {
+        String token = UUID.randomUUID().toString();
+        if (!communityPuzzleViewBufferRepository.tryLock(token, LOCK_TTL)) {
+            return;
+        }
+        try {
+            communityPuzzleViewBufferRepository.advanceFlushSequence(communityPuzzleBatchRepository.findLastViewFlushId());
+            Optional<CommunityPuzzleViewFlush> flush = communityPuzzleViewBufferRepository.beginFlush();
+            if (flush.isEmpty()) {
+                return;
+            }
+            boolean applied = communityPuzzleBatchRepository.addViews(flush.get().id(), flush.get().views());
+            communityPuzzleViewBufferRepository.endFlush();
+            log.debug("Community puzzle views flushed: id={}, puzzles={}, applied={}",
+                    flush.get().id(), flush.get().views().size(), applied);
+        } finally {
+            communityPuzzleViewBufferRepository.unlock(token);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.renzzle.backend.domain.puzzle.community.service;
 
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
 import com.renzzle.backend.domain.puzzle.community.api.request.AddCommunityPuzzleRequest;
 import com.renzzle.backend.domain.puzzle.community.api.request.GetCommunityPuzzleRequest;
 import com.renzzle.backend.domain.puzzle.community.api.response.AddCommunityPuzzleResponse;
@@ -11,11 +12,16 @@ import com.renzzle.backend.domain.puzzle.community.api.response.GetSingleCommuni
 import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.training.api.response.GetTrainingPuzzleForAdminResponse;
 import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.community.dao.projection.LikeDislikeProjection;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.CommunityPuzzleSummary;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleCursor;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleSearchMatch;
 import com.renzzle.backend.domain.puzzle.community.domain.*;
+import com.renzzle.backend.domain.puzzle.rank.service.RankPuzzlePool;
 import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
 import com.renzzle.backend.domain.user.dao.UserRepository;
 import com.renzzle.backend.domain.user.domain.UserEntity;
+import com.renzzle.backend.domain.user.service.NicknameSearchIndex;
+import com.renzzle.backend.global.common.constant.SortOption;
 import com.renzzle.backend.domain.puzzle.shared.util.BoardUtils;
 import com.renzzle.backend.global.exception.CustomException;
 import com.renzzle.backend.global.exception.ErrorCode;
@@ -26,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.renzzle.backend.global.common.constant.DoubleConstant.DEFAULT_PUZZLE_RATING;
@@ -39,6 +46,10 @@ public class CommunityService {
     private final CommunityPuzzleRepository communityPuzzleRepository;
     private final UserCommunityPuzzleRepository userCommunityPuzzleRepository;
     private final UserRepository userRepository;
+    private final RankPuzzlePool rankPuzzlePool;
+    private final CommunityPuzzleStateResolver communityPuzzleStateResolver;
+    private final NicknameSearchIndex nicknameSearchIndex;
+    private final CommunityPuzzleViewCounter communityPuzzleViewCounter;
 
     @Transactional
     public AddCommunityPuzzleResponse addCommunityPuzzle(AddCommunityPuzzleRequest request, UserEntity user) {
@@ -57,6 +68,9 @@ public class CommunityService {
                 .build();
 
         CommunityPuzzle result = communityPuzzleRepository.save(puzzle);
+        if (Boolean.TRUE.equals(result.getIsVerified())) {
+            rankPuzzlePool.put(PuzzleType.COMMUNITY, result.getId(), result.getRating());
+        }
 
         return AddCommunityPuzzleResponse.builder()
                 .puzzleId(result.getId())
@@ -65,27 +79,39 @@ public class CommunityService {
 
     @Transactional(readOnly = true)
     public List<GetCommunityPuzzlesResponse> getCommunityPuzzleList(GetCommunityPuzzleRequest request, UserEntity user) {
-        List<CommunityPuzzle> puzzleList = communityPuzzleRepository.searchCommunityPuzzles(request, user.getId());
+        SortOption sort = request.sort() != null ? SortOption.valueOf(request.sort()) : SortOption.LATEST;
+        CommunityPuzzleCursor after = resolveCursor(request, sort);
+        CommunityPuzzleSearchMatch match = resolveSearchMatch(request.query());
+        if (match != null && match.isEmpty()) {
+            return List.of();
+        }
+
+        List<CommunityPuzzleSummary> puzzleList =
+                communityPuzzleRepository.searchCommunityPuzzles(request, after, match, user.getId());
+        List<Long> puzzleIds = puzzleList.stream().map(CommunityPuzzleSummary::id).toList();
+        Map<Long, CommunityPuzzleUserState> states = communityPuzzleStateResolver.resolve(user.getId(), puzzleIds);
+        Map<Long, Long> unflushedViews = communityPuzzleViewCounter.findUnflushedViews(puzzleIds);
 
         List<GetCommunityPuzzlesResponse> response = new ArrayList<>();
-        for (CommunityPuzzle puzzle : puzzleList) {
-            boolean isSolved = userCommunityPuzzleRepository.checkIsSolvedPuzzle(user.getId(), puzzle.getId());
+        for (CommunityPuzzleSummary puzzle : puzzleList) {
+            boolean isSolved = states.get(puzzle.id()).solved();
 
             response.add(
                     GetCommunityPuzzlesResponse.builder()
-                            .id(puzzle.getId())
-                            .boardStatus(puzzle.getBoardStatus())
-                            .authorId(puzzle.getUser().getId())
-                            .authorName(puzzle.getUser().getNickname())
-                            .description(puzzle.getDescription())
-                            .depth(puzzle.getDepth())
-                            .winColor(puzzle.getWinColor().getName())
-                            .solvedCount(puzzle.getSolvedCount())
-                            .views(puzzle.getView())
-                            .likeCount(puzzle.getLikeCount())
-                            .createdAt(puzzle.getCreatedAt().toString())
+                            .id(puzzle.id())
+                            .boardStatus(puzzle.boardStatus())
+                            .authorId(puzzle.authorId())
+                            .authorName(puzzle.authorName())
+                            .description(puzzle.description())
+                            .depth(puzzle.depth())
+                            .winColor(puzzle.winColor())
+                            .solvedCount(puzzle.solvedCount())
+                            .views((int) (puzzle.view() + unflushedViews.getOrDefault(puzzle.id(), 0L)))
+                            .likeCount(puzzle.likeCount())
+                            .createdAt(puzzle.createdAt().toString())
                             .isSolved(isSolved)
-                            .isVerified(puzzle.getIsVerified())
+                            .isVerified(puzzle.isVerified())
+                            .cursor(CommunityPuzzleCursor.of(sort, puzzle).encode())
                             .build()
             );
         }
@@ -93,6 +119,48 @@ public class CommunityService {
         return response;
     }
 
+    // A numeric query may be a puzzle id; any query may be part of an author nickname
+    private CommunityPuzzleSearchMatch resolveSearchMatch(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        String trimmed = query.strip();
+        return new CommunityPuzzleSearchMatch(trimmed, parsePuzzleId(trimmed),
+                nicknameSearchIndex.findUserIds(trimmed).orElse(null));
+    }
+
+    // The query read as a puzzle id: ASCII digits only, and small enough for a long
+    private static Long parsePuzzleId(String query) {
+        if (!query.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            return null;
+        }
+        try {
+            return Long.valueOf(query);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Legacy clients still send the id of the last puzzle; its current sort key stands in for a cursor
+    private CommunityPuzzleCursor resolveCursor(GetCommunityPuzzleRequest request, SortOption sort) {
+        if (request.cursor() != null && !request.cursor().isBlank()) {
+            CommunityPuzzleCursor cursor = CommunityPuzzleCursor.decode(request.cursor());
+            if (cursor.sort() != sort) {
+                throw new CustomException(ErrorCode.INVALID_COMMUNITY_CURSOR);
+            }
+            return cursor;
+        }
+        if (request.id() == null) {
+            return null;
+        }
+
+        CommunityPuzzle last = communityPuzzleRepository.findByIdIncludingDeleted(request.id());
+        if (last == null) {
+            throw new CustomException(ErrorCode.INVALID_COMMUNITY_CURSOR);
+        }
+        return new CommunityPuzzleCursor(sort, last.getCreatedAt(), last.getLikeCount(), last.getId());
+    }
+
     /**
      * For admin cache entry: full board and answer. Does not increment the view count.
      */
@@ -126,7 +194,7 @@ public class CommunityService {
                 nickname = null;
             }
         }
-        List<CommunityPuzzle> puzzleList = communityPuzzleRepository.searchCommunityPuzzlesForCache(
+        List<CommunityPuzzleSummary> puzzleList = communityPuzzleRepository.searchCommunityPuzzlesForCache(
                 nickname,
                 request.stone(),
                 depthMin,
@@ -135,34 +203,31 @@ public class CommunityService {
                 size
         );
         List<CommunityPuzzleCachePickerResponse> response = new ArrayList<>();
-        for (CommunityPuzzle puzzle : puzzleList) {
+        for (CommunityPuzzleSummary puzzle : puzzleList) {
             response.add(
                     CommunityPuzzleCachePickerResponse.builder()
-                            .id(puzzle.getId())
-                            .boardStatus(puzzle.getBoardStatus())
-                            .depth(puzzle.getDepth())
-                            .winColor(puzzle.getWinColor().getName())
-                            .description(puzzle.getDescription())
-                            .authorNickname(puzzle.getUser().getNickname())
+                            .id(puzzle.id())
+                            .boardStatus(puzzle.boardStatus())
+                            .depth(puzzle.depth())
+                            .winColor(puzzle.winColor())
+                            .description(puzzle.description())
+                            .authorNickname(puzzle.authorName())
                             .build()
             );
         }
         return response;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public GetSingleCommunityPuzzleResponse getCommunityPuzzleById(Long puzzleId, UserEntity user) {
+        // Read ahead of the puzzle row, so the stored count is at least as new as the buffer
+        CommunityPuzzleBufferedViews bufferedViews = communityPuzzleViewCounter.findBuffered(puzzleId);
         CommunityPuzzle puzzle = communityPuzzleRepository.findById(puzzleId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_COMMUNITY_PUZZLE));
 
-        boolean isSolved = userCommunityPuzzleRepository.checkIsSolvedPuzzle(user.getId(), puzzle.getId());
-
-        Optional<LikeDislikeProjection> result = userCommunityPuzzleRepository
-                .getMyLikeDislike(user.getId(), puzzleId);
-        Boolean myLike = result.map(LikeDislikeProjection::getIsLiked).orElse(false);
-        Boolean myDislike = result.map(LikeDislikeProjection::getIsDisliked).orElse(false);
+        CommunityPuzzleUserState state = communityPuzzleStateResolver.resolve(user.getId(), puzzle.getId());
 
-        puzzle.increaseViews();
+        communityPuzzleViewCounter.record(puzzle.getId());
 
         return GetSingleCommunityPuzzleResponse.builder()
                 .id(puzzle.getId())
@@ -173,13 +238,13 @@ public class CommunityService {
                 .depth(puzzle.getDepth())
                 .winColor(puzzle.getWinColor().getName())
                 .solvedCount(puzzle.getSolvedCount())
-                .views(puzzle.getView())
+                .views(communityPuzzleViewCounter.withBuffered(puzzle.getView(), bufferedViews))
                 .likeCount(puzzle.getLikeCount())
                 .createdAt(puzzle.getCreatedAt().toString())
-                .isSolved(isSolved)
+                .isSolved(state.solved())
                 .isVerified(puzzle.getIsVerified())
-                .myLike(myLike)
-                .myDislike(myDislike)
+                .myLike(state.liked())
+                .myDislike(state.disliked())
                 .build();
     }
 
@@ -211,6 +276,7 @@ public class CommunityService {
                 .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_COMMUNITY_PUZZLE));
 
         puzzle.increaseSolvedCount();
+        communityPuzzleStateResolver.evict(user.getId());
 
         int updatedRows = userCommunityPuzzleRepository.solvePuzzle(user.getId(), puzzleId, clock.instant());
         if (updatedRows == 1) {
@@ -232,6 +298,7 @@ public class CommunityService {
         CommunityPuzzle puzzle = communityPuzzleRepository.findById(puzzleId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_COMMUNITY_PUZZLE));
 
+        communityPuzzleStateResolver.evict(user.getId());
         Optional<UserCommunityPuzzle> ucp = userCommunityPuzzleRepository.findByUserIdAndPuzzleId(user.getId(), puzzleId);
         if (ucp.isPresent()) {
             if (ucp.get().isLiked()) puzzle.decreaseLikedCount();
@@ -260,6 +327,7 @@ public class CommunityService {
         CommunityPuzzle puzzle = communityPuzzleRepository.findById(puzzleId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_COMMUNITY_PUZZLE));
 
+        communityPuzzleStateResolver.evict(user.getId());
         Optional<UserCommunityPuzzle> ucp = userCommunityPuzzleRepository.findByUserIdAndPuzzleId(user.getId(), puzzleId);
         if (ucp.isPresent()) {
             if (ucp.get().isDisliked()) puzzle.decreaseDislikedCount();
@@ -0,0 +1,56 @@
+package com.renzzle.backend.domain.puzzle.community.service.dto;
+
+import com.renzzle.backend.domain.puzzle.community.dao.projection.CommunityPuzzleSummary;
+import com.renzzle.backend.global.common.constant.SortOption;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the community feed: the full sort key of the last row of a page.
+ * - LATEST: (createdAt, id), LIKE: (likeCount, id); the like count is a snapshot taken when the row was served
+ * - Sent to clients as an opaque URL-safe token of "{sort}_{key}_{id}"
+ */
+public record CommunityPuzzleCursor(SortOption sort, Instant createdAt, Integer likeCount, long id) {
+
+    private static final String SEPARATOR = "_";
+
+    public static CommunityPuzzleCursor of(SortOption sort, CommunityPuzzleSummary puzzle) {
+        return switch (sort) {
+            case LATEST -> new CommunityPuzzleCursor(sort, puzzle.createdAt(), null, puzzle.id());
+            case LIKE -> new CommunityPuzzleCursor(sort, null, puzzle.likeCount(), puzzle.id());
+        };
+    }
+
+    public static CommunityPuzzleCursor decode(String cursor) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_COMMUNITY_CURSOR);
+        }
+        if (parts.length != 3) {
+            throw new CustomException(ErrorCode.INVALID_COMMUNITY_CURSOR);
+        }
+        try {
+            SortOption sort = SortOption.valueOf(parts[0]);
+            long id = Long.parseLong(parts[2]);
+            return switch (sort) {
+                case LATEST -> new CommunityPuzzleCursor(sort, Instant.parse(parts[1]), null, id);
+                case LIKE -> new CommunityPuzzleCursor(sort, null, Integer.parseInt(parts[1]), id);
+            };
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_COMMUNITY_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String key = sort == SortOption.LATEST ? createdAt.toString() : String.valueOf(likeCount);
+        String raw = sort.name() + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
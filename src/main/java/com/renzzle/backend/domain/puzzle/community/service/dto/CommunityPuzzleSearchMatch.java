@@ -0,0 +1,16 @@
+package com.renzzle.backend.domain.puzzle.community.service.dto;
+
+import java.util.List;
+
+/**
+ * What a community search box query can match, resolved before the puzzle query runs.
+ * - puzzleId: the query read as a puzzle id, when it is numeric
+ * - authorIds: users whose nickname may contain the query, to be confirmed against the nickname itself;
+ *   null when too many users match for the nickname index, in which case every row's nickname is checked
+ */
+public record CommunityPuzzleSearchMatch(String query, Long puzzleId, List<Long> authorIds) {
+
+    public boolean isEmpty() {
+        return puzzleId == null && authorIds != null && authorIds.isEmpty();
+    }
+}
@@ -2,19 +2,20 @@ package com.renzzle.backend.domain.puzzle.content.service;
 
 import com.renzzle.backend.domain.puzzle.community.api.response.GetCommunityPuzzlesResponse;
 import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleUserState;
+import com.renzzle.backend.domain.puzzle.community.service.CommunityPuzzleStateResolver;
+import com.renzzle.backend.domain.puzzle.community.service.CommunityPuzzleViewCounter;
 import com.renzzle.backend.domain.puzzle.content.api.request.GetRecommendRequest;
 import com.renzzle.backend.domain.puzzle.content.api.response.GetTrendPuzzlesResponse;
 import com.renzzle.backend.domain.puzzle.content.api.response.GetRecommendPackResponse;
-import com.renzzle.backend.domain.puzzle.training.dao.PackRepository;
-import com.renzzle.backend.domain.puzzle.training.dao.PackTranslationRepository;
 import com.renzzle.backend.domain.puzzle.training.dao.SolvedTrainingPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.training.dao.UserPackRepository;
 import com.renzzle.backend.domain.puzzle.training.domain.Pack;
-import com.renzzle.backend.domain.puzzle.training.domain.PackTranslation;
 import com.renzzle.backend.domain.puzzle.training.domain.SolvedTrainingPuzzle;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingCatalog;
 import com.renzzle.backend.domain.puzzle.training.domain.UserPack;
+import com.renzzle.backend.domain.puzzle.training.service.TrainingCatalogCache;
 import com.renzzle.backend.domain.user.domain.UserEntity;
 import com.renzzle.backend.global.common.domain.LangCode;
 import com.renzzle.backend.global.exception.CustomException;
@@ -34,10 +35,10 @@ import java.util.*;
 public class ContentService {
     private final SolvedTrainingPuzzleRepository solvedTrainingPuzzleRepository;
     private final CommunityPuzzleRepository communityPuzzleRepository;
-    private final PackTranslationRepository packTranslationRepository;
     private final UserPackRepository userPackRepository;
-    private final PackRepository packRepository;
-    private final UserCommunityPuzzleRepository userCommunityPuzzleRepository;
+    private final TrainingCatalogCache trainingCatalogCache;
+    private final CommunityPuzzleStateResolver communityPuzzleStateResolver;
+    private final CommunityPuzzleViewCounter communityPuzzleViewCounter;
     private final Clock clock;
     public GetRecommendPackResponse getRecommendedPack(GetRecommendRequest request, UserEntity user) {
 
@@ -60,15 +61,10 @@ public class ContentService {
             throw new CustomException(ErrorCode.NO_SUCH_TRAINING_PACK);
         }
 
-        // Query translation information
-        LangCode requestedLang = LangCode.getLangCode(request.langCode());
-        LangCode defaultLang = LangCode.getLangCode(LangCode.LangCodeName.EN);
-
-        PackTranslation translation = packTranslationRepository.findByPackAndLangCode(pack, requestedLang)
-                .orElseGet(() ->
-                        packTranslationRepository.findByPackAndLangCode(pack, defaultLang)
-                                .orElseThrow(() -> new CustomException(ErrorCode.NO_SUCH_PACK_TRANSLATION))
-                );
+        // Pack and translation information from the in-memory catalog
+        TrainingCatalog.CatalogPack catalogPack = trainingCatalogCache.get().findPack(pack.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.NO_SUCH_TRAINING_PACK));
+        TrainingCatalog.CatalogTranslation translation = findTranslation(catalogPack, request);
 
         // Query the user's pack progress information
         UserPack userPack = userPackRepository
@@ -78,48 +74,47 @@ public class ContentService {
         int solvedCount = (userPack != null) ? userPack.getSolvedCount() : 0;
 
         return GetRecommendPackResponse.builder()
-                .id(pack.getId())
-                .title(translation.getTitle())
-                .author(translation.getAuthor())
-                .description(translation.getDescription())
-                .price(pack.getPrice())
-                .totalPuzzleCount(pack.getPuzzleCount())
+                .id(catalogPack.id())
+                .title(translation.title())
+                .author(translation.author())
+                .description(translation.description())
+                .price(catalogPack.price())
+                .totalPuzzleCount(catalogPack.puzzleCount())
                 .solvedPuzzleCount(solvedCount)
                 .locked(false)
                 .build();
     }
 
     private GetRecommendPackResponse createDefaultRecommendedPack(GetRecommendRequest request) {
-        // Query the Pack with the lowest id
-        Pack pack = packRepository.findFirstByOrderByIdAsc()
+        // The Pack with the lowest id
+        TrainingCatalog.CatalogPack pack = trainingCatalogCache.get().findFirstPack()
                 .orElseThrow(() -> new CustomException(ErrorCode.NO_SUCH_TRAINING_PACK));
 
-        LangCode requestedLang = LangCode.getLangCode(request.langCode());
-        LangCode defaultLang = LangCode.getLangCode(LangCode.LangCodeName.EN);
-
-        // Query translation information
-        PackTranslation translation = packTranslationRepository.findByPackAndLangCode(pack, requestedLang)
-                .orElseGet(() ->
-                        packTranslationRepository.findByPackAndLangCode(pack, defaultLang)
-                                .orElseThrow(() -> new CustomException(ErrorCode.NO_SUCH_PACK_TRANSLATION))
-                );
+        TrainingCatalog.CatalogTranslation translation = findTranslation(pack, request);
 
         // Return the result
         return GetRecommendPackResponse.builder()
-                .id(pack.getId())
-                .title(translation.getTitle())
-                .author(translation.getAuthor())
-                .description(translation.getDescription())
-                .price(pack.getPrice())
-                .totalPuzzleCount(pack.getPuzzleCount())
+                .id(pack.id())
+                .title(translation.title())
+                .author(translation.author())
+                .description(translation.description())
+                .price(pack.price())
+                .totalPuzzleCount(pack.puzzleCount())
                 .solvedPuzzleCount(0) // No problems solved yet
                 .locked(false)        // Not locked because it is a default recommendation
                 .build();
     }
 
+    // Requested language, falling back to English
+    private TrainingCatalog.CatalogTranslation findTranslation(TrainingCatalog.CatalogPack pack, GetRecommendRequest request) {
+        String langCode = LangCode.getLangCode(request.langCode()).getName();
+        return pack.translation(langCode)
+                .orElseThrow(() -> new CustomException(ErrorCode.NO_SUCH_PACK_TRANSLATION));
+    }
+
     public GetTrendPuzzlesResponse getTrendCommunityPuzzles(UserEntity user) {
         Set<Long> selectedIds = new HashSet<>();
-        List<GetCommunityPuzzlesResponse> result = new ArrayList<>();
+        List<CommunityPuzzle> selected = new ArrayList<>();
 
         Instant instant = clock.instant();
 
@@ -134,10 +129,10 @@ public class ContentService {
                 .sorted(trendComparator())
                 .toList();
 
-        selectTrendPuzzles(sortedRecent, result, selectedIds, user);
+        selectTrendPuzzles(sortedRecent, selected, selectedIds);
 
         // If insufficient -> the latest 30 puzzles from before the last week
-        if (result.size() < 5) {
+        if (selected.size() < 5) {
             List<CommunityPuzzle> latest30 = communityPuzzleRepository
                     .findTop30ByCreatedAtBeforeOrderByCreatedAtDesc(oneWeekAgo);
 
@@ -146,34 +141,40 @@ public class ContentService {
                     .sorted(trendComparator())
                     .toList();
 
-            selectTrendPuzzles(sortedBackup, result, selectedIds, user);
+            selectTrendPuzzles(sortedBackup, selected, selectedIds);
         }
 
+        // Solved flags and not yet flushed views of all selected puzzles in one lookup each
+        Map<Long, CommunityPuzzleUserState> states = communityPuzzleStateResolver.resolve(user.getId(), selectedIds);
+        Map<Long, Long> unflushedViews = communityPuzzleViewCounter.findUnflushedViews(
+                selected.stream().map(CommunityPuzzle::getId).toList());
+        List<GetCommunityPuzzlesResponse> result = selected.stream()
+                .map(puzzle -> convertToResponse(puzzle, states.get(puzzle.getId()),
+                        unflushedViews.getOrDefault(puzzle.getId(), 0L)))
+                .toList();
+
         return new GetTrendPuzzlesResponse(result);
     }
 
     private void selectTrendPuzzles(
             List<CommunityPuzzle> puzzles,
-            List<GetCommunityPuzzlesResponse> result,
-            Set<Long> selectedIds,
-            UserEntity user
+            List<CommunityPuzzle> selected,
+            Set<Long> selectedIds
     ) {
         for (CommunityPuzzle p : puzzles) {
-            if (result.size() >= 5) break;
+            if (selected.size() >= 5) break;
 
             boolean added = selectedIds.add(p.getId());
             if (!added) {
                 throw new CustomException(ErrorCode.TREND_PUZZLE_DUPLICATED);
             }
 
-            result.add(convertToResponse(p, user));
+            selected.add(p);
         }
     }
 
-    private GetCommunityPuzzlesResponse convertToResponse(CommunityPuzzle puzzle, UserEntity user) {
-
-        boolean isSolved = userCommunityPuzzleRepository.checkIsSolvedPuzzle(user.getId(), puzzle.getId());
-
+    private GetCommunityPuzzlesResponse convertToResponse(CommunityPuzzle puzzle, CommunityPuzzleUserState state,
+                                                          long unflushedViews) {
         return GetCommunityPuzzlesResponse.builder()
                 .id(puzzle.getId())
                 .boardStatus(puzzle.getBoardStatus())
@@ -182,10 +183,10 @@ public class ContentService {
                 .depth(puzzle.getDepth())
                 .winColor(puzzle.getWinColor().getName())
                 .solvedCount(puzzle.getSolvedCount())
-                .views(puzzle.getView())
+                .views((int) (puzzle.getView() + unflushedViews))
                 .likeCount(puzzle.getLikeCount())
                 .createdAt(puzzle.getCreatedAt().toString())
-                .isSolved(isSolved)
+                .isSolved(state.solved())
                 .isVerified(puzzle.getIsVerified())
                 .build();
     }
@@ -7,7 +7,8 @@ import java.util.Locale;
 public record YearWeek(int year, int week) {
     public static YearWeek from(LocalDate date) {
         WeekFields wf = WeekFields.of(Locale.KOREA);
-        return new YearWeek(date.getYear(), date.get(wf.weekOfWeekBasedYear()));
+        // The week-based year, so the days of week 1 that fall in late December get the right year
+        return new YearWeek(date.get(wf.weekBasedYear()), date.get(wf.weekOfWeekBasedYear()));
     }
 
     public static YearWeek of(int year, int week) {
@@ -2,7 +2,12 @@ package com.renzzle.backend.domain.puzzle.rank.api;
 
 import com.renzzle.backend.domain.puzzle.rank.api.request.RankResultRequest;
 import com.renzzle.backend.domain.puzzle.rank.api.response.*;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingSnapshot;
+import com.renzzle.backend.domain.puzzle.rank.domain.RatingHistoryPoint;
+import com.renzzle.backend.domain.puzzle.rank.service.RankArchiveService;
 import com.renzzle.backend.domain.puzzle.rank.service.RankService;
+import com.renzzle.backend.domain.puzzle.rank.service.RankingSnapshotService;
+import com.renzzle.backend.domain.puzzle.rank.service.RatingHistoryService;
 import com.renzzle.backend.global.common.response.ApiResponse;
 import com.renzzle.backend.global.security.UserDetailsImpl;
 import com.renzzle.backend.global.util.ApiUtils;
@@ -10,9 +15,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -22,6 +32,9 @@ import java.util.List;
 public class RankController {
 
     private final RankService rankService;
+    private final RankArchiveService rankArchiveService;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final RatingHistoryService ratingHistoryService;
 
     @Operation(summary = "Start rank game", description = "Start rank game for 5 minutes")
     @PostMapping("/game/start")
@@ -48,15 +61,92 @@ public class RankController {
         return ApiUtils.success(rankService.getRankArchive(user.getUser()));
     }
 
+    @Operation(summary = "Get rank game archive page", description = "Get user past rank game archive in pages of at most 100, oldest first")
+    @GetMapping("/game/archive/page")
+    public ApiResponse<RankArchivePageResponse> getRankGameArchivePage(
+            @AuthenticationPrincipal UserDetailsImpl user,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ApiUtils.success(rankArchiveService.getArchivePage(user.getUser().getId(), cursor, size));
+    }
+
+    @Operation(summary = "Export rank game archive", description = "Stream the whole user rank game archive as NDJSON, oldest first")
+    @GetMapping(value = "/game/archive/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportRankGameArchive(@AuthenticationPrincipal UserDetailsImpl user) {
+        Long userId = user.getUser().getId();
+        StreamingResponseBody body = out -> rankArchiveService.exportArchive(userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Operation(summary = "get rating ranking", description = "get TOP 100 rating ranking and user ranking")
     @GetMapping("rating")
     public ApiResponse<GetRatingRankingResponse> getRatingRanking(@AuthenticationPrincipal UserDetailsImpl user) {
         return ApiUtils.success(rankService.getRatingRanking(user.getUser()));
     }
 
+    @Operation(summary = "get rating ranking TOP 100", description = "get pre-rendered TOP 100 rating ranking; supports If-None-Match revalidation")
+    @GetMapping("rating/top")
+    public ResponseEntity<byte[]> getRatingTop100() {
+        return snapshotResponse(rankingSnapshotService.getRatingTop100());
+    }
+
+    @Operation(summary = "get my rating rank", description = "get user rating ranking only")
+    @GetMapping("rating/me")
+    public ApiResponse<UserRatingRankInfo> getMyRatingRank(@AuthenticationPrincipal UserDetailsImpl user) {
+        return ApiUtils.success(rankService.getMyRatingRank(user.getUser()));
+    }
+
+    @Operation(summary = "get my rating history", description = "get rating and mmr after each rank result between from and to (UTC dates, last 30 days by default, at most 366 days)")
+    @GetMapping("rating/history")
+    public ApiResponse<List<RatingHistoryPoint>> getRatingHistory(
+            @AuthenticationPrincipal UserDetailsImpl user,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ApiUtils.success(ratingHistoryService.getHistory(user.getUser().getId(), from, to));
+    }
+
+    @Operation(summary = "get rating ranking around me", description = "get the users right above and below the user in rating ranking (at most 50 each side)")
+    @GetMapping("rating/around")
+    public ApiResponse<List<UserRatingRankInfo>> getRatingRankingAround(
+            @AuthenticationPrincipal UserDetailsImpl user,
+            @RequestParam(value = "size", defaultValue = "5") int size) {
+        return ApiUtils.success(rankService.getRatingRankingAround(user.getUser(), size));
+    }
+
+    @Operation(summary = "get weekly rating ranking", description = "get TOP 100 rating gain ranking of a week (current week by default) and user ranking")
+    @GetMapping("rating/weekly")
+    public ApiResponse<GetRatingRankingResponse> getWeeklyRatingRanking(
+            @AuthenticationPrincipal UserDetailsImpl user,
+            @RequestParam(value = "year", required = false) Integer year,
+            @RequestParam(value = "week", required = false) Integer week) {
+        return ApiUtils.success(rankService.getWeeklyRatingRanking(user.getUser(), year, week));
+    }
+
     @Operation(summary = "get community puzzler ranking", description = "get TOP 100 community puzzler ranking and user community puzzler ranking")
     @GetMapping("community")
     public ApiResponse<GetPuzzlerRankingResponse> getPuzzlerRanking(@AuthenticationPrincipal UserDetailsImpl user) {
         return ApiUtils.success(rankService.getPuzzlerRanking(user.getUser()));
     }
+
+    @Operation(summary = "get community puzzler ranking TOP 100", description = "get pre-rendered TOP 100 community puzzler ranking; supports If-None-Match revalidation")
+    @GetMapping("community/top")
+    public ResponseEntity<byte[]> getPuzzlerTop100() {
+        return snapshotResponse(rankingSnapshotService.getPuzzlerTop100());
+    }
+
+    @Operation(summary = "get my community puzzler rank", description = "get user community puzzler ranking only")
+    @GetMapping("community/me")
+    public ApiResponse<UserPuzzlerRankInfo> getMyPuzzlerRank(@AuthenticationPrincipal UserDetailsImpl user) {
+        return ApiUtils.success(rankService.getMyPuzzlerRank(user.getUser()));
+    }
+
+    // Spring answers 304 Not Modified itself when If-None-Match matches the ETag
+    private static ResponseEntity<byte[]> snapshotResponse(RankingSnapshot snapshot) {
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
 }
@@ -4,5 +4,8 @@ import jakarta.validation.constraints.NotNull;
 
 public record RankResultRequest(
         @NotNull(message = "풀이 여부가 존재해야 합니다.")
-        boolean isSolved
+        boolean isSolved,
+
+        @NotNull(message = "세션 버전이 존재해야 합니다.")
+        Long version
 ) { }
@@ -2,7 +2,7 @@ package com.renzzle.backend.domain.puzzle.rank.api.response;
 
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record RankArchive(
         String boardStatus,
         String winColor,
@@ -0,0 +1,12 @@
+package com.renzzle.backend.domain.puzzle.rank.api.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record RankArchivePageResponse(
+        List<RankArchive> archives,
+        String nextCursor // null on the last page
+) {
+}
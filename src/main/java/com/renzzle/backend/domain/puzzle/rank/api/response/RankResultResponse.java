@@ -5,5 +5,6 @@ import lombok.Builder;
 @Builder
 public record RankResultResponse(
         String boardStatus,
-        String winColor
+        String winColor,
+        long version
 ) { }
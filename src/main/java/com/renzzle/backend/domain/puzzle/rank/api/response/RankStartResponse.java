@@ -5,6 +5,7 @@ import lombok.Builder;
 @Builder
 public record RankStartResponse(
         String boardStatus,
-        String winColor
+        String winColor,
+        long version
 ) {
 }
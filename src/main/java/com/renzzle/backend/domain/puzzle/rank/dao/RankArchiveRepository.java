@@ -0,0 +1,67 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RankArchiveEntry;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankArchiveCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static com.renzzle.backend.global.common.domain.Status.STATUS_IS_NOT_DELETED;
+
+/**
+ * Reads a user's rank history joined with its source puzzles, in (assigned_at, id) order.
+ * Rows are read with plain JDBC so no entity is ever materialized for the whole history.
+ * Deleted community puzzles are left out, the same as the entity's @SQLRestriction does for RankService.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankArchiveRepository {
+
+    private static final String SELECT_ARCHIVE =
+            "SELECT lrp.id, lrp.assigned_at, lrp.is_solved, " +
+            "       COALESCE(tp.board_status, cp.board_status) AS board_status, " +
+            "       COALESCE(tp.answer, cp.answer) AS answer, " +
+            "       COALESCE(tp.win_color, cp.win_color) AS win_color " +
+            "FROM latest_rank_puzzle lrp " +
+            "LEFT JOIN training_puzzle tp ON lrp.puzzle_type = 'TRAINING' AND tp.id = lrp.puzzle_id " +
+            "LEFT JOIN community_puzzle cp ON lrp.puzzle_type = 'COMMUNITY' AND cp.id = lrp.puzzle_id " +
+            "       AND cp." + STATUS_IS_NOT_DELETED + " " +
+            "WHERE lrp.user_id = ? " +
+            "AND (tp.id IS NOT NULL OR cp.id IS NOT NULL) ";
+
+    private static final String ORDER_BY = "ORDER BY lrp.assigned_at ASC, lrp.id ASC";
+
+    private static final RowMapper<RankArchiveEntry> ROW_MAPPER = (rs, rowNum) -> map(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Up to limit entries strictly after the cursor (from the beginning when the cursor is null)
+    public List<RankArchiveEntry> findPage(Long userId, RankArchiveCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(SELECT_ARCHIVE + ORDER_BY + " LIMIT ?", ROW_MAPPER, userId, limit);
+        }
+
+        Timestamp assignedAt = Timestamp.from(after.assignedAt());
+        return jdbcTemplate.query(SELECT_ARCHIVE +
+                        "AND (lrp.assigned_at > ? OR (lrp.assigned_at = ? AND lrp.id > ?)) " +
+                        ORDER_BY + " LIMIT ?",
+                ROW_MAPPER, userId, assignedAt, assignedAt, after.id(), limit);
+    }
+
+    private static RankArchiveEntry map(ResultSet rs) throws SQLException {
+        return new RankArchiveEntry(
+                rs.getLong("id"),
+                rs.getTimestamp("assigned_at").toInstant(),
+                rs.getString("board_status"),
+                rs.getString("answer"),
+                rs.getString("win_color"),
+                rs.getBoolean("is_solved")
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankOutcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access for the puzzle difficulty calibration job.
+ * Outcomes are streamed row by row from rank_outcome_log and ratings are written back in JDBC batches.
+ * Writes join the caller's transaction, so the job commits ratings and its watermark together.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankCalibrationRepository {
+
+    public static final int UPDATE_BATCH_SIZE = 500;
+
+    private static final String SELECT_LAST_OUTCOME_ID =
+            "SELECT id FROM rank_outcome_log WHERE answered_at <= ? ORDER BY id DESC LIMIT 1";
+
+    private static final String SELECT_OUTCOMES =
+            "SELECT rol.puzzle_type, rol.puzzle_id, rol.solver_mmr, rol.is_solved, " +
+            "       COALESCE(tp.rating, cp.rating) AS puzzle_rating " +
+            "FROM rank_outcome_log rol " +
+            "LEFT JOIN training_puzzle tp ON rol.puzzle_type = 'TRAINING' AND tp.id = rol.puzzle_id " +
+            "LEFT JOIN community_puzzle cp ON rol.puzzle_type = 'COMMUNITY' AND cp.id = rol.puzzle_id " +
+            "WHERE rol.id > ? AND rol.id <= ? " +
+            "AND (tp.id IS NOT NULL OR cp.id IS NOT NULL)";
+
+    private static final String DELETE_OUTCOMES = "DELETE FROM rank_outcome_log WHERE id <= ?";
+
+    private static final String UPDATE_TRAINING_RATING = "UPDATE training_puzzle SET rating = ? WHERE id = ?";
+    private static final String UPDATE_COMMUNITY_RATING = "UPDATE community_puzzle SET rating = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Newest outcome log id answered at or before the given time
+    public Optional<Long> findLastOutcomeId(Instant answeredBefore) {
+        return jdbcTemplate.queryForList(SELECT_LAST_OUTCOME_ID, Long.class, Timestamp.from(answeredBefore))
+                .stream()
+                .findFirst();
+    }
+
+    // Hands every outcome logged with an id in (afterId, untilId] to the consumer without buffering the result set
+    public void streamOutcomes(long afterId, long untilId, Consumer<RankOutcome> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_OUTCOMES,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setLong(1, afterId);
+            statement.setLong(2, untilId);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(new RankOutcome(
+                PuzzleType.valueOf(rs.getString("puzzle_type")),
+                rs.getLong("puzzle_id"),
+                rs.getDouble("puzzle_rating"),
+                rs.getDouble("solver_mmr"),
+                rs.getBoolean("is_solved")
+        )));
+    }
+
+    // Writes the new ratings UPDATE_BATCH_SIZE statements per round trip
+    public void updateRatings(PuzzleType type, Map<Long, Double> ratings) {
+        String sql = type == PuzzleType.TRAINING ? UPDATE_TRAINING_RATING : UPDATE_COMMUNITY_RATING;
+        jdbcTemplate.batchUpdate(sql, ratings.entrySet(), UPDATE_BATCH_SIZE, (statement, entry) -> {
+            statement.setDouble(1, entry.getValue());
+            statement.setLong(2, entry.getKey());
+        });
+    }
+
+    // Drops outcomes that are already applied, so the log only holds what the next run reads
+    public void deleteOutcomes(long untilId) {
+        jdbcTemplate.update(DELETE_OUTCOMES, untilId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Coordination state of the calibration job shared by all instances, kept in rank_calibration_state.
+ * - lock: the state row is held FOR UPDATE until the calibration transaction ends
+ * - watermark: last outcome log id already applied, committed with the rating updates
+ * Must be called inside a transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankCalibrationStateRepository {
+
+    private static final long STATE_ID = 1L;
+
+    private static final String LOCK_STATE =
+            "SELECT last_outcome_id FROM rank_calibration_state WHERE id = ? FOR UPDATE SKIP LOCKED";
+    private static final String COUNT_STATE = "SELECT COUNT(*) FROM rank_calibration_state WHERE id = ?";
+    private static final String INSERT_STATE =
+            "INSERT IGNORE INTO rank_calibration_state (id, last_outcome_id) VALUES (?, 0)";
+    private static final String UPDATE_WATERMARK = "UPDATE rank_calibration_state SET last_outcome_id = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Locks the state row and returns its watermark; empty when another instance holds the lock
+    public Optional<Long> lockWatermark() {
+        List<Long> locked = jdbcTemplate.queryForList(LOCK_STATE, Long.class, STATE_ID);
+        if (!locked.isEmpty()) {
+            return Optional.of(locked.get(0));
+        }
+        // Skipped because it is locked, or the job never ran before
+        Long existing = jdbcTemplate.queryForObject(COUNT_STATE, Long.class, STATE_ID);
+        if (existing != null && existing > 0) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.update(INSERT_STATE, STATE_ID) > 0 ? Optional.of(0L) : Optional.empty();
+    }
+
+    public void saveWatermark(long lastOutcomeId) {
+        jdbcTemplate.update(UPDATE_WATERMARK, lastOutcomeId, STATE_ID);
+    }
+}
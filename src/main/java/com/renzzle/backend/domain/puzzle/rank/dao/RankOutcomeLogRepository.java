@@ -0,0 +1,7 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RankOutcomeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RankOutcomeLogRepository extends JpaRepository<RankOutcomeLog, Long> {
+}
@@ -0,0 +1,86 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.domain.QueuedRankPuzzle;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * Puzzles precomputed for a user's rank session.
+ * Stored as a Redis HASH ("TYPE:puzzleId" -> puzzle) next to the session and expired together with it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankPuzzleQueueRepository {
+
+    private static final String KEY_PREFIX = "rank:queue:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public List<QueuedRankPuzzle> findAll(Long userId) {
+        List<Object> values = stringRedisTemplate.opsForHash().values(key(userId));
+        List<QueuedRankPuzzle> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            result.add(decode(value.toString()));
+        }
+        return result;
+    }
+
+    // Removes a single entry; returns false if it was already taken by someone else
+    public boolean remove(Long userId, PuzzleType type, long puzzleId) {
+        Long removed = stringRedisTemplate.opsForHash().delete(key(userId), RankSeenPuzzleRepository.member(type, puzzleId));
+        return removed != null && removed > 0;
+    }
+
+    public void replaceAll(Long userId, List<QueuedRankPuzzle> puzzles, long ttlSeconds) {
+        String key = key(userId);
+        Map<String, String> encoded = new HashMap<>();
+        for (QueuedRankPuzzle puzzle : puzzles) {
+            encoded.put(RankSeenPuzzleRepository.member(puzzle.type(), puzzle.puzzleId()), encode(puzzle));
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.del(key);
+            if (!encoded.isEmpty()) {
+                redis.hMSet(key, encoded);
+                redis.expire(key, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    public void deleteAll(Long userId) {
+        stringRedisTemplate.delete(key(userId));
+    }
+
+    private String encode(QueuedRankPuzzle puzzle) {
+        try {
+            return objectMapper.writeValueAsString(puzzle);
+        } catch (JsonProcessingException e) {
+            throw new CustomException("랭크 퍼즐 큐 직렬화에 실패했습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private QueuedRankPuzzle decode(String value) {
+        try {
+            return objectMapper.readValue(value, QueuedRankPuzzle.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException("랭크 퍼즐 큐 역직렬화에 실패했습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
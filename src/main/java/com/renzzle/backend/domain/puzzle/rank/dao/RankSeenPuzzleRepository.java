@@ -0,0 +1,46 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puzzles already assigned to a user in the current rank session.
+ * Stored as a Redis SET of "TYPE:puzzleId" next to the session and expired together with it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankSeenPuzzleRepository {
+
+    private static final String KEY_PREFIX = "rank:seen:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Set<String> findAll(Long userId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(key(userId));
+        return members == null ? Collections.emptySet() : members;
+    }
+
+    public void add(Long userId, PuzzleType type, long puzzleId, long ttlSeconds) {
+        String key = key(userId);
+        stringRedisTemplate.opsForSet().add(key, member(type, puzzleId));
+        stringRedisTemplate.expire(key, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    public void deleteAll(Long userId) {
+        stringRedisTemplate.delete(key(userId));
+    }
+
+    public static String member(PuzzleType type, long puzzleId) {
+        return type.name() + ":" + puzzleId;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
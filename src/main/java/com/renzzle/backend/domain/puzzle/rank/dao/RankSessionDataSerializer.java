@@ -0,0 +1,111 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RankSessionData;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * Compact MessagePack encoding of {@link RankSessionData}: a schema version followed by a fixed-order field array.
+ * - New fields are appended to the end of the array; shorter arrays written by older code decode with defaults
+ * - Sessions written as JSON before this codec existed are still readable
+ * - RankSessionRepository's transition script reads the started flag and version by array position
+ */
+public class RankSessionDataSerializer implements RedisSerializer<RankSessionData> {
+
+    static final int SCHEMA_VERSION = 1;
+    private static final int FIELD_COUNT = 11;
+    // 1-based positions in the field array, as seen from Lua
+    static final int STARTED_FIELD = 8;
+    static final int VERSION_FIELD = 9;
+    private static final byte LEGACY_JSON_PREFIX = '{';
+
+    private final GenericJackson2JsonRedisSerializer legacySerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(RankSessionData session) throws SerializationException {
+        if (session == null) {
+            return null;
+        }
+
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packInt(SCHEMA_VERSION);
+            packer.packArrayHeader(FIELD_COUNT);
+
+            packNullableLong(packer, session.getUserId());
+            packNullableString(packer, session.getBoardState());
+            packer.packDouble(session.getLastProblemRating());
+            packNullableString(packer, session.getWinnerColor());
+            packer.packDouble(session.getMmrBeforePenalty());
+            packer.packDouble(session.getRatingBeforePenalty());
+            packer.packDouble(session.getTargetWinProbability());
+            packer.packBoolean(session.isStarted());
+            packer.packLong(session.getVersion());
+            packer.packInt(session.getSolvedCount());
+            packer.packInt(session.getAttemptedCount());
+
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("랭킹전 세션 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public RankSessionData deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == LEGACY_JSON_PREFIX) {
+            return legacySerializer.deserialize(bytes, RankSessionData.class);
+        }
+
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(bytes)) {
+            int schemaVersion = unpacker.unpackInt();
+            if (schemaVersion > SCHEMA_VERSION) {
+                throw new SerializationException("지원하지 않는 랭킹전 세션 스키마 버전입니다: " + schemaVersion);
+            }
+
+            int size = unpacker.unpackArrayHeader();
+            RankSessionData session = new RankSessionData();
+
+            if (size > 0) session.setUserId(unpackNullableLong(unpacker));
+            if (size > 1) session.setBoardState(unpackNullableString(unpacker));
+            if (size > 2) session.setLastProblemRating(unpacker.unpackDouble());
+            if (size > 3) session.setWinnerColor(unpackNullableString(unpacker));
+            if (size > 4) session.setMmrBeforePenalty(unpacker.unpackDouble());
+            if (size > 5) session.setRatingBeforePenalty(unpacker.unpackDouble());
+            if (size > 6) session.setTargetWinProbability(unpacker.unpackDouble());
+            if (size > 7) session.setStarted(unpacker.unpackBoolean());
+            if (size > 8) session.setVersion(unpacker.unpackLong());
+            if (size > 9) session.setSolvedCount(unpacker.unpackInt());
+            if (size > 10) session.setAttemptedCount(unpacker.unpackInt());
+
+            return session;
+        } catch (IOException e) {
+            throw new SerializationException("랭킹전 세션 역직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static void packNullableLong(MessageBufferPacker packer, Long value) throws IOException {
+        if (value == null) packer.packNil();
+        else packer.packLong(value);
+    }
+
+    private static void packNullableString(MessageBufferPacker packer, String value) throws IOException {
+        if (value == null) packer.packNil();
+        else packer.packString(value);
+    }
+
+    private static Long unpackNullableLong(MessageUnpacker unpacker) throws IOException {
+        return unpacker.tryUnpackNil() ? null : unpacker.unpackLong();
+    }
+
+    private static String unpackNullableString(MessageUnpacker unpacker) throws IOException {
+        return unpacker.tryUnpackNil() ? null : unpacker.unpackString();
+    }
+}
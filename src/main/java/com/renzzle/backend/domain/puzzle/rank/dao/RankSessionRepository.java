@@ -0,0 +1,101 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RankSessionData;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rank session state, one Redis value per user keyed by user id.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankSessionRepository {
+
+    private static final long STALE_VERSION = 0L;
+    private static final long EXPIRED = -1L;
+    private static final long NOT_STARTED = -2L;
+
+    /*
+        Compare-and-set in one round trip:
+        the stored session must exist, be started and still be at the expected version.
+        The new state is written with KEEPTTL so the session keeps its original expiry.
+        Sessions still stored as JSON (written before the binary codec) are read with cjson.
+     */
+    private static final RedisScript<Long> TRANSITION_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then return -1 end " +
+            "local started, version " +
+            "if string.sub(current, 1, 1) == '{' then " +
+            "   local session = cjson.decode(current) " +
+            "   started, version = session['started'], session['version'] " +
+            "else " +
+            "   local schema, fields = cmsgpack.unpack(current) " +
+            "   started, version = fields[" + RankSessionDataSerializer.STARTED_FIELD + "], " +
+            "fields[" + RankSessionDataSerializer.VERSION_FIELD + "] " +
+            "end " +
+            "if started ~= true then return -2 end " +
+            "if (tonumber(version) or 0) ~= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL') " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, RankSessionData> rankSessionDataRedisTemplate;
+
+    public Optional<RankSessionData> findByUserId(Long userId) {
+        return Optional.ofNullable(rankSessionDataRedisTemplate.opsForValue().get(key(userId)));
+    }
+
+    public void save(RankSessionData session, long ttlSeconds) {
+        rankSessionDataRedisTemplate.opsForValue().set(key(session.getUserId()), session, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Replaces the stored session with the given one if it is still at expectedVersion, the version the client last saw.
+     * A retried or duplicated submit carries a version the session already moved past and is rejected.
+     * The given session is written at expectedVersion + 1.
+     */
+    public void transition(RankSessionData session, long expectedVersion) {
+        session.setVersion(expectedVersion + 1);
+
+        Long result = rankSessionDataRedisTemplate.execute(
+                TRANSITION_SCRIPT,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(key(session.getUserId())),
+                String.valueOf(expectedVersion).getBytes(StandardCharsets.UTF_8),
+                rankSessionDataRedisTemplate.getValueSerializer().serialize(session)
+        );
+
+        if (result == null || result == EXPIRED) {
+            throw new CustomException(ErrorCode.INVALID_SESSION_TTL);
+        }
+        if (result == NOT_STARTED) {
+            throw new CustomException(ErrorCode.EMPTY_SESSION_DATA);
+        }
+        if (result == STALE_VERSION) {
+            throw new CustomException(ErrorCode.RANK_SESSION_CONFLICT);
+        }
+    }
+
+    // GETDEL, so only one of several concurrent end requests gets the session
+    public Optional<RankSessionData> removeByUserId(Long userId) {
+        return Optional.ofNullable(rankSessionDataRedisTemplate.opsForValue().getAndDelete(key(userId)));
+    }
+
+    private static String key(Long userId) {
+        return String.valueOf(userId);
+    }
+}
@@ -0,0 +1,246 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.content.util.YearWeek;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingEntry;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection.StringTuple;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Leaderboards stored as Redis ZSETs whose members are user ids.
+ * Display data (nickname) lives in a side hash shared by every leaderboard.
+ * Rebuilds, and single writes that can change the top TOP_SIZE entries, bump a version counter for the leaderboard
+ * (nickname changes bump one for the nickname hash), so rendered snapshots can tell whether they are still current with one MGET.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingRepository {
+
+    public static final String RATING_KEY = "ranking:rating";
+    public static final String PUZZLER_KEY = "ranking:puzzler";
+    // Size of the rendered top of every leaderboard; writes below it leave the version alone
+    public static final int TOP_SIZE = 100;
+    private static final String WEEKLY_RATING_KEY_PREFIX = "ranking:rating:weekly:";
+    private static final String NICKNAME_KEY = "ranking:nickname";
+    private static final String VERSION_KEY_PREFIX = "ranking:version:";
+    private static final String NICKNAME_VERSION_KEY = VERSION_KEY_PREFIX + NICKNAME_KEY;
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String DIRTY_SUFFIX = ":dirty";
+    // Longer than the gap between two rebuilds, so the set only expires when rebuilds stop
+    private static final Duration DIRTY_TTL = Duration.ofHours(2);
+    private static final int BATCH_SIZE = 500;
+
+    /*
+        Swaps the rebuilt board in and re-applies the scores written since the rebuild began, in one step:
+        KEYS = rebuilt temp key, live key, dirty set, version counter.
+     */
+    private static final RedisScript<Long> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "   redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "else " +
+            "   redis.call('DEL', KEYS[2]) " +
+            "end " +
+            "local dirty = redis.call('ZRANGE', KEYS[3], 0, -1, 'WITHSCORES') " +
+            "for i = 1, #dirty, 2 do " +
+            "   redis.call('ZADD', KEYS[2], dirty[i + 1], dirty[i]) " +
+            "end " +
+            "redis.call('DEL', KEYS[3]) " +
+            "return redis.call('INCR', KEYS[4])",
+            Long.class
+    );
+
+    /*
+        Writes one score and bumps the version only if the write can change the rendered top:
+        the member was in the top TOP_SIZE before or is in it after, and its score or nickname actually changed.
+        KEYS = leaderboard, nickname hash, version counter, dirty set.
+        ARGV = member, nickname, score (ZADD) or delta (ZINCRBY), that command, top size,
+        dirty set TTL (0: not tracked), leaderboard TTL (0: no expiry).
+     */
+    private static final RedisScript<Long> WRITE_SCORE_SCRIPT = new DefaultRedisScript<>(
+            "local top = tonumber(ARGV[5]) " +
+            "local before = redis.call('ZREVRANK', KEYS[1], ARGV[1]) " +
+            "local oldScore = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "local oldNickname = redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) " +
+            "redis.call(ARGV[4], KEYS[1], ARGV[3], ARGV[1]) " +
+            "local newScore = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if tonumber(ARGV[6]) > 0 then " +
+            "   redis.call('ZADD', KEYS[4], newScore, ARGV[1]) " +
+            "   redis.call('EXPIRE', KEYS[4], ARGV[6]) " +
+            "end " +
+            "if tonumber(ARGV[7]) > 0 then " +
+            "   redis.call('EXPIRE', KEYS[1], ARGV[7]) " +
+            "   redis.call('EXPIRE', KEYS[3], ARGV[7]) " +
+            "end " +
+            "local after = redis.call('ZREVRANK', KEYS[1], ARGV[1]) " +
+            "if (oldScore ~= newScore or oldNickname ~= ARGV[2]) and ((before and before < top) or after < top) then " +
+            "   redis.call('INCR', KEYS[3]) " +
+            "   if tonumber(ARGV[7]) > 0 then redis.call('EXPIRE', KEYS[3], ARGV[7]) end " +
+            "   return 1 " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Also noted in the dirty set, so a rebuild that read the database earlier does not drop it
+    public void add(String key, Long userId, String nickname, double score) {
+        writeScore(key, userId, nickname, "ZADD", score, DIRTY_TTL.toSeconds(), 0);
+    }
+
+    // One key per week, e.g. "ranking:rating:weekly:2025-7"
+    public static String weeklyRatingKey(YearWeek yearWeek) {
+        return WEEKLY_RATING_KEY_PREFIX + yearWeek.year() + "-" + yearWeek.week();
+    }
+
+    // Adds delta to the user's score, (re)setting the key's expiry in the same round trip
+    public void incrementScore(String key, Long userId, String nickname, double delta, Duration ttl) {
+        writeScore(key, userId, nickname, "ZINCRBY", delta, 0, ttl.toSeconds());
+    }
+
+    private void writeScore(String key, Long userId, String nickname, String command, double value,
+                            long dirtyTtlSeconds, long ttlSeconds) {
+        stringRedisTemplate.execute(WRITE_SCORE_SCRIPT,
+                List.of(key, NICKNAME_KEY, versionKey(key), dirtyKey(key)),
+                String.valueOf(userId), nickname, String.valueOf(value), command, String.valueOf(TOP_SIZE),
+                String.valueOf(dirtyTtlSeconds), String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * Starts tracking the scores written by add() for a rebuild of the leaderboard.
+     * Must be called before the entries passed to replaceAll are read from the database.
+     */
+    public void beginRebuild(String key) {
+        stringRedisTemplate.delete(dirtyKey(key));
+    }
+
+    /**
+     * Rebuilds the whole leaderboard without exposing a partial one to readers:
+     * entries are written to a temporary key with pipelined, batched ZADDs and then RENAMEd over the live key.
+     * Scores written by add() since beginRebuild are newer than the entries, so they are re-applied in the same script.
+     * Keys written with incrementScore() are never rebuilt.
+     */
+    public void replaceAll(String key, List<RankingEntry> entries) {
+        String tempKey = key + REBUILD_SUFFIX;
+        if (entries.isEmpty()) {
+            stringRedisTemplate.delete(tempKey);
+        } else {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                redis.del(tempKey);
+
+                for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+                    List<RankingEntry> batch = entries.subList(from, Math.min(from + BATCH_SIZE, entries.size()));
+
+                    Set<StringTuple> tuples = new HashSet<>();
+                    Map<String, String> nicknames = new HashMap<>();
+                    for (RankingEntry entry : batch) {
+                        String member = String.valueOf(entry.userId());
+                        tuples.add(new DefaultStringTuple(member, entry.score()));
+                        nicknames.put(member, entry.nickname());
+                    }
+                    redis.zAdd(tempKey, tuples);
+                    redis.hMSet(NICKNAME_KEY, nicknames);
+                }
+                return null;
+            });
+        }
+        stringRedisTemplate.execute(FINISH_REBUILD_SCRIPT, List.of(tempKey, key, dirtyKey(key), versionKey(key)));
+    }
+
+    // Highest scores first, with nicknames resolved from the side hash in one HMGET
+    public List<RankingEntry> findTop(String key, int count) {
+        return findRange(key, 0, count - 1L);
+    }
+
+    /**
+     * The user and up to count users directly above and below them (ZREVRANK + ZREVRANGE).
+     * Empty when the user is not on the leaderboard.
+     */
+    public Optional<RankingWindow> findAround(String key, Long userId, int count) {
+        Long rank = stringRedisTemplate.opsForZSet().reverseRank(key, String.valueOf(userId));
+        if (rank == null) {
+            return Optional.empty();
+        }
+        long start = Math.max(0, rank - count);
+        return Optional.of(new RankingWindow(start, findRange(key, start, rank + count)));
+    }
+
+    private List<RankingEntry> findRange(String key, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> members = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            members.add(tuple.getValue());
+        }
+        HashOperations<String, Object, Object> hash = stringRedisTemplate.opsForHash();
+        List<Object> nicknames = hash.multiGet(NICKNAME_KEY, members);
+
+        List<RankingEntry> result = new ArrayList<>(tuples.size());
+        int i = 0;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            Object nickname = nicknames.get(i++);
+            result.add(new RankingEntry(
+                    Long.valueOf(tuple.getValue()),
+                    nickname == null ? null : nickname.toString(),
+                    tuple.getScore() == null ? 0.0 : tuple.getScore()
+            ));
+        }
+        return result;
+    }
+
+    public Optional<Double> findScore(String key, Long userId) {
+        return Optional.ofNullable(stringRedisTemplate.opsForZSet().score(key, String.valueOf(userId)));
+    }
+
+    // Number of members with a score strictly greater than the given one (ZCOUNT, O(log n))
+    public long countHigherThan(String key, double score) {
+        Long count = stringRedisTemplate.opsForZSet().count(key, Math.nextUp(score), Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    public void updateNickname(Long userId, String nickname) {
+        String member = String.valueOf(userId);
+        HashOperations<String, Object, Object> hash = stringRedisTemplate.opsForHash();
+        if (hash.hasKey(NICKNAME_KEY, member)) {
+            hash.put(NICKNAME_KEY, member, nickname);
+            stringRedisTemplate.opsForValue().increment(NICKNAME_VERSION_KEY);
+        }
+    }
+
+    /**
+     * Current version of what the leaderboard displays: its own writes plus nickname changes.
+     * Both counters are read in one MGET; missing counters count as 0.
+     */
+    public String findVersion(String key) {
+        List<String> versions = stringRedisTemplate.opsForValue().multiGet(List.of(versionKey(key), NICKNAME_VERSION_KEY));
+        String boardVersion = versions == null || versions.get(0) == null ? "0" : versions.get(0);
+        String nicknameVersion = versions == null || versions.get(1) == null ? "0" : versions.get(1);
+        return boardVersion + "." + nicknameVersion;
+    }
+
+    private static String versionKey(String key) {
+        return VERSION_KEY_PREFIX + key;
+    }
+
+    private static String dirtyKey(String key) {
+        return key + DIRTY_SUFFIX;
+    }
+}
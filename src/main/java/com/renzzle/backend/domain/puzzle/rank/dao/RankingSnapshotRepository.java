@@ -0,0 +1,44 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Rendered leaderboard snapshots shared between application instances.
+ * Stored as "{version}\n{json body}" under ranking:snapshot:{leaderboard key}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingSnapshotRepository {
+
+    private static final String KEY_PREFIX = "ranking:snapshot:";
+    private static final char SEPARATOR = '\n';
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<RankingSnapshot> find(String rankingKey) {
+        String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + rankingKey);
+        if (value == null) {
+            return Optional.empty();
+        }
+        int separator = value.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(RankingSnapshot.of(
+                value.substring(0, separator),
+                value.substring(separator + 1).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public void save(String rankingKey, RankingSnapshot snapshot) {
+        String value = snapshot.version() + SEPARATOR + new String(snapshot.body(), StandardCharsets.UTF_8);
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + rankingKey, value, TTL);
+    }
+}
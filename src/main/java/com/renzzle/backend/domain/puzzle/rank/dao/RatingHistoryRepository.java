@@ -0,0 +1,18 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RatingHistory;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RatingHistoryRepository extends JpaRepository<RatingHistory, Long> {
+
+    // Locked so two appends to the same month cannot overwrite each other's blob
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RatingHistory> findByUserIdAndPeriod(Long userId, Integer period);
+
+    List<RatingHistory> findAllByUserIdAndPeriodBetweenOrderByPeriodAsc(Long userId, Integer fromPeriod, Integer toPeriod);
+}
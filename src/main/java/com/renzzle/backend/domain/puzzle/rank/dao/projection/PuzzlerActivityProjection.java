@@ -0,0 +1,12 @@
+package com.renzzle.backend.domain.puzzle.rank.dao.projection;
+
+public interface PuzzlerActivityProjection {
+
+    Long getUserId();
+    String getNickname();
+    Long getSolvedCount();
+    Long getAuthoredCount();
+    Long getLikeSum();
+    Long getDislikeSum();
+
+}
@@ -0,0 +1,8 @@
+package com.renzzle.backend.domain.puzzle.rank.dao.projection;
+
+public interface RankCandidateProjection {
+
+    Long getId();
+    Double getRating();
+
+}
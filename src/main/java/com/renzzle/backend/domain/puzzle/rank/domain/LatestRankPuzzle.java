@@ -1,6 +1,6 @@
 package com.renzzle.backend.domain.puzzle.rank.domain;
 
-import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
 import com.renzzle.backend.domain.user.domain.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -10,12 +10,21 @@ import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.Instant;
 
+/**
+ * A puzzle assigned in a rank game. Only references the source puzzle;
+ * board, answer and win color are read from TrainingPuzzle / CommunityPuzzle when needed.
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(toBuilder = true)
-@Table(name = "latest_rank_puzzle")
+@Table(
+        name = "latest_rank_puzzle",
+        indexes = {
+                @Index(name = "idx_latest_rank_puzzle_user_assigned", columnList = "user_id, assigned_at, id")
+        }
+)
 public class LatestRankPuzzle {
 
     @Id
@@ -27,11 +36,12 @@ public class LatestRankPuzzle {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private UserEntity user;
 
-    @Column(name = "board_status", length = 1023, nullable = false)
-    private String boardStatus;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "puzzle_type", nullable = false, length = 10)
+    private PuzzleType puzzleType;
 
-    @Column(name = "answer", length = 1023, nullable = false)
-    private String answer;
+    @Column(name = "puzzle_id", nullable = false)
+    private Long puzzleId;
 
     // Whether it has been solved
     @Column(name = "is_solved", nullable = false)
@@ -42,11 +52,16 @@ public class LatestRankPuzzle {
     @Column(name = "assigned_at", nullable = false, updatable = false)
     private Instant assignedAt;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "win_color", nullable = false)
-    private WinColor winColor;
+    // MMR the puzzle was chosen for; copied into RankOutcomeLog for difficulty calibration
+    @Column(name = "solver_mmr")
+    private Double solverMmr;
 
-    public void solvedUpdate(boolean solved) {
+    // Null until the result is submitted
+    @Column(name = "answered_at")
+    private Instant answeredAt;
+
+    public void solvedUpdate(boolean solved, Instant answeredAt) {
         this.isSolved = solved;
+        this.answeredAt = answeredAt;
     }
 }
@@ -0,0 +1,16 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+
+/**
+ * A rank puzzle picked ahead of time. Only the reference is kept;
+ * the puzzle itself is read again when it is served, so later edits or deletions are never missed.
+ * Entries queued before this shape also carried the puzzle's board, which is ignored when read.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record QueuedRankPuzzle(
+        PuzzleType type,
+        long puzzleId,
+        double rating
+) {}
@@ -0,0 +1,15 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import java.time.Instant;
+
+/**
+ * One rank history row joined with its source puzzle
+ */
+public record RankArchiveEntry(
+        long id,
+        Instant assignedAt,
+        String boardStatus,
+        String answer,
+        String winColor,
+        boolean isSolved
+) {}
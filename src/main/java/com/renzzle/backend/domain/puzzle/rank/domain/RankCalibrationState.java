@@ -0,0 +1,24 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row progress of the difficulty calibration job.
+ * The row is locked for the whole run and its watermark commits together with the rating updates.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "rank_calibration_state")
+public class RankCalibrationState {
+
+    @Id
+    private Long id;
+
+    // Last RankOutcomeLog id whose outcome is already applied to the puzzle ratings
+    @Column(name = "last_outcome_id", nullable = false)
+    private Long lastOutcomeId;
+}
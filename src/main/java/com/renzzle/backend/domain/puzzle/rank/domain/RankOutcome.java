@@ -0,0 +1,13 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+
+// One answered rank puzzle with the solver's MMR and the puzzle's current rating
+public record RankOutcome(
+        PuzzleType type,
+        long puzzleId,
+        double puzzleRating,
+        double solverMmr,
+        boolean solved
+) {
+}
@@ -0,0 +1,51 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Append-only log of answered rank puzzles, read by the difficulty calibration job.
+ * Kept apart from LatestRankPuzzle, whose rows are replaced whenever the user starts a new game.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "rank_outcome_log")
+public class RankOutcomeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "puzzle_type", nullable = false, length = 10)
+    private PuzzleType puzzleType;
+
+    @Column(name = "puzzle_id", nullable = false)
+    private Long puzzleId;
+
+    // MMR the puzzle was chosen for
+    @Column(name = "solver_mmr", nullable = false)
+    private Double solverMmr;
+
+    @Column(name = "is_solved", nullable = false)
+    private Boolean isSolved;
+
+    @Column(name = "answered_at", nullable = false)
+    private Instant answeredAt;
+
+    public static RankOutcomeLog of(LatestRankPuzzle puzzle) {
+        return RankOutcomeLog.builder()
+                .puzzleType(puzzle.getPuzzleType())
+                .puzzleId(puzzle.getPuzzleId())
+                .solverMmr(puzzle.getSolverMmr())
+                .isSolved(puzzle.getIsSolved())
+                .answeredAt(puzzle.getAnsweredAt())
+                .build();
+    }
+}
@@ -16,4 +16,9 @@ public class RankSessionData {
     private double ratingBeforePenalty;
     private double targetWinProbability;
     private boolean isStarted = false;
+    // Bumped on every transition, used to reject stale or duplicated result requests
+    private long version;
+    // Puzzles answered in this session, used for the end-of-game reward
+    private int solvedCount;
+    private int attemptedCount;
 }
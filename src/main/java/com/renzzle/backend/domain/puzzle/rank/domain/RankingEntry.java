@@ -0,0 +1,7 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+public record RankingEntry(
+        Long userId,
+        String nickname,
+        double score
+) {}
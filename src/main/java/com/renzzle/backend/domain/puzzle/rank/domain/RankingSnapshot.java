@@ -0,0 +1,17 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * A leaderboard response body rendered once for a given leaderboard version.
+ * The ETag is a hash of the body, so it is a valid strong validator regardless of how the body was produced.
+ */
+public record RankingSnapshot(
+        String version,
+        byte[] body,
+        String etag
+) {
+    public static RankingSnapshot of(String version, byte[] body) {
+        return new RankingSnapshot(version, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
@@ -0,0 +1,11 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import java.util.List;
+
+/**
+ * A contiguous slice of a leaderboard; offset is the 0-based position of the first entry
+ */
+public record RankingWindow(
+        long offset,
+        List<RankingEntry> entries
+) {}
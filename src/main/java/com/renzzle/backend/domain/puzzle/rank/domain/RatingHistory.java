@@ -0,0 +1,108 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import com.renzzle.backend.domain.puzzle.rank.util.RatingHistoryCodec;
+import com.renzzle.backend.domain.user.domain.UserEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One user's rating history for one UTC month, packed into a single delta-encoded blob.
+ * The last point is kept in plain columns so a new point can be appended without decoding the blob.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(
+        name = "rating_history",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_rating_history_user_period", columnNames = {"user_id", "period"})
+        }
+)
+public class RatingHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private UserEntity user;
+
+    // yyyyMM of the UTC month
+    @Column(name = "period", nullable = false)
+    private Integer period;
+
+    @Lob
+    @Column(name = "points", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] points;
+
+    @Column(name = "point_count", nullable = false)
+    private Integer pointCount;
+
+    @Column(name = "last_recorded_at", nullable = false)
+    private Instant lastRecordedAt;
+
+    // Last rating and mmr in hundredths
+    @Column(name = "last_rating", nullable = false)
+    private Long lastRating;
+
+    @Column(name = "last_mmr", nullable = false)
+    private Long lastMmr;
+
+    public static RatingHistory empty(UserEntity user, int period) {
+        return RatingHistory.builder()
+                .user(user)
+                .period(period)
+                .points(new byte[0])
+                .pointCount(0)
+                .lastRecordedAt(periodStart(period))
+                .lastRating(0L)
+                .lastMmr(0L)
+                .build();
+    }
+
+    public void append(Instant recordedAt, double rating, double mmr) {
+        Instant at = recordedAt.truncatedTo(ChronoUnit.SECONDS);
+        long quantizedRating = RatingHistoryCodec.quantize(rating);
+        long quantizedMmr = RatingHistoryCodec.quantize(mmr);
+
+        byte[] point = RatingHistoryCodec.encodePoint(
+                at.getEpochSecond() - lastRecordedAt.getEpochSecond(),
+                quantizedRating - lastRating,
+                quantizedMmr - lastMmr);
+
+        byte[] appended = Arrays.copyOf(points, points.length + point.length);
+        System.arraycopy(point, 0, appended, points.length, point.length);
+
+        this.points = appended;
+        this.pointCount = pointCount + 1;
+        this.lastRecordedAt = at;
+        this.lastRating = quantizedRating;
+        this.lastMmr = quantizedMmr;
+    }
+
+    public List<RatingHistoryPoint> decodePoints() {
+        return RatingHistoryCodec.decode(points, periodStart(period).getEpochSecond());
+    }
+
+    public static int periodOf(Instant instant) {
+        YearMonth month = YearMonth.from(instant.atZone(ZoneOffset.UTC));
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static Instant periodStart(int period) {
+        return YearMonth.of(period / 100, period % 100).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -0,0 +1,10 @@
+package com.renzzle.backend.domain.puzzle.rank.domain;
+
+import java.time.Instant;
+
+public record RatingHistoryPoint(
+        Instant recordedAt,
+        double rating,
+        double mmr
+) {
+}
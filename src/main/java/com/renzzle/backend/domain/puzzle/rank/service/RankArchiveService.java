@@ -0,0 +1,109 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzzle.backend.domain.puzzle.rank.api.response.RankArchive;
+import com.renzzle.backend.domain.puzzle.rank.api.response.RankArchivePageResponse;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankArchiveRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankArchiveEntry;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankArchiveCursor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rank archive reads that never load a user's whole history at once.
+ * - getArchivePage(): keyset pages on (assignedAt, id), at most MAX_PAGE_SIZE entries
+ * - exportArchive(): the whole history as NDJSON, read in keyset chunks of EXPORT_CHUNK_SIZE
+ *   so no database connection stays open while the client downloads
+ */
+@Service
+public class RankArchiveService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    static final int EXPORT_CHUNK_SIZE = 500;
+    private static final byte NEWLINE = '\n';
+
+    private final RankArchiveRepository rankArchiveRepository;
+    private final ObjectMapper objectMapper;
+    private final Timer pageTimer;
+    private final Timer exportTimer;
+    private final DistributionSummary exportRows;
+
+    public RankArchiveService(RankArchiveRepository rankArchiveRepository, ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.rankArchiveRepository = rankArchiveRepository;
+        this.objectMapper = objectMapper;
+        this.pageTimer = Timer.builder("rank.archive.fetch")
+                .description("Time to fetch one page of the rank archive")
+                .tag("mode", "page")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("rank.archive.fetch")
+                .description("Time to fetch one chunk of the rank archive export")
+                .tag("mode", "export")
+                .register(meterRegistry);
+        this.exportRows = DistributionSummary.builder("rank.archive.export.rows")
+                .description("Number of entries in one rank archive export")
+                .register(meterRegistry);
+    }
+
+    public RankArchivePageResponse getArchivePage(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        RankArchiveCursor after = cursor == null || cursor.isBlank() ? null : RankArchiveCursor.decode(cursor);
+
+        // One extra row tells whether another page exists
+        List<RankArchiveEntry> entries = pageTimer.record(() -> rankArchiveRepository.findPage(userId, after, pageSize + 1));
+
+        boolean hasNext = entries.size() > pageSize;
+        List<RankArchiveEntry> page = hasNext ? entries.subList(0, pageSize) : entries;
+
+        List<RankArchive> archives = new ArrayList<>(page.size());
+        for (RankArchiveEntry entry : page) {
+            archives.add(toRankArchive(entry));
+        }
+
+        return RankArchivePageResponse.builder()
+                .archives(archives)
+                .nextCursor(hasNext ? RankArchiveCursor.of(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    // Writes one JSON object per line; only the current chunk is held in memory
+    public void exportArchive(Long userId, OutputStream out) throws IOException {
+        long rows = 0;
+        try {
+            RankArchiveCursor after = null;
+            while (true) {
+                RankArchiveCursor cursor = after;
+                List<RankArchiveEntry> chunk = exportTimer.record(
+                        () -> rankArchiveRepository.findPage(userId, cursor, EXPORT_CHUNK_SIZE));
+                for (RankArchiveEntry entry : chunk) {
+                    out.write(objectMapper.writeValueAsBytes(toRankArchive(entry)));
+                    out.write(NEWLINE);
+                    rows++;
+                }
+                if (chunk.size() < EXPORT_CHUNK_SIZE) {
+                    break;
+                }
+                after = RankArchiveCursor.of(chunk.get(chunk.size() - 1));
+            }
+        } finally {
+            exportRows.record(rows);
+        }
+        out.flush();
+    }
+
+    private static RankArchive toRankArchive(RankArchiveEntry entry) {
+        return RankArchive.builder()
+                .boardStatus(entry.boardStatus())
+                .answer(entry.answer())
+                .winColor(entry.winColor())
+                .isSolved(entry.isSolved())
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankCalibrationRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankCalibrationStateRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankOutcome;
+import com.renzzle.backend.domain.puzzle.shared.util.ELOUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.renzzle.backend.global.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Nightly puzzle difficulty calibration from rank outcomes.
+ * - Streams the outcomes logged since the last run; memory grows with the number of puzzles played, not outcomes
+ * - Moves each puzzle's rating by the gap between expected (ELO, against the solver's MMR) and actual solves
+ * - Writes the ratings back in JDBC batches, in the same transaction as the watermark, and reloads the rank puzzle pool once
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RankCalibrationService {
+
+    // Leaves time for the transactions of just-answered outcomes to commit before their ids are passed
+    private static final Duration SETTLE_DELAY = Duration.ofMinutes(1);
+
+    private final RankCalibrationRepository rankCalibrationRepository;
+    private final RankCalibrationStateRepository rankCalibrationStateRepository;
+    private final RankPuzzlePool rankPuzzlePool;
+    private final Clock clock;
+
+    @Scheduled(cron = "${rank.calibration.cron:0 0 4 * * *}")
+    @Transactional
+    public void calibrate() {
+        Optional<Long> watermark = rankCalibrationStateRepository.lockWatermark();
+        if (watermark.isEmpty()) {
+            log.info("Puzzle calibration skipped: already running on another instance");
+            return;
+        }
+        long after = watermark.get();
+        long until = rankCalibrationRepository.findLastOutcomeId(clock.instant().minus(SETTLE_DELAY)).orElse(after);
+        if (until <= after) {
+            log.info("Puzzle calibration skipped: no new outcomes");
+            return;
+        }
+
+        Map<PuzzleType, Map<Long, Double>> ratings = calculateRatings(after, until);
+        for (Map.Entry<PuzzleType, Map<Long, Double>> entry : ratings.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                rankCalibrationRepository.updateRatings(entry.getKey(), entry.getValue());
+            }
+        }
+        rankCalibrationStateRepository.saveWatermark(until);
+        rankCalibrationRepository.deleteOutcomes(until);
+
+        if (ratings.values().stream().anyMatch(changed -> !changed.isEmpty())) {
+            runAfterCommit(rankPuzzlePool::refresh);
+        }
+        log.info("Puzzle calibration done: training={}, community={}",
+                ratings.get(PuzzleType.TRAINING).size(), ratings.get(PuzzleType.COMMUNITY).size());
+    }
+
+    // New ratings of the puzzles whose rating changed, per type, from the outcomes logged in (afterId, untilId]
+    Map<PuzzleType, Map<Long, Double>> calculateRatings(long afterId, long untilId) {
+        Map<PuzzleType, Map<Long, OutcomeStats>> stats = new EnumMap<>(PuzzleType.class);
+        for (PuzzleType type : PuzzleType.values()) {
+            stats.put(type, new HashMap<>());
+        }
+
+        rankCalibrationRepository.streamOutcomes(afterId, untilId, outcome ->
+                stats.get(outcome.type())
+                        .computeIfAbsent(outcome.puzzleId(), id -> new OutcomeStats(outcome.puzzleRating()))
+                        .add(outcome));
+
+        Map<PuzzleType, Map<Long, Double>> ratings = new EnumMap<>(PuzzleType.class);
+        for (Map.Entry<PuzzleType, Map<Long, OutcomeStats>> entry : stats.entrySet()) {
+            Map<Long, Double> changed = new HashMap<>();
+            entry.getValue().forEach((puzzleId, puzzleStats) -> {
+                double change = ELOUtils.calculatePuzzleRatingChange(puzzleStats.expectedSolves, puzzleStats.solves);
+                if (change != 0) {
+                    changed.put(puzzleId, puzzleStats.rating + change);
+                }
+            });
+            ratings.put(entry.getKey(), changed);
+        }
+        return ratings;
+    }
+
+    private static final class OutcomeStats {
+        private final double rating;
+        private double expectedSolves;
+        private int solves;
+
+        private OutcomeStats(double rating) {
+            this.rating = rating;
+        }
+
+        private void add(RankOutcome outcome) {
+            expectedSolves += ELOUtils.expectedWinProbability(outcome.solverMmr(), rating);
+            if (outcome.solved()) {
+                solves++;
+            }
+        }
+    }
+}
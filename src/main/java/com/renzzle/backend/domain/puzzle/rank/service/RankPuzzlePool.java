@@ -0,0 +1,258 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.projection.RankCandidateProjection;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankPuzzleCandidate;
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.LongPredicate;
+import java.util.function.UnaryOperator;
+
+import static com.renzzle.backend.global.util.TransactionUtils.runAfterCommit;
+
+/**
+ * In-memory rating index of every puzzle that can be served in rank mode.
+ * - One rating-sorted snapshot per puzzle type (ratings as double[], ids as a parallel long[])
+ * - Reads are lock-free on an immutable snapshot, writes replace the snapshot (copy-on-write)
+ * - Writes made inside a transaction are applied only after commit
+ * - Writes made while a reload is reading the database are logged and replayed onto the reloaded snapshot
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankPuzzlePool {
+
+    private final TrainingPuzzleRepository trainingPuzzleRepository;
+    private final CommunityPuzzleRepository communityPuzzleRepository;
+
+    private final Object writeLock = new Object();
+    // null until the first load
+    private volatile Map<PuzzleType, Snapshot> snapshots;
+    // Writes applied since the oldest running reload started; guarded by writeLock
+    private final List<Change> changeLog = new ArrayList<>();
+    private int activeReloads;
+
+    /**
+     * Returns up to windowSize puzzles of the given type whose rating is closest to targetRating,
+     * in order of closeness. Binary search to the target, then expand outward one entry at a time.
+     */
+    public List<RankPuzzleCandidate> pickNearest(PuzzleType type, double targetRating, int windowSize, LongPredicate filter) {
+        ensureLoaded();
+        Snapshot snapshot = snapshot(type);
+
+        double[] ratings = snapshot.ratings();
+        long[] ids = snapshot.ids();
+
+        int right = lowerBound(ratings, targetRating);
+        int left = right - 1;
+
+        List<RankPuzzleCandidate> result = new ArrayList<>(windowSize);
+        while (result.size() < windowSize && (left >= 0 || right < ratings.length)) {
+            int next;
+            if (left < 0) {
+                next = right++;
+            } else if (right >= ratings.length) {
+                next = left--;
+            } else if (targetRating - ratings[left] <= ratings[right] - targetRating) {
+                next = left--;
+            } else {
+                next = right++;
+            }
+
+            if (filter.test(ids[next])) {
+                result.add(new RankPuzzleCandidate(type, ids[next], ratings[next]));
+            }
+        }
+        return result;
+    }
+
+    public void put(PuzzleType type, long puzzleId, double rating) {
+        runAfterCommit(() -> apply(type, snapshot -> snapshot.without(puzzleId).with(puzzleId, rating)));
+    }
+
+    // One copy of the snapshot for many puzzles, e.g. a bulk import
+    public void putAll(PuzzleType type, Map<Long, Double> ratings) {
+        if (ratings.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> apply(type, snapshot -> snapshot.withAll(ratings)));
+    }
+
+    public void remove(PuzzleType type, long puzzleId) {
+        runAfterCommit(() -> apply(type, snapshot -> snapshot.without(puzzleId)));
+    }
+
+    public int size(PuzzleType type) {
+        ensureLoaded();
+        return snapshot(type).ratings().length;
+    }
+
+    /**
+     * Full reload from the database, reconciling any increment that was missed (e.g. another node's write)
+     */
+    @Scheduled(fixedRate = 1000 * 60 * 10) // Runs every 10 minutes
+    public void refresh() {
+        int replayFrom;
+        synchronized (writeLock) {
+            activeReloads++;
+            replayFrom = changeLog.size();
+        }
+
+        Map<PuzzleType, Snapshot> loaded = null;
+        try {
+            loaded = load();
+        } finally {
+            synchronized (writeLock) {
+                activeReloads--;
+                if (loaded != null) {
+                    // The database read may predate these writes, so apply them on top of it
+                    for (Change change : changeLog.subList(replayFrom, changeLog.size())) {
+                        loaded.put(change.type(), change.update().apply(loaded.get(change.type())));
+                    }
+                    snapshots = loaded;
+                }
+                if (activeReloads == 0) {
+                    changeLog.clear();
+                }
+            }
+        }
+        log.info("Rank puzzle pool loaded: training={}, community={}",
+                loaded.get(PuzzleType.TRAINING).ratings().length, loaded.get(PuzzleType.COMMUNITY).ratings().length);
+    }
+
+    private Map<PuzzleType, Snapshot> load() {
+        Map<PuzzleType, Snapshot> loaded = new EnumMap<>(PuzzleType.class);
+        loaded.put(PuzzleType.TRAINING, Snapshot.of(trainingPuzzleRepository.findAllRankCandidates()));
+        loaded.put(PuzzleType.COMMUNITY, Snapshot.of(communityPuzzleRepository.findAllRankCandidates()));
+        return loaded;
+    }
+
+    private void ensureLoaded() {
+        if (snapshots == null) {
+            synchronized (writeLock) {
+                if (snapshots == null) {
+                    refresh();
+                }
+            }
+        }
+    }
+
+    private Snapshot snapshot(PuzzleType type) {
+        return snapshots.getOrDefault(type, Snapshot.EMPTY);
+    }
+
+    private void apply(PuzzleType type, UnaryOperator<Snapshot> update) {
+        synchronized (writeLock) {
+            if (activeReloads > 0) {
+                changeLog.add(new Change(type, update));
+            }
+            if (snapshots == null) {
+                // not loaded yet; the first load reads or replays this change
+                return;
+            }
+            Map<PuzzleType, Snapshot> updated = new EnumMap<>(snapshots);
+            updated.put(type, update.apply(updated.getOrDefault(type, Snapshot.EMPTY)));
+            snapshots = updated;
+        }
+    }
+
+    // First index whose rating is >= target
+    private static int lowerBound(double[] ratings, double target) {
+        int lo = 0;
+        int hi = ratings.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ratings[mid] < target) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private record Change(PuzzleType type, UnaryOperator<Snapshot> update) {
+    }
+
+    private record Snapshot(double[] ratings, long[] ids) {
+
+        static final Snapshot EMPTY = new Snapshot(new double[0], new long[0]);
+
+        // rows must already be sorted by rating
+        static Snapshot of(List<RankCandidateProjection> sorted) {
+            int n = sorted.size();
+            double[] ratings = new double[n];
+            long[] ids = new long[n];
+            for (int i = 0; i < n; i++) {
+                RankCandidateProjection row = sorted.get(i);
+                ratings[i] = row.getRating();
+                ids[i] = row.getId();
+            }
+            return new Snapshot(ratings, ids);
+        }
+
+        Snapshot with(long id, double rating) {
+            int n = ratings.length;
+            int at = lowerBound(ratings, rating);
+
+            double[] newRatings = new double[n + 1];
+            long[] newIds = new long[n + 1];
+
+            System.arraycopy(ratings, 0, newRatings, 0, at);
+            System.arraycopy(ids, 0, newIds, 0, at);
+
+            newRatings[at] = rating;
+            newIds[at] = id;
+
+            System.arraycopy(ratings, at, newRatings, at + 1, n - at);
+            System.arraycopy(ids, at, newIds, at + 1, n - at);
+
+            return new Snapshot(newRatings, newIds);
+        }
+
+        Snapshot withAll(Map<Long, Double> added) {
+            List<Map.Entry<Long, Double>> entries = new ArrayList<>(ratings.length + added.size());
+            for (int i = 0; i < ratings.length; i++) {
+                if (!added.containsKey(ids[i])) {
+                    entries.add(Map.entry(ids[i], ratings[i]));
+                }
+            }
+            entries.addAll(added.entrySet());
+            entries.sort(Map.Entry.comparingByValue());
+
+            double[] newRatings = new double[entries.size()];
+            long[] newIds = new long[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                newRatings[i] = entries.get(i).getValue();
+                newIds[i] = entries.get(i).getKey();
+            }
+            return new Snapshot(newRatings, newIds);
+        }
+
+        Snapshot without(long id) {
+            int at = -1;
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    at = i;
+                    break;
+                }
+            }
+            if (at < 0) return this;
+
+            int n = ratings.length;
+            double[] newRatings = new double[n - 1];
+            long[] newIds = new long[n - 1];
+
+            System.arraycopy(ratings, 0, newRatings, 0, at);
+            System.arraycopy(ids, 0, newIds, 0, at);
+
+            System.arraycopy(ratings, at + 1, newRatings, at, n - at - 1);
+            System.arraycopy(ids, at + 1, newIds, at, n - at - 1);
+
+            return new Snapshot(newRatings, newIds);
+        }
+    }
+}
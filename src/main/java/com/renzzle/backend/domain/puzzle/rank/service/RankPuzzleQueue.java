@@ -0,0 +1,98 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankPuzzleQueueRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankSeenPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.QueuedRankPuzzle;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankPuzzleCandidate;
+import com.renzzle.backend.domain.puzzle.shared.util.ELOUtils;
+import com.renzzle.backend.domain.user.domain.UserEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static com.renzzle.backend.domain.puzzle.shared.util.ELOUtils.WIN_PROBABILITY_DELTA;
+
+/**
+ * Per-session queue of rank puzzles picked in the background,
+ * so that answering a puzzle can assign the next one without a candidate search.
+ * - refill() picks candidates around both ratings the next answer can lead to (solved / failed)
+ * - peek() lists the queued candidates usable for the rating actually needed; the caller resolves and claims one
+ */
+@Component
+@RequiredArgsConstructor
+public class RankPuzzleQueue {
+
+    private static final int WINDOW_SIZE_PER_PATH = 4;
+    private static final double MAX_RATING_GAP = 200.0;
+
+    private final RankPuzzleQueueRepository rankPuzzleQueueRepository;
+    private final RankSeenPuzzleRepository rankSeenPuzzleRepository;
+    private final RankPuzzlePool rankPuzzlePool;
+
+    @Value("${rank.session.ttl}")
+    private long sessionTTLSeconds;
+
+    /**
+     * Queued candidates not yet seen and close enough to the desired rating, in random order.
+     * Nothing is removed here: the caller discards the one it assigns once the session transition has succeeded,
+     * so a request that loses the session race leaves the queue as it was.
+     */
+    public List<RankPuzzleCandidate> peek(UserEntity user, double mmr, double targetWinProbability) {
+        List<QueuedRankPuzzle> queued = rankPuzzleQueueRepository.findAll(user.getId());
+        if (queued.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> seen = rankSeenPuzzleRepository.findAll(user.getId());
+        double desiredRating = ELOUtils.getProblemRatingForTargetWinProbability(mmr, targetWinProbability);
+
+        List<RankPuzzleCandidate> eligible = new ArrayList<>();
+        for (QueuedRankPuzzle puzzle : queued) {
+            if (!seen.contains(RankSeenPuzzleRepository.member(puzzle.type(), puzzle.puzzleId()))
+                    && Math.abs(puzzle.rating() - desiredRating) < MAX_RATING_GAP) {
+                eligible.add(new RankPuzzleCandidate(puzzle.type(), puzzle.puzzleId(), puzzle.rating()));
+            }
+        }
+        Collections.shuffle(eligible);
+        return eligible;
+    }
+
+    // Drops a puzzle that was assigned, or found stale, so it is not served out of the queue again
+    public void discard(Long userId, PuzzleType type, long puzzleId) {
+        rankPuzzleQueueRepository.remove(userId, type, puzzleId);
+    }
+
+    public void clear(Long userId) {
+        rankPuzzleQueueRepository.deleteAll(userId);
+    }
+
+    // Rebuilds the queue for the puzzle that was just assigned (rated lastProblemRating), from the in-memory pool only
+    @Async
+    public void refill(Long userId, double mmr, double lastProblemRating, double targetWinProbability) {
+        double solvedTarget = ELOUtils.getProblemRatingForTargetWinProbability(
+                mmr + ELOUtils.calculateMMRIncrease(mmr, lastProblemRating),
+                targetWinProbability - WIN_PROBABILITY_DELTA);
+        double failedTarget = ELOUtils.getProblemRatingForTargetWinProbability(
+                mmr + ELOUtils.calculateMMRDecrease(mmr, lastProblemRating),
+                targetWinProbability + WIN_PROBABILITY_DELTA);
+
+        Set<String> seen = rankSeenPuzzleRepository.findAll(userId);
+        Map<String, QueuedRankPuzzle> wanted = new LinkedHashMap<>();
+        for (double target : new double[]{solvedTarget, failedTarget}) {
+            for (PuzzleType type : PuzzleType.values()) {
+                List<RankPuzzleCandidate> candidates = rankPuzzlePool.pickNearest(type, target, WINDOW_SIZE_PER_PATH,
+                        puzzleId -> !seen.contains(RankSeenPuzzleRepository.member(type, puzzleId)));
+                for (RankPuzzleCandidate candidate : candidates) {
+                    wanted.putIfAbsent(RankSeenPuzzleRepository.member(type, candidate.puzzleId()),
+                            new QueuedRankPuzzle(type, candidate.puzzleId(), candidate.rating()));
+                }
+            }
+        }
+
+        rankPuzzleQueueRepository.replaceAll(userId, new ArrayList<>(wanted.values()), sessionTTLSeconds);
+    }
+}
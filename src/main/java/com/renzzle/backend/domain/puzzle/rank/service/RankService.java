@@ -1,17 +1,25 @@
 package com.renzzle.backend.domain.puzzle.rank.service;
 
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
 import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.content.util.YearWeek;
 import com.renzzle.backend.domain.puzzle.rank.api.request.RankResultRequest;
 import com.renzzle.backend.domain.puzzle.rank.api.response.*;
 import com.renzzle.backend.domain.puzzle.rank.dao.LatestRankPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankOutcomeLogRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankSeenPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankSessionRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankingRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.projection.PuzzlerActivityProjection;
 import com.renzzle.backend.domain.puzzle.rank.domain.LatestRankPuzzle;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankOutcomeLog;
 import com.renzzle.backend.domain.puzzle.rank.domain.RankSessionData;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingEntry;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingWindow;
 import com.renzzle.backend.domain.puzzle.rank.service.dto.NextPuzzleResult;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankPuzzleCandidate;
 import com.renzzle.backend.domain.puzzle.shared.util.ELOUtils;
 import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzle;
 import com.renzzle.backend.domain.user.dao.UserRepository;
 import com.renzzle.backend.domain.user.domain.UserEntity;
 import com.renzzle.backend.global.exception.CustomException;
@@ -19,38 +27,44 @@ import com.renzzle.backend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
-import java.util.function.Predicate;
-import java.util.function.ToDoubleFunction;
 
 import static com.renzzle.backend.domain.puzzle.shared.util.ELOUtils.TARGET_WIN_PROBABILITY;
 import static com.renzzle.backend.domain.puzzle.shared.util.ELOUtils.WIN_PROBABILITY_DELTA;
 import static com.renzzle.backend.global.common.constant.ItemPrice.RANK_REWARD;
+import static com.renzzle.backend.global.util.TransactionUtils.runAfterCommit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RankService {
 
-    private final RedisTemplate<String, RankSessionData> redisTemplate;
+    public static final int MAX_AROUND_SIZE = 50;
+    // Keeps the previous weeks' boards readable for a while after the week ends
+    private static final Duration WEEKLY_RANKING_TTL = Duration.ofDays(35);
+
+    private final RankSessionRepository rankSessionRepository;
     private final TrainingPuzzleRepository trainingPuzzleRepository;
     private final CommunityPuzzleRepository communityPuzzleRepository;
     private final UserRepository userRepository;
     private final LatestRankPuzzleRepository latestRankPuzzleRepository;
-    private final UserCommunityPuzzleRepository userCommunityPuzzleRepository;
     private final Clock clock;
-    private final RedisTemplate<String, Object> redisRankingTemplate;
+    private final RankingRepository rankingRepository;
+    private final RankPuzzlePool rankPuzzlePool;
+    private final RankSeenPuzzleRepository rankSeenPuzzleRepository;
+    private final RankPuzzleQueue rankPuzzleQueue;
+    private final RatingHistoryService ratingHistoryService;
+    private final RankOutcomeLogRepository rankOutcomeLogRepository;
 
     @Value("${rank.session.ttl}")
     private long sessionTTLSeconds;
@@ -59,21 +73,22 @@ public class RankService {
         UserEntity user = userRepository.findById(userData.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_USER));
         Long userId = user.getId();
-        String redisKey = String.valueOf(userId);
 
         List<LatestRankPuzzle> existingPuzzles = latestRankPuzzleRepository.findAllByUser(user);
         if (!existingPuzzles.isEmpty()) {
             latestRankPuzzleRepository.deleteAll(existingPuzzles);
         }
+        rankSeenPuzzleRepository.deleteAll(userId);
+        rankPuzzleQueue.clear(userId);
 
         double originalMmr = user.getMmr();
         double originalRating = user.getRating();
 
         NextPuzzleResult puzzleResult = getNextPuzzle(originalMmr, TARGET_WIN_PROBABILITY, user);
-        LatestRankPuzzle latestPuzzle = puzzleResult.latestPuzzle();
         double puzzleRating = puzzleResult.rating();
 
-        latestRankPuzzleRepository.save(latestPuzzle);
+        latestRankPuzzleRepository.save(toLatestRankPuzzle(puzzleResult, user, originalMmr));
+        rankSeenPuzzleRepository.add(userId, puzzleResult.type(), puzzleResult.puzzleId(), sessionTTLSeconds);
 
         double mmrPenalty = ELOUtils.calculateMMRDecrease(originalRating, puzzleRating);
         double ratingPenalty = ELOUtils.calculateRatingDecrease(originalMmr, puzzleRating);
@@ -81,23 +96,28 @@ public class RankService {
         user.updateMmrTo(originalMmr + mmrPenalty);
         user.updateRatingTo(originalRating + ratingPenalty);
         userRepository.save(user);
+        rankingRepository.add(RankingRepository.RATING_KEY, userId, user.getNickname(), user.getRating());
+        recordWeeklyRatingGain(user, user.getRating() - originalRating);
+        ratingHistoryService.record(user, clock.instant());
 
         RankSessionData sessionData = new RankSessionData();
 
         sessionData.setUserId(userId);
-        sessionData.setBoardState(latestPuzzle.getBoardStatus());
+        sessionData.setBoardState(puzzleResult.boardStatus());
         sessionData.setLastProblemRating(puzzleRating);
         sessionData.setMmrBeforePenalty(originalMmr);
         sessionData.setRatingBeforePenalty(originalRating);
         sessionData.setTargetWinProbability(TARGET_WIN_PROBABILITY);
-        sessionData.setWinnerColor(latestPuzzle.getWinColor().getName());
+        sessionData.setWinnerColor(puzzleResult.winColor());
         sessionData.setStarted(true);
 
-        redisTemplate.opsForValue().set(redisKey, sessionData, sessionTTLSeconds, TimeUnit.SECONDS);
+        rankSessionRepository.save(sessionData, sessionTTLSeconds);
+        rankPuzzleQueue.refill(userId, originalMmr, puzzleRating, TARGET_WIN_PROBABILITY);
 
         return RankStartResponse.builder()
                 .boardStatus(sessionData.getBoardState())
                 .winColor(sessionData.getWinnerColor())
+                .version(sessionData.getVersion())
                 .build();
     }
 
@@ -107,28 +127,27 @@ public class RankService {
         UserEntity user = userRepository.findById(userData.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_USER));
 
-        String redisKey = String.valueOf(user.getId());
-        RankSessionData session = redisTemplate.opsForValue().get(redisKey);
-
-        if (session == null) {
-            throw new CustomException(ErrorCode.EMPTY_SESSION_DATA);
-        }
+        RankSessionData session = rankSessionRepository.findByUserId(user.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.EMPTY_SESSION_DATA));
 
         if (!session.isStarted()) {
             throw new CustomException(ErrorCode.EMPTY_SESSION_DATA);
         }
-
-        Long currentTTL = redisTemplate.getExpire(redisKey, TimeUnit.SECONDS);
-        if (currentTTL == null || currentTTL <= 0) {
-            throw new CustomException(ErrorCode.INVALID_SESSION_TTL);
+        // A retry of an answer that was already scored carries the version the session has since moved past
+        if (session.getVersion() != request.version()) {
+            throw new CustomException(ErrorCode.RANK_SESSION_CONFLICT);
         }
+        double ratingBeforeResult = user.getRating();
 
         // Look up the previous puzzle and update whether it was solved
         LatestRankPuzzle previousPuzzle = latestRankPuzzleRepository
                 .findTopByUserOrderByAssignedAtDesc(user)
                 .orElseThrow(() -> new CustomException(ErrorCode.LATEST_PUZZLE_NOT_FOUND));
 
-        previousPuzzle.solvedUpdate(request.isSolved());
+        previousPuzzle.solvedUpdate(request.isSolved(), clock.instant());
+        if (previousPuzzle.getSolverMmr() != null) {
+            rankOutcomeLogRepository.save(RankOutcomeLog.of(previousPuzzle));
+        }
 
         double userBeforeMmr = session.getMmrBeforePenalty();
         double userBeforeRating = session.getRatingBeforePenalty();
@@ -162,9 +181,12 @@ public class RankService {
             userBeforeRating = userBeforeRating + ratingDecrease;
         }
 
-        // Fetch a suitable puzzle based on the user's rating & target win probability
-        NextPuzzleResult puzzleResult = getNextPuzzle(userBeforeMmr, winProbability, user);
-        LatestRankPuzzle latestPuzzle = puzzleResult.latestPuzzle();
+        // Fetch a suitable puzzle based on the user's rating & target win probability,
+        // preferring one already prepared in the session queue
+        Optional<NextPuzzleResult> queuedResult = pollQueue(user, userBeforeMmr, winProbability);
+        NextPuzzleResult puzzleResult = queuedResult.isPresent()
+                ? queuedResult.get()
+                : getNextPuzzle(userBeforeMmr, winProbability, user);
         double puzzleRating = puzzleResult.rating();
 
         double ratingPenalty = ELOUtils.calculateRatingDecrease(userBeforeRating, puzzleRating);
@@ -175,58 +197,61 @@ public class RankService {
 
         userRepository.save(user);
 
-        LatestRankPuzzle nextPuzzle = LatestRankPuzzle.builder()
-                .user(user)
-                .boardStatus(latestPuzzle.getBoardStatus())
-                .answer(latestPuzzle.getAnswer())
-                .isSolved(false)
-                .assignedAt(clock.instant())
-                .winColor(latestPuzzle.getWinColor())
-                .build();
+        latestRankPuzzleRepository.save(toLatestRankPuzzle(puzzleResult, user, userBeforeMmr));
 
-        latestRankPuzzleRepository.save(nextPuzzle);
-
-        session.setBoardState(latestPuzzle.getBoardStatus());
+        session.setBoardState(puzzleResult.boardStatus());
         session.setLastProblemRating(puzzleRating);
-        session.setWinnerColor(latestPuzzle.getWinColor().getName());
+        session.setWinnerColor(puzzleResult.winColor());
         session.setMmrBeforePenalty(userBeforeMmr);
         session.setRatingBeforePenalty(userBeforeRating);
         session.setTargetWinProbability(winProbability);
+        session.setAttemptedCount(session.getAttemptedCount() + 1);
+        if (request.isSolved()) {
+            session.setSolvedCount(session.getSolvedCount() + 1);
+        }
 
-        redisTemplate.opsForValue().set(redisKey, session, currentTTL, TimeUnit.SECONDS);
+        ratingHistoryService.record(user, clock.instant());
+        // Surface database errors before the session moves on
+        userRepository.flush();
+
+        // Fails (and rolls back the rating update) if the session expired or another request already advanced it.
+        // Last statement before commit, so nothing after it can roll back the database once the session advanced.
+        rankSessionRepository.transition(session, request.version());
+
+        double nextMmr = userBeforeMmr;
+        double nextWinProbability = winProbability;
+        runAfterCommit(() -> {
+            // Claimed only now, so a request that lost the session race leaves the queue untouched
+            rankPuzzleQueue.discard(user.getId(), puzzleResult.type(), puzzleResult.puzzleId());
+            rankSeenPuzzleRepository.add(user.getId(), puzzleResult.type(), puzzleResult.puzzleId(), sessionTTLSeconds);
+            rankingRepository.add(RankingRepository.RATING_KEY, user.getId(), user.getNickname(), user.getRating());
+            recordWeeklyRatingGain(user, user.getRating() - ratingBeforeResult);
+            rankPuzzleQueue.refill(user.getId(), nextMmr, puzzleRating, nextWinProbability);
+        });
 
         return RankResultResponse.builder()
-                .boardStatus(latestPuzzle.getBoardStatus())
-                .winColor(latestPuzzle.getWinColor().getName())
+                .boardStatus(puzzleResult.boardStatus())
+                .winColor(puzzleResult.winColor())
+                .version(session.getVersion())
                 .build();
     }
 
+    @Transactional
     public RankEndResponse endRankGame(UserEntity userData) {
-        String redisKey = String.valueOf(userData.getId());
-        RankSessionData session = redisTemplate.opsForValue().get(redisKey);
+        RankSessionData session = rankSessionRepository.removeByUserId(userData.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.EMPTY_SESSION_DATA));
 
-        if (session == null) {
-            throw new CustomException(ErrorCode.EMPTY_SESSION_DATA);
-        }
         if (!session.isStarted()) {
             throw new CustomException(ErrorCode.IS_NOT_STARTED);
         }
+        rankSeenPuzzleRepository.deleteAll(userData.getId());
+        rankPuzzleQueue.clear(userData.getId());
 
-        redisTemplate.delete(redisKey);
-
-        List<LatestRankPuzzle> solvedPuzzles = latestRankPuzzleRepository.findAllByUser(userData).stream()
-                .filter(LatestRankPuzzle::getIsSolved)
-                .toList();
-
-        int solvedCount = solvedPuzzles.size();
-        int reward = solvedCount * RANK_REWARD.getPrice();
-
-        UserEntity user = userRepository.findById(userData.getId())
-                .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_USER));
-
-        user.getReward(reward);
-        userRepository.save(user);
-
+        // The session counts its own solves, so no history has to be read here
+        int reward = session.getSolvedCount() * RANK_REWARD.getPrice();
+        if (reward > 0 && userRepository.addUserCurrency(userData.getId(), reward) == 0) {
+            throw new CustomException(ErrorCode.CANNOT_FIND_USER);
+        }
 
         return RankEndResponse.builder()
                 .rating(userData.getRating())
@@ -237,25 +262,20 @@ public class RankService {
     NextPuzzleResult getNextPuzzle(double originalMmr, double targetWinProbability, UserEntity user) {
         /*
             Fetch a suitable puzzle based on the user's rating & target win probability.
-            From each puzzle source, select windowSize candidates,
+            From each puzzle source, select the windowSize candidates closest to the desired rating,
             shuffle them, then pick one of them to use as the next puzzle.
         */
         double desiredRating = ELOUtils.getProblemRatingForTargetWinProbability(originalMmr, targetWinProbability);
         int windowSize = 5;
 
-        // Fetch each puzzle candidate pool (sorted by rating)
-        List<TrainingPuzzle> trainingPuzzles =
-                trainingPuzzleRepository.findAvailableTrainingPuzzlesSortedByRating(user);
-        List<CommunityPuzzle> communityPuzzles =
-                communityPuzzleRepository.findAvailableCommunityPuzzlesSortedByRating(user);
-
-        // Slicing utility
-        List<TrainingPuzzle> selectedTrainings = pickNearByWindow(trainingPuzzles, desiredRating, windowSize);
-        List<CommunityPuzzle> selectedCommunities = pickNearByWindow(communityPuzzles, desiredRating, windowSize);
+        // Exclude puzzles already assigned to this user in the current session
+        Set<String> seen = rankSeenPuzzleRepository.findAll(user.getId());
 
-        List<Object> allCandidates = new ArrayList<>();
-        allCandidates.addAll(selectedTrainings);
-        allCandidates.addAll(selectedCommunities);
+        List<RankPuzzleCandidate> allCandidates = new ArrayList<>();
+        allCandidates.addAll(rankPuzzlePool.pickNearest(PuzzleType.TRAINING, desiredRating, windowSize,
+                puzzleId -> !seen.contains(RankSeenPuzzleRepository.member(PuzzleType.TRAINING, puzzleId))));
+        allCandidates.addAll(rankPuzzlePool.pickNearest(PuzzleType.COMMUNITY, desiredRating, windowSize,
+                puzzleId -> !seen.contains(RankSeenPuzzleRepository.member(PuzzleType.COMMUNITY, puzzleId))));
 
         if (allCandidates.isEmpty()) {
             throw new CustomException(ErrorCode.CANNOT_FIND_RANK_PUZZLE);
@@ -263,70 +283,51 @@ public class RankService {
 
         Collections.shuffle(allCandidates);
 
-        Object selected = allCandidates.get(0);
-
-        if (selected instanceof TrainingPuzzle puzzle) {
-            LatestRankPuzzle latest = LatestRankPuzzle.builder()
-                    .user(user)
-                    .boardStatus(puzzle.getBoardStatus())
-                    .answer(puzzle.getAnswer())
-                    .isSolved(false)
-                    .assignedAt(clock.instant())
-                    .winColor(puzzle.getWinColor())
-                    .build();
-
-            return new NextPuzzleResult(latest, puzzle.getRating());
-        }
-
-        if (selected instanceof CommunityPuzzle puzzle) {
-            LatestRankPuzzle latest = LatestRankPuzzle.builder()
-                    .user(user)
-                    .boardStatus(puzzle.getBoardStatus())
-                    .answer(puzzle.getAnswer())
-                    .isSolved(false)
-                    .assignedAt(clock.instant())
-                    .winColor(puzzle.getWinColor())
-                    .build();
-
-            return new NextPuzzleResult(latest, puzzle.getRating());
+        // A candidate can be stale if it was removed on another node; drop it and try the next one
+        for (RankPuzzleCandidate candidate : allCandidates) {
+            Optional<NextPuzzleResult> result = resolveCandidate(candidate);
+            if (result.isPresent()) {
+                return result.get();
+            }
+            rankPuzzlePool.remove(candidate.type(), candidate.puzzleId());
         }
-        throw new CustomException(ErrorCode.INVALID_RANK_PUZZLE_TYPE);
+        throw new CustomException(ErrorCode.CANNOT_FIND_RANK_PUZZLE);
     }
 
-    private <T> List<T> pickNearByWindow(List<T> sorted, double targetRating, int windowSize) {
-        /*
-            1. From puzzles with a rating difference under 200, select windowSize of them (if possible)
-            2. If there are not windowSize puzzles under 200, select the closest windowSize puzzles without the rating-difference limit
-        */
-        if (sorted.isEmpty()) return Collections.emptyList();
-
-        double maxDiff = 200.0;
-
-        // First pass: select windowSize within a difference under 200
-        List<T> within200 = new ArrayList<>();
-        for (T item : sorted) {
-            double rating = getRating(item);
-            if (Math.abs(rating - targetRating) < maxDiff) {
-                within200.add(item);
+    // Queued entries are only references; each is read again so a deleted, unverified or edited puzzle is never served
+    private Optional<NextPuzzleResult> pollQueue(UserEntity user, double mmr, double targetWinProbability) {
+        for (RankPuzzleCandidate candidate : rankPuzzleQueue.peek(user, mmr, targetWinProbability)) {
+            Optional<NextPuzzleResult> result = resolveCandidate(candidate);
+            if (result.isPresent()) {
+                return result;
             }
+            rankPuzzleQueue.discard(user.getId(), candidate.type(), candidate.puzzleId());
+            rankPuzzlePool.remove(candidate.type(), candidate.puzzleId());
         }
-        within200.sort(Comparator.comparingDouble(o -> Math.abs(getRating(o) - targetRating)));
-        if (within200.size() >= windowSize) {
-            return within200.subList(0, windowSize);
-        }
+        return Optional.empty();
+    }
 
-        // Second pass: select windowSize in order of closeness without a limit
-        List<T> sortedByClosest = new ArrayList<>(sorted);
-        sortedByClosest.sort(Comparator.comparingDouble(o -> Math.abs(getRating(o) - targetRating)));
-        int limit = Math.min(windowSize, sortedByClosest.size());
-        return sortedByClosest.subList(0, limit);
+    private Optional<NextPuzzleResult> resolveCandidate(RankPuzzleCandidate candidate) {
+        return switch (candidate.type()) {
+            case TRAINING -> trainingPuzzleRepository.findById(candidate.puzzleId())
+                    .map(puzzle -> new NextPuzzleResult(PuzzleType.TRAINING, puzzle.getId(), puzzle.getRating(),
+                            puzzle.getBoardStatus(), puzzle.getAnswer(), puzzle.getWinColor().getName()));
+            case COMMUNITY -> communityPuzzleRepository.findById(candidate.puzzleId())
+                    .filter(puzzle -> Boolean.TRUE.equals(puzzle.getIsVerified()))
+                    .map(puzzle -> new NextPuzzleResult(PuzzleType.COMMUNITY, puzzle.getId(), puzzle.getRating(),
+                            puzzle.getBoardStatus(), puzzle.getAnswer(), puzzle.getWinColor().getName()));
+        };
     }
 
-    // Utility to extract a puzzle's rating
-    private double getRating(Object obj) {
-        if (obj instanceof TrainingPuzzle tp) return tp.getRating();
-        if (obj instanceof CommunityPuzzle cp) return cp.getRating();
-        return 0.0;
+    private LatestRankPuzzle toLatestRankPuzzle(NextPuzzleResult puzzleResult, UserEntity user, double solverMmr) {
+        return LatestRankPuzzle.builder()
+                .user(user)
+                .puzzleType(puzzleResult.type())
+                .puzzleId(puzzleResult.puzzleId())
+                .isSolved(false)
+                .assignedAt(clock.instant())
+                .solverMmr(solverMmr)
+                .build();
     }
 
     @Transactional
@@ -337,198 +338,232 @@ public class RankService {
 
         List<LatestRankPuzzle> puzzles = latestRankPuzzleRepository.findAllByUserOrderByAssignedAtAsc(user);
 
-        return puzzles.stream()
-                .map(puzzle -> RankArchive.builder()
-                        .boardStatus(puzzle.getBoardStatus())
-                        .answer(puzzle.getAnswer())
-                        .isSolved(puzzle.getIsSolved())
-                        .winColor(puzzle.getWinColor().getName())
-                        .build())
-                .toList();
+        // Resolve the referenced puzzles with one query per puzzle type
+        Set<Long> trainingIds = new HashSet<>();
+        Set<Long> communityIds = new HashSet<>();
+        for (LatestRankPuzzle puzzle : puzzles) {
+            if (puzzle.getPuzzleType() == PuzzleType.TRAINING) {
+                trainingIds.add(puzzle.getPuzzleId());
+            } else {
+                communityIds.add(puzzle.getPuzzleId());
+            }
+        }
+
+        Map<Long, RankArchive> trainingArchives = new HashMap<>();
+        if (!trainingIds.isEmpty()) {
+            trainingPuzzleRepository.findAllById(trainingIds).forEach(puzzle -> trainingArchives.put(puzzle.getId(),
+                    toRankArchive(puzzle.getBoardStatus(), puzzle.getAnswer(), puzzle.getWinColor().getName())));
+        }
+        Map<Long, RankArchive> communityArchives = new HashMap<>();
+        if (!communityIds.isEmpty()) {
+            communityPuzzleRepository.findAllById(communityIds).forEach(puzzle -> communityArchives.put(puzzle.getId(),
+                    toRankArchive(puzzle.getBoardStatus(), puzzle.getAnswer(), puzzle.getWinColor().getName())));
+        }
+
+        List<RankArchive> result = new ArrayList<>(puzzles.size());
+        for (LatestRankPuzzle puzzle : puzzles) {
+            Map<Long, RankArchive> source = puzzle.getPuzzleType() == PuzzleType.TRAINING ? trainingArchives : communityArchives;
+            RankArchive archive = source.get(puzzle.getPuzzleId());
+            // The source puzzle has been removed since it was assigned
+            if (archive == null) {
+                continue;
+            }
+            result.add(archive.toBuilder()
+                    .isSolved(puzzle.getIsSolved())
+                    .build());
+        }
+        return result;
+    }
+
+    private static RankArchive toRankArchive(String boardStatus, String answer, String winColor) {
+        return RankArchive.builder()
+                .boardStatus(boardStatus)
+                .answer(answer)
+                .winColor(winColor)
+                .build();
     }
 
     @Transactional(readOnly = true)
     public GetRatingRankingResponse getRatingRanking(UserEntity userData) {
-        String key = "user:ranking";
+        return GetRatingRankingResponse.builder()
+                .top100(getRatingTop100())
+                .myRatingRank(getMyRatingRank(userData))
+                .build();
+    }
 
-        List<UserRatingRankInfo> top100 = extractTopRankedUsers(
-                key,
-                UserRatingRankInfo::rating,
-                (rank, info) -> UserRatingRankInfo.builder()
+    @Transactional(readOnly = true)
+    public GetPuzzlerRankingResponse getPuzzlerRanking(UserEntity user) {
+        return GetPuzzlerRankingResponse.builder()
+                .top100(getPuzzlerTop100())
+                .myPuzzlerRank(getMyPuzzlerRank(user))
+                .build();
+    }
+
+    // Same for every user; served pre-rendered by RankingSnapshotService
+    public List<UserRatingRankInfo> getRatingTop100() {
+        return extractTopRankedUsers(
+                RankingRepository.RATING_KEY,
+                (rank, entry) -> UserRatingRankInfo.builder()
                         .rank(rank)
-                        .nickname(info.nickname())
-                        .rating(info.rating())
+                        .nickname(entry.nickname())
+                        .rating(entry.score())
                         .build()
         );
+    }
 
-        int myRank = findMyRank(
-                key,
-                info -> info.nickname().equals(userData.getNickname()),
-                UserRatingRankInfo::rating
+    public UserRatingRankInfo getMyRatingRank(UserEntity user) {
+        return UserRatingRankInfo.builder()
+                .rank(findMyRank(RankingRepository.RATING_KEY, user.getId()))
+                .nickname(user.getNickname())
+                .rating(user.getRating())
+                .build();
+    }
+
+    // Same for every user; served pre-rendered by RankingSnapshotService
+    public List<UserPuzzlerRankInfo> getPuzzlerTop100() {
+        return extractTopRankedUsers(
+                RankingRepository.PUZZLER_KEY,
+                (rank, entry) -> UserPuzzlerRankInfo.builder()
+                        .rank(rank)
+                        .nickname(entry.nickname())
+                        .score(entry.score())
+                        .build()
         );
+    }
 
-        UserRatingRankInfo myInfo = UserRatingRankInfo.builder()
-                .rank(myRank)
-                .nickname(userData.getNickname())
-                .rating(userData.getRating())
-                .build();
+    public UserPuzzlerRankInfo getMyPuzzlerRank(UserEntity user) {
+        String key = RankingRepository.PUZZLER_KEY;
+        Optional<Double> myScore = rankingRepository.findScore(key, user.getId());
 
-        return GetRatingRankingResponse.builder()
-                .top100(top100)
-                .myRatingRank(myInfo)
+        return UserPuzzlerRankInfo.builder()
+                .rank(myScore.map(score -> tieAwareRank(key, score)).orElse(-1))
+                .nickname(user.getNickname())
+                .score(myScore.orElse(0.0))
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public GetPuzzlerRankingResponse getPuzzlerRanking(UserEntity user) {
-        String key = "user:puzzler:ranking";
+    // The caller and up to size users directly above and below them on the rating leaderboard
+    public List<UserRatingRankInfo> getRatingRankingAround(UserEntity user, int size) {
+        String key = RankingRepository.RATING_KEY;
+        int count = Math.max(0, Math.min(size, MAX_AROUND_SIZE));
 
-        List<UserPuzzlerRankInfo> top100 = extractTopRankedUsers(
-                key,
-                UserPuzzlerRankInfo::score,
-                (rank, info) -> UserPuzzlerRankInfo.builder()
+        Optional<RankingWindow> window = rankingRepository.findAround(key, user.getId(), count);
+        if (window.isEmpty() || window.get().entries().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<RankingEntry> entries = window.get().entries();
+        // Only the first entry can tie with users outside the window
+        int firstRank = tieAwareRank(key, entries.get(0).score());
+        return rankEntries(entries, window.get().offset(), firstRank,
+                (rank, entry) -> UserRatingRankInfo.builder()
                         .rank(rank)
-                        .nickname(info.nickname())
-                        .score(info.score())
-                        .build()
-        );
+                        .nickname(entry.nickname())
+                        .rating(entry.score())
+                        .build());
+    }
+
+    /**
+     * Rating gained during the given week (the current week when year/week are null).
+     * The rating field of each entry holds the gain, which can be negative.
+     */
+    public GetRatingRankingResponse getWeeklyRatingRanking(UserEntity user, Integer year, Integer week) {
+        YearWeek yearWeek = (year == null || week == null)
+                ? YearWeek.from(LocalDate.now(clock))
+                : YearWeek.of(year, week);
+        String key = RankingRepository.weeklyRatingKey(yearWeek);
 
-        int myRank = findMyRank(
+        List<UserRatingRankInfo> top100 = extractTopRankedUsers(
                 key,
-                info -> info.nickname().equals(user.getNickname()),
-                UserPuzzlerRankInfo::score
+                (rank, entry) -> UserRatingRankInfo.builder()
+                        .rank(rank)
+                        .nickname(entry.nickname())
+                        .rating(entry.score())
+                        .build()
         );
 
-        // My score may not be retrievable from Redis, so compute it separately or default to 0
-        double myScore = top100.stream()
-                .filter(i -> i.nickname().equals(user.getNickname()))
-                .findFirst()
-                .map(UserPuzzlerRankInfo::score)
-                .orElse(0.0);
+        Optional<Double> myGain = rankingRepository.findScore(key, user.getId());
 
-        UserPuzzlerRankInfo myInfo = UserPuzzlerRankInfo.builder()
-                .rank(myRank)
+        UserRatingRankInfo myInfo = UserRatingRankInfo.builder()
+                .rank(myGain.map(gain -> tieAwareRank(key, gain)).orElse(-1))
                 .nickname(user.getNickname())
-                .score(myScore)
+                .rating(myGain.orElse(0.0))
                 .build();
 
-        return GetPuzzlerRankingResponse.builder()
+        return GetRatingRankingResponse.builder()
                 .top100(top100)
-                .myPuzzlerRank(myInfo)
+                .myRatingRank(myInfo)
                 .build();
     }
 
+    private void recordWeeklyRatingGain(UserEntity user, double gain) {
+        String key = RankingRepository.weeklyRatingKey(YearWeek.from(LocalDate.now(clock)));
+        rankingRepository.incrementScore(key, user.getId(), user.getNickname(), gain, WEEKLY_RANKING_TTL);
+    }
 
-    @SuppressWarnings("unchecked")
-    private <T, R> List<R> extractTopRankedUsers(
-            String key,
-            ToDoubleFunction<T> scoreExtractor,
-            BiFunction<Integer, T, R> builder
-    ) {
-        Set<ZSetOperations.TypedTuple<Object>> rawSet =
-                Optional.ofNullable(redisRankingTemplate.opsForZSet()
-                                .reverseRangeWithScores(key, 0, 99))
-                        .orElse(Collections.emptySet());
-
-        List<R> result = new ArrayList<>();
-        int currentRank = 1;
-        double lastScore = -1;
-        int rankCounter = 0;
-
-        for (ZSetOperations.TypedTuple<Object> tuple : rawSet) {
-            T obj = (T) tuple.getValue();
-            double score = scoreExtractor.applyAsDouble(obj);
-            rankCounter++;
-
-            if (Double.compare(score, lastScore) != 0) {
-                currentRank = rankCounter;
-                lastScore = score;
-            }
+    private <R> List<R> extractTopRankedUsers(String key, BiFunction<Integer, RankingEntry, R> builder) {
+        return rankEntries(rankingRepository.findTop(key, RankingRepository.TOP_SIZE), 0, 1, builder);
+    }
 
-            result.add(builder.apply(currentRank, obj));
+    // Entries sharing a score share a rank; otherwise the rank is the 1-based position on the leaderboard
+    private static <R> List<R> rankEntries(List<RankingEntry> entries, long offset, int firstRank,
+                                           BiFunction<Integer, RankingEntry, R> builder) {
+        List<R> result = new ArrayList<>(entries.size());
+        int currentRank = firstRank;
+
+        for (int i = 0; i < entries.size(); i++) {
+            RankingEntry entry = entries.get(i);
+            if (i > 0 && Double.compare(entry.score(), entries.get(i - 1).score()) != 0) {
+                currentRank = (int) (offset + i + 1);
+            }
+            result.add(builder.apply(currentRank, entry));
         }
 
         return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> int findMyRank(
-            String key,
-            Predicate<T> isMyself,
-            ToDoubleFunction<T> scoreExtractor
-    ) {
-        Set<ZSetOperations.TypedTuple<Object>> fullSet =
-                Optional.ofNullable(redisRankingTemplate.opsForZSet()
-                                .reverseRangeWithScores(key, 0, -1))
-                        .orElse(Collections.emptySet());
-
-        int tieAwareRank = 1;
-        double lastScore = -1;
-        int rankCounter = 0;
-
-        for (ZSetOperations.TypedTuple<Object> tuple : fullSet) {
-            T obj = (T) tuple.getValue();
-            double score = scoreExtractor.applyAsDouble(obj);
-            rankCounter++;
-
-            if (Double.compare(score, lastScore) != 0) {
-                tieAwareRank = rankCounter;
-                lastScore = score;
-            }
-
-            if (isMyself.test(obj)) {
-                return tieAwareRank;
-            }
-        }
+    // -1 when the user is not on the leaderboard
+    private int findMyRank(String key, Long userId) {
+        return rankingRepository.findScore(key, userId)
+                .map(score -> tieAwareRank(key, score))
+                .orElse(-1);
+    }
 
-        return -1;
+    // Users with the same score share a rank: 1 + number of strictly higher scores
+    private int tieAwareRank(String key, double score) {
+        return (int) rankingRepository.countHigherThan(key, score) + 1;
     }
 
     @Scheduled(fixedRate = 1000 * 60 * 60) // Runs every 60 minutes
     public void updateRankingCache() {
-        String rankingKey = "user:ranking";
-        String puzzlerRankingKey = "user:puzzler:ranking";
+        String rankingKey = RankingRepository.RATING_KEY;
+        String puzzlerRankingKey = RankingRepository.PUZZLER_KEY;
 
         Instant oneMonthAgo = Instant.now(clock).minus(30, ChronoUnit.DAYS);
+        rankingRepository.beginRebuild(rankingKey);
         List<UserEntity> activeRatingUsers = latestRankPuzzleRepository.findActiveUsersWithinPeriod(oneMonthAgo);
 
-        redisRankingTemplate.delete(rankingKey);
-
+        List<RankingEntry> ratingEntries = new ArrayList<>(activeRatingUsers.size());
         for (UserEntity user : activeRatingUsers) {
-            UserRatingRankInfo info = UserRatingRankInfo.builder()
-                    .rank(0)
-                    .nickname(user.getNickname())
-                    .rating(user.getRating())
-                    .build();
-
-            redisRankingTemplate.opsForZSet().add(rankingKey, info, user.getRating());
+            ratingEntries.add(new RankingEntry(user.getId(), user.getNickname(), user.getRating()));
         }
-        List<UserEntity> creators = communityPuzzleRepository.findUsersWhoCreatedPuzzlesSince(oneMonthAgo);
-        List<UserEntity> solvers = userCommunityPuzzleRepository.findUsersWhoSolvedPuzzlesSince(oneMonthAgo);
-
-        Set<UserEntity> activePuzzlerUsers = new HashSet<>();
-        activePuzzlerUsers.addAll(creators);
-        activePuzzlerUsers.addAll(solvers);
-
-        redisRankingTemplate.delete(puzzlerRankingKey);
+        rankingRepository.replaceAll(rankingKey, ratingEntries);
 
-        for (UserEntity user : activePuzzlerUsers) {
-            long a = userCommunityPuzzleRepository.countSolvedByUser(user.getId());
-            long b = communityPuzzleRepository.countByAuthor(user.getId());
-            int likes = communityPuzzleRepository.sumLikesByUser(user.getId());
-            int dislikes = communityPuzzleRepository.sumDislikesByUser(user.getId());
-            int c = Math.max(0, likes - dislikes);
+        List<PuzzlerActivityProjection> activities = communityPuzzleRepository.findPuzzlerActivitiesSince(oneMonthAgo);
 
-            double score = Math.log((a + 1.0) * Math.pow(b + 1.0, 2) * Math.pow(c + 1.0, 3) + 1) * 100;
-            score = Math.floor(score);
+        List<RankingEntry> puzzlerEntries = new ArrayList<>(activities.size());
+        for (PuzzlerActivityProjection activity : activities) {
+            puzzlerEntries.add(new RankingEntry(activity.getUserId(), activity.getNickname(), calculatePuzzlerScore(activity)));
+        }
+        rankingRepository.replaceAll(puzzlerRankingKey, puzzlerEntries);
+    }
 
-            UserPuzzlerRankInfo info = UserPuzzlerRankInfo.builder()
-                    .rank(0)
-                    .nickname(user.getNickname())
-                    .score(score)
-                    .build();
+    static double calculatePuzzlerScore(PuzzlerActivityProjection activity) {
+        long a = activity.getSolvedCount();
+        long b = activity.getAuthoredCount();
+        long c = Math.max(0, activity.getLikeSum() - activity.getDislikeSum());
 
-            redisRankingTemplate.opsForZSet().add(puzzlerRankingKey, info, score);
-        }
+        double score = Math.log((a + 1.0) * Math.pow(b + 1.0, 2) * Math.pow(c + 1.0, 3) + 1) * 100;
+        return Math.floor(score);
     }
 }
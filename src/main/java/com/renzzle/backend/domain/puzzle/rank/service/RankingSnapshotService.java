@@ -0,0 +1,71 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankingRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankingSnapshotRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingSnapshot;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import com.renzzle.backend.global.util.ApiUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Top-100 leaderboard responses rendered once per leaderboard version.
+ * - A request costs one MGET of the version counters when the local snapshot is current
+ * - Otherwise the snapshot another instance already rendered is reused from Redis, or it is rendered here
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingSnapshotService {
+
+    private final RankService rankService;
+    private final RankingRepository rankingRepository;
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, RankingSnapshot> localSnapshots = new ConcurrentHashMap<>();
+
+    public RankingSnapshot getRatingTop100() {
+        return getSnapshot(RankingRepository.RATING_KEY, rankService::getRatingTop100);
+    }
+
+    public RankingSnapshot getPuzzlerTop100() {
+        return getSnapshot(RankingRepository.PUZZLER_KEY, rankService::getPuzzlerTop100);
+    }
+
+    private RankingSnapshot getSnapshot(String key, Supplier<?> renderer) {
+        String version = rankingRepository.findVersion(key);
+
+        RankingSnapshot local = localSnapshots.get(key);
+        if (local != null && local.version().equals(version)) {
+            return local;
+        }
+
+        RankingSnapshot snapshot = rankingSnapshotRepository.find(key)
+                .filter(shared -> shared.version().equals(version))
+                .orElseGet(() -> render(key, version, renderer));
+        localSnapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    private RankingSnapshot render(String key, String version, Supplier<?> renderer) {
+        RankingSnapshot snapshot;
+        try {
+            snapshot = RankingSnapshot.of(version, objectMapper.writeValueAsBytes(ApiUtils.success(renderer.get())));
+        } catch (JsonProcessingException e) {
+            throw new CustomException("랭킹 스냅샷 직렬화에 실패했습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        // Only share it if the leaderboard did not change while it was being rendered
+        if (version.equals(rankingRepository.findVersion(key))) {
+            rankingSnapshotRepository.save(key, snapshot);
+        }
+        return snapshot;
+    }
+}
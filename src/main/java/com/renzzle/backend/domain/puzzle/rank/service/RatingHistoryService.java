@@ -0,0 +1,71 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.renzzle.backend.domain.puzzle.rank.dao.RatingHistoryRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.RatingHistory;
+import com.renzzle.backend.domain.puzzle.rank.domain.RatingHistoryPoint;
+import com.renzzle.backend.domain.user.domain.UserEntity;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-user rating history, one row per user per UTC month.
+ * A range read touches one row per month instead of one row per rank result.
+ */
+@Service
+@RequiredArgsConstructor
+public class RatingHistoryService {
+
+    public static final int DEFAULT_RANGE_DAYS = 30;
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private final RatingHistoryRepository ratingHistoryRepository;
+    private final Clock clock;
+
+    // Appends the user's current rating and mmr
+    @Transactional
+    public void record(UserEntity user, Instant recordedAt) {
+        int period = RatingHistory.periodOf(recordedAt);
+        RatingHistory history = ratingHistoryRepository.findByUserIdAndPeriod(user.getId(), period)
+                .orElseGet(() -> RatingHistory.empty(user, period));
+
+        history.append(recordedAt, user.getRating(), user.getMmr());
+        ratingHistoryRepository.save(history);
+    }
+
+    // Points between from and to (inclusive, UTC dates); defaults to the last DEFAULT_RANGE_DAYS days
+    @Transactional(readOnly = true)
+    public List<RatingHistoryPoint> getHistory(Long userId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(clock.withZone(ZoneOffset.UTC));
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_RATING_HISTORY_RANGE);
+        }
+
+        Instant startAt = start.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant endAt = end.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        List<RatingHistory> months = ratingHistoryRepository.findAllByUserIdAndPeriodBetweenOrderByPeriodAsc(
+                userId, RatingHistory.periodOf(startAt), RatingHistory.periodOf(end.atStartOfDay(ZoneOffset.UTC).toInstant()));
+
+        List<RatingHistoryPoint> result = new ArrayList<>();
+        for (RatingHistory month : months) {
+            for (RatingHistoryPoint point : month.decodePoints()) {
+                if (!point.recordedAt().isBefore(startAt) && point.recordedAt().isBefore(endAt)) {
+                    result.add(point);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -1,8 +1,12 @@
 package com.renzzle.backend.domain.puzzle.rank.service.dto;
 
-import com.renzzle.backend.domain.puzzle.rank.domain.LatestRankPuzzle;
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
 
 public record NextPuzzleResult(
-        LatestRankPuzzle latestPuzzle,
-        double rating
+        PuzzleType type,
+        long puzzleId,
+        double rating,
+        String boardStatus,
+        String answer,
+        String winColor
 ) {}
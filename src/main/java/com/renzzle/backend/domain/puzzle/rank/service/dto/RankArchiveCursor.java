@@ -0,0 +1,39 @@
+package com.renzzle.backend.domain.puzzle.rank.service.dto;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RankArchiveEntry;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keyset position in a user's rank archive, ordered by (assignedAt, id).
+ * Sent to clients as "{assignedAt}_{id}", e.g. "2025-01-01T00:00:00.123Z_42".
+ */
+public record RankArchiveCursor(Instant assignedAt, long id) {
+
+    private static final char SEPARATOR = '_';
+
+    public static RankArchiveCursor of(RankArchiveEntry entry) {
+        return new RankArchiveCursor(entry.assignedAt(), entry.id());
+    }
+
+    public static RankArchiveCursor decode(String cursor) {
+        int separator = cursor.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw new CustomException(ErrorCode.INVALID_ARCHIVE_CURSOR);
+        }
+        try {
+            return new RankArchiveCursor(
+                    Instant.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_ARCHIVE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return assignedAt.toString() + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,9 @@
+package com.renzzle.backend.domain.puzzle.rank.service.dto;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+
+public record RankPuzzleCandidate(
+        PuzzleType type,
+        long puzzleId,
+        double rating
+) {}
@@ -0,0 +1,78 @@
+package com.renzzle.backend.domain.puzzle.rank.util;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RatingHistoryPoint;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta encoding of rating history points.
+ * Each point is three zigzag varints: seconds, rating and mmr differences from the previous point.
+ * Ratings are kept in hundredths, so a typical point takes 4 to 6 bytes.
+ */
+public class RatingHistoryCodec {
+
+    private RatingHistoryCodec() {}
+
+    private static final double SCALE = 100.0;
+    private static final int MAX_POINT_BYTES = 30;
+
+    public static long quantize(double value) {
+        return Math.round(value * SCALE);
+    }
+
+    public static byte[] encodePoint(long deltaSeconds, long deltaRating, long deltaMmr) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(MAX_POINT_BYTES);
+        writeVarLong(out, deltaSeconds);
+        writeVarLong(out, deltaRating);
+        writeVarLong(out, deltaMmr);
+        return out.toByteArray();
+    }
+
+    // baseEpochSecond is what the first point's time delta is relative to; ratings start from 0
+    public static List<RatingHistoryPoint> decode(byte[] data, long baseEpochSecond) {
+        List<RatingHistoryPoint> points = new ArrayList<>();
+        long seconds = baseEpochSecond;
+        long rating = 0;
+        long mmr = 0;
+
+        int[] position = {0};
+        while (position[0] < data.length) {
+            seconds += readVarLong(data, position);
+            rating += readVarLong(data, position);
+            mmr += readVarLong(data, position);
+            points.add(new RatingHistoryPoint(Instant.ofEpochSecond(seconds), rating / SCALE, mmr / SCALE));
+        }
+        return points;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private static long readVarLong(byte[] data, int[] position) {
+        long zigzag = 0;
+        int shift = 0;
+        while (true) {
+            if (position[0] >= data.length || shift > 63) {
+                throw new CustomException("레이팅 기록 데이터가 손상되었습니다.", ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+            byte b = data[position[0]++];
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
@@ -6,6 +6,8 @@ public class ELOUtils {
 
     private static final double K_MMR = 20.0;
     private static final double K_RATING = 10.0;
+    private static final double K_PUZZLE = 8.0;
+    private static final double MAX_PUZZLE_RATING_CHANGE = 100.0;
     private static final double MMR_THRESHOLD = 1500.0;
     private static final double HIGH_REWARD = 0.5;
     private static final double LOW_REWARD = 1.5;
@@ -50,4 +52,10 @@ public class ELOUtils {
         double expected = expectedWinProbability(userRating, problemRating);
         return Math.round(-K_RATING * (1 - expected) * getPenaltyMultiplier(userRating));
     }
+
+    // Rating change of a puzzle over a batch of rank outcomes: solved more often than its rating predicts means it is easier
+    public static double calculatePuzzleRatingChange(double expectedSolves, int actualSolves) {
+        double change = K_PUZZLE * (expectedSolves - actualSolves);
+        return Math.round(Math.max(-MAX_PUZZLE_RATING_CHANGE, Math.min(MAX_PUZZLE_RATING_CHANGE, change)));
+    }
 }
@@ -4,6 +4,7 @@ import com.renzzle.backend.domain.puzzle.training.api.response.*;
 import com.renzzle.backend.domain.puzzle.training.domain.Pack;
 import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzle;
 import com.renzzle.backend.domain.puzzle.training.api.request.*;
+import com.renzzle.backend.domain.puzzle.training.service.TrainingPuzzleImportService;
 import com.renzzle.backend.domain.puzzle.training.service.TrainingService;
 import com.renzzle.backend.global.common.response.ApiResponse;
 import com.renzzle.backend.global.security.UserDetailsImpl;
@@ -12,8 +13,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -22,7 +27,10 @@ import java.util.List;
 @Tag(name = "Training Puzzle API", description = "Training Puzzle API")
 public class TrainingController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private final TrainingService trainingService;
+    private final TrainingPuzzleImportService trainingPuzzleImportService;
 
     @Operation(summary = "Add training puzzle", description = "Add training puzzle & Only admins are available")
     @PostMapping("/puzzle")
@@ -34,6 +42,19 @@ public class TrainingController {
         return ApiUtils.success(puzzle.getId());
     }
 
+    @Operation(summary = "Import training puzzles", description = "Append NDJSON (one puzzle object per line) or CSV (boardStatus,answer,depth,winColor) puzzles to a pack, reporting rejected lines & Only admins are available")
+    @PostMapping(value = "/puzzle/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ApiResponse<ImportTrainingPuzzleResponse> importTrainingPuzzles(
+            @RequestParam("packId") Long packId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        boolean csv = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV);
+        ImportTrainingPuzzleResponse response = trainingPuzzleImportService.importPuzzles(packId, body, csv);
+
+        return ApiUtils.success(response);
+    }
+
     @Operation(summary = "Modify training puzzle", description = "Modify training puzzle & Only admins are available")
     @PatchMapping("/puzzle/{puzzleId}")
     public ApiResponse<Long> modifyTrainingPuzzle(
@@ -45,6 +66,17 @@ public class TrainingController {
         return ApiUtils.success(puzzle.getId());
     }
 
+    @Operation(summary = "Reorder training puzzle", description = "Move training puzzle right after another one (to the front when afterPuzzleId is null) & Only admins are available")
+    @PatchMapping("/puzzle/{puzzleId}/order")
+    public ApiResponse<Long> reorderTrainingPuzzle(
+            @PathVariable("puzzleId") Long puzzleId,
+            @RequestBody ReorderTrainingPuzzleRequest request
+    ) {
+        TrainingPuzzle puzzle = trainingService.reorderTrainingPuzzle(puzzleId, request);
+
+        return ApiUtils.success(puzzle.getId());
+    }
+
     @Operation(summary = "Delete training puzzle", description = "Delete training puzzle & Only admins are available")
     @DeleteMapping("puzzle/{puzzleId}")
     public ApiResponse<Object> deleteTrainingPuzzle(@PathVariable("puzzleId") Long puzzleId) {
@@ -63,6 +95,17 @@ public class TrainingController {
         return ApiUtils.success(response);
     }
 
+    @Operation(summary = "Sync solved training puzzles", description = "Apply solves recorded offline in one request; already solved puzzles are skipped")
+    @PostMapping("/puzzle/solves")
+    public ApiResponse<SyncTrainingSolvesResponse> syncSolvedTrainingPuzzles(
+            @Valid @RequestBody SyncTrainingSolvesRequest request,
+            @AuthenticationPrincipal UserDetailsImpl user) {
+
+        SyncTrainingSolvesResponse response = trainingService.syncSolvedTrainingPuzzles(user.getUser(), request);
+
+        return ApiUtils.success(response);
+    }
+
     @Operation(summary = "Get training puzzle data", description = "Return training puzzle list")
     @GetMapping("puzzle/{pack}")
     public ApiResponse<List<GetTrainingPuzzleResponse>> getTrainingPuzzle(
@@ -0,0 +1,6 @@
+package com.renzzle.backend.domain.puzzle.training.api.request;
+
+public record ReorderTrainingPuzzleRequest(
+        // null moves the puzzle to the front of its pack
+        Long afterPuzzleId
+) { }
@@ -0,0 +1,25 @@
+package com.renzzle.backend.domain.puzzle.training.api.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SyncTrainingSolvesRequest(
+        @NotEmpty(message = "동기화할 풀이 기록이 없습니다")
+        @Size(max = 500, message = "풀이 기록은 한 번에 500개까지 동기화할 수 있습니다")
+        List<@Valid @NotNull SolveRecord> solves
+) {
+    public record SolveRecord(
+            @NotNull(message = "퍼즐 정보가 없습니다")
+            Long puzzleId,
+
+            // when the puzzle was solved offline; null or future values are replaced by the server time
+            Instant solvedAt,
+
+            boolean reward
+    ) { }
+}
@@ -0,0 +1,17 @@
+package com.renzzle.backend.domain.puzzle.training.api.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ImportTrainingPuzzleResponse(
+        int totalCount,
+        int importedCount,
+        List<RowError> errors
+) {
+    public record RowError(
+            int line,
+            String reason
+    ) { }
+}
@@ -0,0 +1,12 @@
+package com.renzzle.backend.domain.puzzle.training.api.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record SyncTrainingSolvesResponse(
+        int solvedCount,
+        int reward,
+        List<Long> unknownPuzzleIds
+) { }
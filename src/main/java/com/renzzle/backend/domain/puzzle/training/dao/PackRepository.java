@@ -21,6 +21,15 @@ public interface PackRepository extends JpaRepository<Pack, Long> {
             nativeQuery = true)
     void increasePuzzleCount(@Param("packId") Long packId);
 
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE pack " +
+            "SET puzzle_count = puzzle_count + :count " +
+            "WHERE id = :packId",
+            nativeQuery = true)
+    void increasePuzzleCountBy(@Param("packId") Long packId,
+                               @Param("count") int count);
+
     @Modifying
     @Transactional
     @Query(value = "UPDATE pack " +
@@ -32,4 +41,7 @@ public interface PackRepository extends JpaRepository<Pack, Long> {
     List<Pack> findByDifficulty(Difficulty difficulty);
 
     Optional<Pack> findFirstByOrderByIdAsc();
+
+    @Query("SELECT p FROM Pack p JOIN FETCH p.difficulty")
+    List<Pack> findAllWithDifficulty();
 }
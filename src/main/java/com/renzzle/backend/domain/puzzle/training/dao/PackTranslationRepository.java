@@ -4,6 +4,7 @@ import com.renzzle.backend.domain.puzzle.training.domain.Pack;
 import com.renzzle.backend.domain.puzzle.training.domain.PackTranslation;
 import com.renzzle.backend.global.common.domain.LangCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,4 +18,7 @@ public interface PackTranslationRepository extends JpaRepository<PackTranslation
 
     boolean existsByPackAndLangCode(Pack pack, LangCode languageCode);
 
+    @Query("SELECT t FROM PackTranslation t JOIN FETCH t.pack JOIN FETCH t.langCode")
+    List<PackTranslation> findAllWithPackAndLangCode();
+
 }
@@ -0,0 +1,82 @@
+package com.renzzle.backend.domain.puzzle.training.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Solved training puzzles of a user as a Redis bitmap, one bit per puzzle id.
+ * Bit 0 marks a bitmap that was fully loaded from the database (puzzle ids start at 1),
+ * so bits set by solves alone never pass for the complete set.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SolvedTrainingBitmapRepository {
+
+    private static final String KEY_PREFIX = "training:solved:";
+    private static final long LOADED_BIT = 0;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Solved ids among puzzleIds in one pipelined round trip; empty when the bitmap is not loaded
+    public Optional<Set<Long>> findSolved(Long userId, List<Long> puzzleIds) {
+        String key = key(userId);
+        List<Object> bits = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.getBit(key, LOADED_BIT);
+            for (Long puzzleId : puzzleIds) {
+                redis.getBit(key, puzzleId);
+            }
+            return null;
+        });
+
+        if (!Boolean.TRUE.equals(bits.get(0))) {
+            return Optional.empty();
+        }
+        Set<Long> solved = new HashSet<>();
+        for (int i = 0; i < puzzleIds.size(); i++) {
+            if (Boolean.TRUE.equals(bits.get(i + 1))) {
+                solved.add(puzzleIds.get(i));
+            }
+        }
+        return Optional.of(solved);
+    }
+
+    public void load(Long userId, Collection<Long> solvedIds, Duration ttl) {
+        String key = key(userId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Long puzzleId : solvedIds) {
+                redis.setBit(key, puzzleId, true);
+            }
+            redis.setBit(key, LOADED_BIT, true);
+            redis.expire(key, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    public void markSolved(Long userId, long puzzleId, Duration ttl) {
+        markSolvedAll(userId, List.of(puzzleId), ttl);
+    }
+
+    public void markSolvedAll(Long userId, Collection<Long> puzzleIds, Duration ttl) {
+        String key = key(userId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Long puzzleId : puzzleIds) {
+                redis.setBit(key, puzzleId, true);
+            }
+            redis.expire(key, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
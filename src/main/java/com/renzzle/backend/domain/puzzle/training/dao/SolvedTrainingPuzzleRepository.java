@@ -7,8 +7,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface SolvedTrainingPuzzleRepository extends JpaRepository<SolvedTrainingPuzzle, Long> {
 
@@ -20,6 +22,20 @@ public interface SolvedTrainingPuzzleRepository extends JpaRepository<SolvedTrai
 
     boolean existsByUserAndPuzzle(UserEntity user, TrainingPuzzle puzzle);
 
+    // Solved puzzle ids of a pack in one query, instead of one exists check per puzzle
+    @Query("SELECT s.puzzle.id FROM SolvedTrainingPuzzle s " +
+            "WHERE s.user.id = :userId AND s.puzzle.pack.id = :packId")
+    Set<Long> findSolvedPuzzleIds(@Param("userId") Long userId,
+                                  @Param("packId") Long packId);
+
+    @Query("SELECT s.puzzle.id FROM SolvedTrainingPuzzle s WHERE s.user.id = :userId")
+    Set<Long> findAllSolvedPuzzleIds(@Param("userId") Long userId);
+
+    @Query("SELECT s.puzzle.id FROM SolvedTrainingPuzzle s " +
+            "WHERE s.user.id = :userId AND s.puzzle.id IN :puzzleIds")
+    Set<Long> findSolvedPuzzleIdsIn(@Param("userId") Long userId,
+                                    @Param("puzzleIds") Collection<Long> puzzleIds);
+
     @Query(value = "SELECT COUNT(*) " +
             "FROM solved_lesson_puzzle sl " +
             "JOIN lesson_puzzle l ON sl.lesson_id = l.id " +
@@ -0,0 +1,30 @@
+package com.renzzle.backend.domain.puzzle.training.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Version counter of the training catalog, shared by every instance.
+ * A bump is also published on CHANNEL so other instances drop their catalog right away.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TrainingCatalogVersionRepository {
+
+    public static final String CHANNEL = "training:catalog";
+    private static final String VERSION_KEY = "training:catalog:version";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long findVersion() {
+        String value = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    public long bump() {
+        Long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+        stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(version));
+        return version;
+    }
+}
@@ -0,0 +1,93 @@
+package com.renzzle.backend.domain.puzzle.training.dao;
+
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleDraft;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC inserts for bulk training writes (puzzle imports, offline solve sync).
+ * IDENTITY ids make Hibernate insert row by row, so these paths bypass the entities and write in JDBC batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TrainingPuzzleBatchRepository {
+
+    public static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_PUZZLE =
+            "INSERT INTO training_puzzle " +
+            "(pack_id, training_index, board_status, board_key, answer, depth, rating, win_color, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SOLVED =
+            "INSERT INTO solved_training_puzzle (user_id, training_id, solved_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Rows get the keys firstKey, firstKey + gap, ... in list order; returns the generated ids in the same order
+    public List<Long> insertAll(Long packId, int firstKey, int gap, List<TrainingPuzzleDraft> drafts, Instant now) {
+        if (firstKey + (long) (drafts.size() - 1) * gap > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Training index out of range: firstKey=" + firstKey
+                    + ", gap=" + gap + ", count=" + drafts.size());
+        }
+        Timestamp timestamp = Timestamp.from(now);
+        List<Long> ids = new ArrayList<>(drafts.size());
+        for (int from = 0; from < drafts.size(); from += INSERT_BATCH_SIZE) {
+            int offset = from;
+            List<TrainingPuzzleDraft> batch = drafts.subList(from, Math.min(from + INSERT_BATCH_SIZE, drafts.size()));
+            BatchPreparedStatementSetter setter = new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement statement, int i) throws SQLException {
+                    TrainingPuzzleDraft draft = batch.get(i);
+                    statement.setLong(1, packId);
+                    statement.setInt(2, (int) (firstKey + (long) (offset + i) * gap));
+                    statement.setString(3, draft.boardStatus());
+                    statement.setString(4, draft.boardKey());
+                    statement.setString(5, draft.answer());
+                    statement.setInt(6, draft.depth());
+                    statement.setDouble(7, draft.rating());
+                    statement.setString(8, draft.winColor());
+                    statement.setTimestamp(9, timestamp);
+                    statement.setTimestamp(10, timestamp);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            };
+
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_PUZZLE, Statement.RETURN_GENERATED_KEYS),
+                    setter, keyHolder);
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        if (ids.size() != drafts.size()) {
+            throw new IllegalStateException("Expected " + drafts.size() + " generated ids but got " + ids.size());
+        }
+        return ids;
+    }
+
+    public void insertSolved(Long userId, Map<Long, Instant> solvedAtByPuzzleId) {
+        jdbcTemplate.batchUpdate(INSERT_SOLVED, solvedAtByPuzzleId.entrySet(), INSERT_BATCH_SIZE, (statement, entry) -> {
+            statement.setLong(1, userId);
+            statement.setLong(2, entry.getKey());
+            statement.setTimestamp(3, Timestamp.from(entry.getValue()));
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.renzzle.backend.domain.puzzle.training.dao;
+
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleOrderKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain JDBC access to the sparse training_index keys of a pack.
+ * Every ordering change takes the pack row lock first, so moves and renumbering of one pack never interleave.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TrainingPuzzleOrderRepository {
+
+    public static final int UPDATE_BATCH_SIZE = 500;
+
+    private static final String LOCK_PACK = "SELECT id FROM pack WHERE id = ? FOR UPDATE";
+
+    private static final String SELECT_KEYS =
+            "SELECT id, training_index FROM training_puzzle WHERE pack_id = ? ORDER BY training_index";
+
+    private static final String SELECT_LAST_KEY =
+            "SELECT COALESCE(MAX(training_index), 0) FROM training_puzzle WHERE pack_id = ?";
+
+    private static final String SELECT_CROWDED_PACKS =
+            "SELECT DISTINCT pack_id FROM (" +
+            "   SELECT pack_id, training_index - LAG(training_index) " +
+            "       OVER (PARTITION BY pack_id ORDER BY training_index) AS gap " +
+            "   FROM training_puzzle" +
+            ") gaps WHERE gaps.gap < ?";
+
+    private static final String UPDATE_KEY = "UPDATE training_puzzle SET training_index = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void lockPack(Long packId) {
+        jdbcTemplate.queryForList(LOCK_PACK, Long.class, packId);
+    }
+
+    public List<TrainingPuzzleOrderKey> findKeys(Long packId) {
+        return jdbcTemplate.query(SELECT_KEYS, (rs, rowNum) -> new TrainingPuzzleOrderKey(
+                rs.getLong("id"),
+                rs.getInt("training_index")
+        ), packId);
+    }
+
+    // 0 for an empty pack
+    public int findLastKey(Long packId) {
+        Integer lastKey = jdbcTemplate.queryForObject(SELECT_LAST_KEY, Integer.class, packId);
+        return lastKey != null ? lastKey : 0;
+    }
+
+    // Packs where two neighbouring keys are closer than minGap
+    public List<Long> findCrowdedPackIds(int minGap) {
+        return jdbcTemplate.queryForList(SELECT_CROWDED_PACKS, Long.class, minGap);
+    }
+
+    public int renumber(Long packId, int maxGap) {
+        return renumber(packId, maxGap, 0);
+    }
+
+    /**
+     * Spreads the keys of one pack to (position + 1) * gap, keeping the order, and returns the gap used.
+     * The gap is at most maxGap and shrinks with the pack size, so reservedSlots + 1 more keys still fit in an int after the last one.
+     * 0 when the pack cannot hold that many keys at all.
+     * Keys are never negative, so the first pass parks every row on a negative key to stay clear of (pack_id, training_index).
+     */
+    @Transactional
+    public int renumber(Long packId, int maxGap, int reservedSlots) {
+        lockPack(packId);
+        List<TrainingPuzzleOrderKey> keys = findKeys(packId);
+        int gap = (int) Math.min(maxGap, Integer.MAX_VALUE / (keys.size() + reservedSlots + 1L));
+        if (gap < 1) {
+            return 0;
+        }
+
+        List<Object[]> parked = new ArrayList<>(keys.size());
+        List<Object[]> spread = new ArrayList<>(keys.size());
+        for (int position = 0; position < keys.size(); position++) {
+            Long puzzleId = keys.get(position).puzzleId();
+            parked.add(new Object[]{-(position + 1), puzzleId});
+            spread.add(new Object[]{(position + 1) * gap, puzzleId});
+        }
+        batchUpdate(parked);
+        batchUpdate(spread);
+        return gap;
+    }
+
+    private void batchUpdate(List<Object[]> args) {
+        for (int from = 0; from < args.size(); from += UPDATE_BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPDATE_KEY, args.subList(from, Math.min(from + UPDATE_BATCH_SIZE, args.size())));
+        }
+    }
+}
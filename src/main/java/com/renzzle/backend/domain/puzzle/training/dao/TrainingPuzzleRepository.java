@@ -1,41 +1,19 @@
 package com.renzzle.backend.domain.puzzle.training.dao;
 
+import com.renzzle.backend.domain.puzzle.rank.dao.projection.RankCandidateProjection;
 import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzle;
 import com.renzzle.backend.domain.user.domain.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface TrainingPuzzleRepository extends JpaRepository<TrainingPuzzle, Long> {
 
-    @Query(value = "SELECT COALESCE(MAX(training_index), -1) " +
-            "FROM training_puzzle " +
-            "WHERE pack_id = :packId",
-            nativeQuery = true)
-    int findTopIndex(@Param("packId") Long packId);
-
-    @Modifying
-    @Transactional
-    @Query(value = "UPDATE training_puzzle " +
-            "SET training_index = training_index + 1 " +
-            "WHERE training_index >= :targetIdx AND pack_id = :packId",
-            nativeQuery = true)
-    void increaseIndexesFrom(@Param("packId") Long packId,
-                             @Param("targetIdx") int targetIdx);
-
-    @Modifying
-    @Transactional
-    @Query(value = "UPDATE training_puzzle " +
-            "SET training_index = training_index - 1 " +
-            "WHERE training_index > :targetIdx",
-            nativeQuery = true)
-    void decreaseIndexesFrom(@Param("targetIdx") int targetIdx);
-
     @Query(value = "SELECT * FROM training_puzzle " +
             "WHERE chapter = :chapter AND training_index = :index",
             nativeQuery = true)
@@ -49,12 +27,21 @@ public interface TrainingPuzzleRepository extends JpaRepository<TrainingPuzzle,
 
     List<TrainingPuzzle> findByPack_IdOrderByTrainingIndex(Long packId);
 
+    @Query("SELECT p FROM TrainingPuzzle p " +
+            "JOIN FETCH p.pack pack " +
+            "JOIN FETCH pack.difficulty " +
+            "WHERE p.id IN :puzzleIds")
+    List<TrainingPuzzle> findAllWithPackByIdIn(@Param("puzzleIds") Collection<Long> puzzleIds);
+
+    int countByPack_IdAndTrainingIndexLessThan(Long packId, int trainingIndex);
+
 
 
     @Query("SELECT p FROM TrainingPuzzle p " +
             "WHERE p.rating BETWEEN :minRating AND :maxRating " +
-            "AND p.boardStatus NOT IN (" +
-            "   SELECT lp.boardStatus FROM LatestRankPuzzle lp WHERE lp.user = :user" +
+            "AND p.id NOT IN (" +
+            "   SELECT lp.puzzleId FROM LatestRankPuzzle lp WHERE lp.user = :user " +
+            "   AND lp.puzzleType = com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType.TRAINING" +
             ")")
     List<TrainingPuzzle> findAvailablePuzzlesForUser(
             @Param("minRating") double minRating,
@@ -62,10 +49,11 @@ public interface TrainingPuzzleRepository extends JpaRepository<TrainingPuzzle,
             @Param("user") UserEntity user
     );
 
-    @Query("SELECT p FROM TrainingPuzzle p " +
-            "WHERE p.boardStatus NOT IN (" +
-            "    SELECT l.boardStatus FROM LatestRankPuzzle l WHERE l.user = :user" +
-            ") " +
+    @Query("SELECT p.id AS id, p.rating AS rating " +
+            "FROM TrainingPuzzle p " +
             "ORDER BY p.rating ASC")
-    List<TrainingPuzzle> findAvailableTrainingPuzzlesSortedByRating(@Param("user") UserEntity user);
+    List<RankCandidateProjection> findAllRankCandidates();
+
+    @Query("SELECT p.boardKey FROM TrainingPuzzle p WHERE p.boardKey IN :boardKeys")
+    Set<String> findExistingBoardKeys(@Param("boardKeys") Collection<String> boardKeys);
 }
@@ -21,6 +21,11 @@ public interface UserPackRepository extends JpaRepository<UserPack, Long> {
     @Query("UPDATE UserPack u SET u.solvedCount = u.solvedCount + 1 WHERE u.user.id = :userId AND u.pack.id = :packId")
     void increaseSolvedCount(@Param("userId") Long userId, @Param("packId") Long packId);
 
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserPack u SET u.solvedCount = u.solvedCount + :count WHERE u.user.id = :userId AND u.pack.id = :packId")
+    void increaseSolvedCountBy(@Param("userId") Long userId, @Param("packId") Long packId, @Param("count") int count);
+
     @Modifying
     @Transactional
     @Query("UPDATE UserPack u SET u.solvedCount = u.solvedCount - 1 " +
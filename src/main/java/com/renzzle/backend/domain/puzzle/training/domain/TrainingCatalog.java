@@ -0,0 +1,91 @@
+package com.renzzle.backend.domain.puzzle.training.domain;
+
+import com.renzzle.backend.global.common.domain.LangCode;
+
+import java.util.*;
+
+/**
+ * Immutable in-memory copy of the training pack catalog: packs, puzzle counts and translations per language.
+ * Built as a whole for one catalog version and never modified afterwards, so it can be shared between threads.
+ */
+public final class TrainingCatalog {
+
+    private static final String DEFAULT_LANG = LangCode.LangCodeName.EN.name();
+
+    private final long version;
+    // Ordered by pack id
+    private final Map<Long, CatalogPack> packsById;
+    private final Map<String, List<CatalogPack>> packsByDifficulty;
+
+    private TrainingCatalog(long version, Map<Long, CatalogPack> packsById, Map<String, List<CatalogPack>> packsByDifficulty) {
+        this.version = version;
+        this.packsById = packsById;
+        this.packsByDifficulty = packsByDifficulty;
+    }
+
+    public static TrainingCatalog of(long version, List<Pack> packs, List<PackTranslation> translations) {
+        Map<Long, Map<String, CatalogTranslation>> translationsByPack = new HashMap<>();
+        for (PackTranslation translation : translations) {
+            translationsByPack.computeIfAbsent(translation.getPack().getId(), id -> new HashMap<>())
+                    .put(translation.getLangCode().getName(), new CatalogTranslation(
+                            translation.getTitle(), translation.getAuthor(), translation.getDescription()));
+        }
+
+        List<Pack> sorted = new ArrayList<>(packs);
+        sorted.sort(Comparator.comparing(Pack::getId));
+
+        Map<Long, CatalogPack> packsById = new LinkedHashMap<>();
+        Map<String, List<CatalogPack>> packsByDifficulty = new HashMap<>();
+        for (Pack pack : sorted) {
+            CatalogPack catalogPack = new CatalogPack(
+                    pack.getId(),
+                    pack.getDifficulty().getName(),
+                    pack.getPrice(),
+                    pack.getPuzzleCount(),
+                    Map.copyOf(translationsByPack.getOrDefault(pack.getId(), Map.of())));
+            packsById.put(pack.getId(), catalogPack);
+            packsByDifficulty.computeIfAbsent(catalogPack.difficulty(), difficulty -> new ArrayList<>()).add(catalogPack);
+        }
+
+        Map<String, List<CatalogPack>> frozenByDifficulty = new HashMap<>();
+        packsByDifficulty.forEach((difficulty, list) -> frozenByDifficulty.put(difficulty, List.copyOf(list)));
+        return new TrainingCatalog(version, Collections.unmodifiableMap(packsById), Map.copyOf(frozenByDifficulty));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Optional<CatalogPack> findPack(Long packId) {
+        return Optional.ofNullable(packsById.get(packId));
+    }
+
+    public Optional<CatalogPack> findFirstPack() {
+        return packsById.values().stream().findFirst();
+    }
+
+    public List<CatalogPack> findPacksByDifficulty(String difficulty) {
+        return packsByDifficulty.getOrDefault(difficulty, List.of());
+    }
+
+    public record CatalogPack(
+            Long id,
+            String difficulty,
+            int price,
+            int puzzleCount,
+            Map<String, CatalogTranslation> translations
+    ) {
+        // The requested language, falling back to English
+        public Optional<CatalogTranslation> translation(String langCode) {
+            CatalogTranslation translation = translations.get(langCode);
+            return Optional.ofNullable(translation != null ? translation : translations.get(DEFAULT_LANG));
+        }
+    }
+
+    public record CatalogTranslation(
+            String title,
+            String author,
+            String description
+    ) {
+    }
+}
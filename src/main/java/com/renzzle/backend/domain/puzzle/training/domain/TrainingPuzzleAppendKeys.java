@@ -0,0 +1,9 @@
+package com.renzzle.backend.domain.puzzle.training.domain;
+
+/**
+ * Ordering keys for puzzles appended at the end of a pack: firstKey, firstKey + gap, ...
+ */
+public record TrainingPuzzleAppendKeys(
+        int firstKey,
+        int gap
+) { }
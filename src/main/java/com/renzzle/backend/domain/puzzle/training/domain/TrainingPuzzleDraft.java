@@ -0,0 +1,13 @@
+package com.renzzle.backend.domain.puzzle.training.domain;
+
+/**
+ * A validated training puzzle waiting to be inserted by a bulk import.
+ */
+public record TrainingPuzzleDraft(
+        String boardStatus,
+        String boardKey,
+        String answer,
+        int depth,
+        double rating,
+        String winColor
+) { }
@@ -0,0 +1,9 @@
+package com.renzzle.backend.domain.puzzle.training.domain;
+
+/**
+ * Ordering key of one training puzzle inside its pack (training_index).
+ */
+public record TrainingPuzzleOrderKey(
+        Long puzzleId,
+        int key
+) { }
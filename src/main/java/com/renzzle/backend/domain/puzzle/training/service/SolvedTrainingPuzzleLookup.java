@@ -0,0 +1,75 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.renzzle.backend.domain.puzzle.training.dao.SolvedTrainingBitmapRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.SolvedTrainingPuzzleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.renzzle.backend.global.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Which training puzzles of a pack a user has solved.
+ * - Default: one indexed query per pack
+ * - With training.solved-cache.enabled: a per-user Redis bitmap, loaded once from the database
+ *   and kept current by solves (after commit)
+ */
+@Component
+public class SolvedTrainingPuzzleLookup {
+
+    private static final Duration CACHE_TTL = Duration.ofDays(7);
+
+    private final SolvedTrainingPuzzleRepository solvedTrainingPuzzleRepository;
+    private final SolvedTrainingBitmapRepository solvedTrainingBitmapRepository;
+    private final boolean cacheEnabled;
+
+    public SolvedTrainingPuzzleLookup(SolvedTrainingPuzzleRepository solvedTrainingPuzzleRepository,
+                                      SolvedTrainingBitmapRepository solvedTrainingBitmapRepository,
+                                      @Value("${training.solved-cache.enabled:false}") boolean cacheEnabled) {
+        this.solvedTrainingPuzzleRepository = solvedTrainingPuzzleRepository;
+        this.solvedTrainingBitmapRepository = solvedTrainingBitmapRepository;
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public Set<Long> findSolvedIds(Long userId, Long packId, List<Long> puzzleIds) {
+        if (!cacheEnabled) {
+            return solvedTrainingPuzzleRepository.findSolvedPuzzleIds(userId, packId);
+        }
+
+        Optional<Set<Long>> cached = solvedTrainingBitmapRepository.findSolved(userId, puzzleIds);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Set<Long> allSolved = solvedTrainingPuzzleRepository.findAllSolvedPuzzleIds(userId);
+        solvedTrainingBitmapRepository.load(userId, allSolved, CACHE_TTL);
+
+        Set<Long> solved = new HashSet<>();
+        for (Long puzzleId : puzzleIds) {
+            if (allSolved.contains(puzzleId)) {
+                solved.add(puzzleId);
+            }
+        }
+        return solved;
+    }
+
+    public void markSolved(Long userId, Long puzzleId) {
+        if (!cacheEnabled) {
+            return;
+        }
+        runAfterCommit(() -> solvedTrainingBitmapRepository.markSolved(userId, puzzleId, CACHE_TTL));
+    }
+
+    public void markSolvedAll(Long userId, Collection<Long> puzzleIds) {
+        if (!cacheEnabled || puzzleIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(puzzleIds);
+        runAfterCommit(() -> solvedTrainingBitmapRepository.markSolvedAll(userId, ids, CACHE_TTL));
+    }
+}
@@ -0,0 +1,92 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.renzzle.backend.domain.puzzle.training.dao.PackRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.PackTranslationRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingCatalogVersionRepository;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingCatalog;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.renzzle.backend.global.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Holds the current TrainingCatalog of this instance.
+ * - Reads never touch the database while the held catalog is at least the newest known version
+ * - Admin writes bump the shared version after commit; other instances hear it through Redis pub/sub
+ * - A periodic version check covers a missed pub/sub message
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrainingCatalogCache implements MessageListener {
+
+    private final PackRepository packRepository;
+    private final PackTranslationRepository packTranslationRepository;
+    private final TrainingCatalogVersionRepository trainingCatalogVersionRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Object loadLock = new Object();
+    private final AtomicLong latestVersion = new AtomicLong(-1);
+    // null until the first load
+    private volatile TrainingCatalog catalog;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(TrainingCatalogVersionRepository.CHANNEL));
+    }
+
+    public TrainingCatalog get() {
+        TrainingCatalog current = catalog;
+        if (current != null && current.version() >= latestVersion.get()) {
+            return current;
+        }
+        synchronized (loadLock) {
+            current = catalog;
+            if (current == null || current.version() < latestVersion.get()) {
+                current = load();
+                catalog = current;
+            }
+            return current;
+        }
+    }
+
+    // Called by every write to packs, translations or puzzle counts
+    public void bumpVersion() {
+        runAfterCommit(() -> markVersion(trainingCatalogVersionRepository.bump()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        markVersion(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    @Scheduled(fixedRate = 1000 * 60) // Runs every minute
+    public void checkVersion() {
+        markVersion(trainingCatalogVersionRepository.findVersion());
+    }
+
+    private void markVersion(long version) {
+        latestVersion.accumulateAndGet(version, Math::max);
+    }
+
+    // The version is read before the data, so a concurrent bump always leads to another load
+    private TrainingCatalog load() {
+        long version = trainingCatalogVersionRepository.findVersion();
+        markVersion(version);
+        TrainingCatalog loaded = TrainingCatalog.of(version,
+                packRepository.findAllWithDifficulty(),
+                packTranslationRepository.findAllWithPackAndLangCode());
+        log.info("Training catalog loaded: version={}", version);
+        return loaded;
+    }
+}
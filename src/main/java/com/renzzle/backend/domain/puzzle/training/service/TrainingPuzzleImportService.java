@@ -0,0 +1,206 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.service.RankPuzzlePool;
+import com.renzzle.backend.domain.puzzle.shared.util.BoardUtils;
+import com.renzzle.backend.domain.puzzle.training.api.request.ImportTrainingPuzzleRow;
+import com.renzzle.backend.domain.puzzle.training.api.response.ImportTrainingPuzzleResponse;
+import com.renzzle.backend.domain.puzzle.training.api.response.ImportTrainingPuzzleResponse.RowError;
+import com.renzzle.backend.domain.puzzle.training.dao.PackRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleDraft;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.renzzle.backend.global.common.constant.DoubleConstant.DEFAULT_PUZZLE_RATING;
+
+/**
+ * Bulk import of training puzzles, appended to the end of one pack.
+ * - The upload is read line by line in chunks of CHUNK_SIZE, so memory does not grow with the file
+ * - Each chunk is parsed, validated and board-keyed in parallel outside any transaction
+ * - Valid rows of a chunk are committed together by TrainingPuzzleImportWriter, which holds the pack lock
+ *   only for that chunk; a failure keeps the chunks already committed
+ * - Invalid or duplicate rows are reported with their line number and skipped; the rest is imported
+ * - Committed puzzles join the rank pool per chunk, and the catalog version is bumped once per import
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrainingPuzzleImportService {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private static final String CSV_HEADER_PREFIX = "boardStatus";
+    private static final String INVALID_FORMAT = "형식이 올바르지 않습니다.";
+    private static final String DUPLICATED_BOARD = "이미 존재하는 보드입니다.";
+
+    private final PackRepository packRepository;
+    private final TrainingPuzzleRepository trainingPuzzleRepository;
+    private final TrainingPuzzleImportWriter trainingPuzzleImportWriter;
+    private final RankPuzzlePool rankPuzzlePool;
+    private final TrainingCatalogCache trainingCatalogCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Clock clock;
+
+    public ImportTrainingPuzzleResponse importPuzzles(Long packId, InputStream body, boolean csv) {
+        if (!packRepository.existsById(packId)) {
+            throw new CustomException(ErrorCode.NO_SUCH_TRAINING_PACK);
+        }
+
+        ImportProgress progress = new ImportProgress();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            List<RawLine> chunk = new ArrayList<>(CHUNK_SIZE);
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (csv && lineNumber == 1 && line.startsWith(CSV_HEADER_PREFIX))) {
+                    continue;
+                }
+                chunk.add(new RawLine(lineNumber, line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(packId, chunk, csv, progress);
+                    chunk.clear();
+                }
+            }
+            importChunk(packId, chunk, csv, progress);
+        } catch (IOException e) {
+            throw new CustomException("업로드 내용을 읽을 수 없습니다.", ErrorCode.VALIDATION_ERROR);
+        } finally {
+            if (progress.importedCount > 0) {
+                trainingCatalogCache.bumpVersion();
+            }
+        }
+        log.info("Training puzzles imported: packId={}, total={}, imported={}",
+                packId, progress.totalCount, progress.importedCount);
+
+        return ImportTrainingPuzzleResponse.builder()
+                .totalCount(progress.totalCount)
+                .importedCount(progress.importedCount)
+                .errors(progress.errors)
+                .build();
+    }
+
+    private void importChunk(Long packId, List<RawLine> chunk, boolean csv, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        // parallel() keeps the encounter order, so results line up with the chunk
+        List<ParsedLine> parsed = chunk.parallelStream()
+                .map(line -> parse(line, csv))
+                .toList();
+
+        List<String> boardKeys = parsed.stream()
+                .filter(line -> line.draft() != null)
+                .map(line -> line.draft().boardKey())
+                .toList();
+        Set<String> existing = boardKeys.isEmpty()
+                ? Set.of()
+                : trainingPuzzleRepository.findExistingBoardKeys(boardKeys);
+
+        List<TrainingPuzzleDraft> drafts = new ArrayList<>(parsed.size());
+        for (ParsedLine line : parsed) {
+            progress.totalCount++;
+            if (line.error() != null) {
+                progress.errors.add(new RowError(line.lineNumber(), line.error()));
+            } else if (existing.contains(line.draft().boardKey()) || !progress.boardKeys.add(line.draft().boardKey())) {
+                progress.errors.add(new RowError(line.lineNumber(), DUPLICATED_BOARD));
+            } else {
+                drafts.add(line.draft());
+            }
+        }
+        if (drafts.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Double> ratings = trainingPuzzleImportWriter.append(packId, drafts, clock.instant());
+        rankPuzzlePool.putAll(PuzzleType.TRAINING, ratings);
+        progress.importedCount += drafts.size();
+    }
+
+    private ParsedLine parse(RawLine line, boolean csv) {
+        ImportTrainingPuzzleRow row;
+        try {
+            row = csv ? parseCsv(line.text()) : objectMapper.readValue(line.text(), ImportTrainingPuzzleRow.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return ParsedLine.failed(line.lineNumber(), INVALID_FORMAT);
+        }
+        if (row == null) {
+            return ParsedLine.failed(line.lineNumber(), INVALID_FORMAT);
+        }
+
+        Set<ConstraintViolation<ImportTrainingPuzzleRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return ParsedLine.failed(line.lineNumber(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+
+        String boardKey;
+        try {
+            boardKey = BoardUtils.makeBoardKey(row.boardStatus());
+        } catch (CustomException e) {
+            return ParsedLine.failed(line.lineNumber(), e.getMessage());
+        }
+
+        return new ParsedLine(line.lineNumber(), new TrainingPuzzleDraft(
+                row.boardStatus(),
+                boardKey,
+                row.answer(),
+                row.depth(),
+                row.depth() * DEFAULT_PUZZLE_RATING,
+                row.winColor()
+        ), null);
+    }
+
+    // boardStatus,answer,depth,winColor - board strings and answers never contain a comma
+    private ImportTrainingPuzzleRow parseCsv(String text) {
+        String[] columns = text.split(",", -1);
+        if (columns.length != 4) {
+            throw new IllegalArgumentException("Expected 4 columns but got " + columns.length);
+        }
+        return new ImportTrainingPuzzleRow(
+                columns[0].trim(),
+                columns[1].trim(),
+                Integer.parseInt(columns[2].trim()),
+                columns[3].trim()
+        );
+    }
+
+    private record RawLine(int lineNumber, String text) { }
+
+    private record ParsedLine(int lineNumber, TrainingPuzzleDraft draft, String error) {
+        static ParsedLine failed(int lineNumber, String error) {
+            return new ParsedLine(lineNumber, null, error);
+        }
+    }
+
+    private static class ImportProgress {
+        private int totalCount;
+        private int importedCount;
+        private final List<RowError> errors = new ArrayList<>();
+        private final Set<String> boardKeys = new HashSet<>();
+    }
+}
@@ -0,0 +1,41 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.renzzle.backend.domain.puzzle.training.dao.PackRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleBatchRepository;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleAppendKeys;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleDraft;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends one validated chunk of an import to the end of a pack in its own transaction.
+ * The pack row is locked from appendKeys() until this chunk commits, never while the upload is read.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrainingPuzzleImportWriter {
+
+    private final PackRepository packRepository;
+    private final TrainingPuzzleBatchRepository trainingPuzzleBatchRepository;
+    private final TrainingPuzzleOrdering trainingPuzzleOrdering;
+
+    // Returns the rating of every inserted puzzle by its generated id
+    @Transactional
+    public Map<Long, Double> append(Long packId, List<TrainingPuzzleDraft> drafts, Instant now) {
+        TrainingPuzzleAppendKeys appendKeys = trainingPuzzleOrdering.appendKeys(packId, drafts.size());
+        List<Long> ids = trainingPuzzleBatchRepository.insertAll(packId, appendKeys.firstKey(), appendKeys.gap(), drafts, now);
+        packRepository.increasePuzzleCountBy(packId, drafts.size());
+
+        Map<Long, Double> ratings = new HashMap<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            ratings.put(ids.get(i), drafts.get(i).rating());
+        }
+        return ratings;
+    }
+}
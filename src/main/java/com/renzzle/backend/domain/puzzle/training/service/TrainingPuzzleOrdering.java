@@ -0,0 +1,126 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleOrderRepository;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleAppendKeys;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleOrderKey;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sparse ordering keys (training_index) for training puzzles.
+ * - Keys are spaced GAP apart, so an insert or a move takes the midpoint of its neighbours and writes one row
+ * - Only when two neighbours have no room left is the pack renumbered, inline and for that pack only
+ * - A nightly job renumbers packs whose gaps have become small, so the inline case stays rare
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrainingPuzzleOrdering {
+
+    public static final int GAP = 1 << 16;
+    public static final int MIN_GAP = 16;
+
+    private final TrainingPuzzleOrderRepository trainingPuzzleOrderRepository;
+
+    // Key for the given 0-based position, counted without the moving puzzle (null when inserting)
+    public int keyForPosition(Long packId, int position, Long movingPuzzleId) {
+        trainingPuzzleOrderRepository.lockPack(packId);
+        List<TrainingPuzzleOrderKey> keys = findKeys(packId, movingPuzzleId);
+        int at = Math.max(0, Math.min(position, keys.size()));
+
+        Integer key = keyAt(keys, at);
+        if (key == null) {
+            trainingPuzzleOrderRepository.renumber(packId, GAP);
+            key = keyAt(findKeys(packId, movingPuzzleId), at);
+        }
+        if (key == null) {
+            throw new CustomException(ErrorCode.TRAINING_PACK_FULL);
+        }
+        return key;
+    }
+
+    // Key right after afterPuzzleId, or at the front of the pack when afterPuzzleId is null
+    public int keyAfter(Long packId, Long afterPuzzleId, Long movingPuzzleId) {
+        if (afterPuzzleId == null) {
+            return keyForPosition(packId, 0, movingPuzzleId);
+        }
+        trainingPuzzleOrderRepository.lockPack(packId);
+        List<TrainingPuzzleOrderKey> keys = findKeys(packId, movingPuzzleId);
+        for (int position = 0; position < keys.size(); position++) {
+            if (keys.get(position).puzzleId().equals(afterPuzzleId)) {
+                return keyForPosition(packId, position + 1, movingPuzzleId);
+            }
+        }
+        throw new CustomException(ErrorCode.CANNOT_FIND_TRAINING_PUZZLE);
+    }
+
+    /**
+     * Keys for count puzzles appended at the end of the pack, GAP apart while they fit.
+     * Otherwise the pack is renumbered with room for them, which may leave a smaller gap for the appended keys too.
+     */
+    public TrainingPuzzleAppendKeys appendKeys(Long packId, int count) {
+        trainingPuzzleOrderRepository.lockPack(packId);
+        long last = trainingPuzzleOrderRepository.findLastKey(packId);
+        if (fits(last, count, GAP)) {
+            return new TrainingPuzzleAppendKeys((int) last + GAP, GAP);
+        }
+
+        int gap = trainingPuzzleOrderRepository.renumber(packId, GAP, count);
+        last = trainingPuzzleOrderRepository.findLastKey(packId);
+        if (gap < 1 || !fits(last, count, gap)) {
+            throw new CustomException(ErrorCode.TRAINING_PACK_FULL);
+        }
+        return new TrainingPuzzleAppendKeys((int) last + gap, gap);
+    }
+
+    @Scheduled(cron = "${training.ordering.rebalance-cron:0 30 4 * * *}")
+    public void rebalance() {
+        List<Long> packIds = trainingPuzzleOrderRepository.findCrowdedPackIds(MIN_GAP);
+        for (Long packId : packIds) {
+            trainingPuzzleOrderRepository.renumber(packId, GAP);
+        }
+        if (!packIds.isEmpty()) {
+            log.info("Training puzzle order rebalanced: packs={}", packIds.size());
+        }
+    }
+
+    private static boolean fits(long last, int count, int gap) {
+        return last + (long) count * gap <= Integer.MAX_VALUE;
+    }
+
+    // null when the neighbours at this position leave no free key
+    static Integer keyBetween(Integer prev, Integer next) {
+        if (prev == null && next == null) {
+            return GAP;
+        }
+        if (prev == null) {
+            return next > 0 ? next / 2 : null;
+        }
+        if (next == null) {
+            if (prev <= Integer.MAX_VALUE - GAP) {
+                return prev + GAP;
+            }
+            // A renumbered large pack may leave less than GAP after its last key
+            return prev < Integer.MAX_VALUE ? prev + (Integer.MAX_VALUE - prev) / 2 + 1 : null;
+        }
+        return next - prev >= 2 ? prev + (next - prev) / 2 : null;
+    }
+
+    private Integer keyAt(List<TrainingPuzzleOrderKey> keys, int at) {
+        Integer prev = at > 0 ? keys.get(at - 1).key() : null;
+        Integer next = at < keys.size() ? keys.get(at).key() : null;
+        return keyBetween(prev, next);
+    }
+
+    private List<TrainingPuzzleOrderKey> findKeys(Long packId, Long movingPuzzleId) {
+        return trainingPuzzleOrderRepository.findKeys(packId).stream()
+                .filter(key -> !key.puzzleId().equals(movingPuzzleId))
+                .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.renzzle.backend.domain.puzzle.training.service;
 
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.service.RankPuzzlePool;
 import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
 import com.renzzle.backend.domain.puzzle.training.api.response.GetPackDetailForAdminResponse;
 import com.renzzle.backend.domain.puzzle.training.api.response.GetPackPurchaseResponse;
@@ -9,6 +11,7 @@ import com.renzzle.backend.domain.puzzle.training.api.response.GetTrainingPuzzle
 import com.renzzle.backend.domain.puzzle.training.api.response.GetTrainingPuzzleResponse;
 import com.renzzle.backend.domain.puzzle.training.api.request.*;
 import com.renzzle.backend.domain.puzzle.training.api.response.SolveTrainingPuzzleResponse;
+import com.renzzle.backend.domain.puzzle.training.api.response.SyncTrainingSolvesResponse;
 import com.renzzle.backend.domain.puzzle.training.dao.*;
 import com.renzzle.backend.domain.puzzle.training.domain.*;
 import com.renzzle.backend.domain.user.dao.UserRepository;
@@ -23,10 +26,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.renzzle.backend.global.common.constant.DoubleConstant.DEFAULT_PUZZLE_RATING;
@@ -42,7 +49,12 @@ public class TrainingService {
     private final PackTranslationRepository packTranslationRepository;
     private final UserPackRepository userPackRepository;
     private final UserRepository userRepository;
+    private final RankPuzzlePool rankPuzzlePool;
     private final Clock clock;
+    private final SolvedTrainingPuzzleLookup solvedTrainingPuzzleLookup;
+    private final TrainingCatalogCache trainingCatalogCache;
+    private final TrainingPuzzleOrdering trainingPuzzleOrdering;
+    private final TrainingPuzzleBatchRepository trainingPuzzleBatchRepository;
 
     // service test, repo test
     @Transactional
@@ -52,11 +64,7 @@ public class TrainingService {
 
         String boardKey = BoardUtils.makeBoardKey(request.boardStatus());
 
-        int index = trainingPuzzleRepository.findTopIndex(request.packId()) + 1;
-        if(index > request.puzzleIndex()) {
-            index = request.puzzleIndex();
-            trainingPuzzleRepository.increaseIndexesFrom(request.packId(), index);
-        }
+        int index = trainingPuzzleOrdering.keyForPosition(request.packId(), request.puzzleIndex(), null);
 
         double rating = request.depth() * DEFAULT_PUZZLE_RATING;
 
@@ -74,7 +82,11 @@ public class TrainingService {
                 .winColor(WinColor.getWinColor(request.winColor()))
                 .build();
 
-        return trainingPuzzleRepository.save(puzzle);
+        TrainingPuzzle saved = trainingPuzzleRepository.save(puzzle);
+        rankPuzzlePool.put(PuzzleType.TRAINING, saved.getId(), saved.getRating());
+        trainingCatalogCache.bumpVersion();
+
+        return saved;
     }
 
     @Transactional
@@ -84,18 +96,18 @@ public class TrainingService {
 
         TrainingPuzzle.TrainingPuzzleBuilder puzzleBuilder = puzzle.toBuilder();
 
+        Long packId = puzzle.getPack().getId();
+        boolean packChanged = request.packId() != null && !request.packId().equals(packId);
         if (request.packId() != null) {
             Pack pack = packRepository.findById(request.packId())
                     .orElseThrow(() -> new CustomException(ErrorCode.NO_SUCH_TRAINING_PACK));
             puzzleBuilder.pack(pack);
+            packId = pack.getId();
         }
-        if (request.puzzleIndex() != null && request.puzzleIndex() != puzzle.getTrainingIndex()) {
-            int index = trainingPuzzleRepository.findTopIndex(request.packId()) + 1;
-            if(index > request.puzzleIndex()) {
-                index = request.puzzleIndex();
-                trainingPuzzleRepository.increaseIndexesFrom(request.packId(), index);
-            }
-            puzzleBuilder.trainingIndex(index);
+        // puzzleIndex is a position; moving to another pack without one appends to that pack
+        if (request.puzzleIndex() != null || packChanged) {
+            int position = request.puzzleIndex() != null ? request.puzzleIndex() : Integer.MAX_VALUE;
+            puzzleBuilder.trainingIndex(trainingPuzzleOrdering.keyForPosition(packId, position, puzzleId));
         }
         if (request.boardStatus() != null) {
             puzzleBuilder.boardStatus(request.boardStatus());
@@ -112,7 +124,10 @@ public class TrainingService {
             puzzleBuilder.winColor(WinColor.getWinColor(request.winColor()));
         }
 
-        return trainingPuzzleRepository.save(puzzleBuilder.build());
+        TrainingPuzzle saved = trainingPuzzleRepository.save(puzzleBuilder.build());
+        rankPuzzlePool.put(PuzzleType.TRAINING, saved.getId(), saved.getRating());
+
+        return saved;
     }
 
     // service test, repo test
@@ -131,18 +146,37 @@ public class TrainingService {
             userPackRepository.decreaseSolvedCount(userId, pack.getId());
         }
 
+        // Gaps in training_index are fine, so the remaining puzzles keep their keys
         trainingPuzzleRepository.deleteById(puzzleId);
-        trainingPuzzleRepository.decreaseIndexesFrom(puzzle.get().getTrainingIndex());
+        rankPuzzlePool.remove(PuzzleType.TRAINING, puzzleId);
 
         packRepository.decreasePuzzleCount(puzzle.get().getPack().getId());
+        trainingCatalogCache.bumpVersion();
+    }
+
+    // Moves one puzzle right after afterPuzzleId (to the front when null) with a single row write
+    @Transactional
+    public TrainingPuzzle reorderTrainingPuzzle(Long puzzleId, ReorderTrainingPuzzleRequest request) {
+        TrainingPuzzle puzzle = trainingPuzzleRepository.findById(puzzleId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_TRAINING_PUZZLE));
+
+        int index = trainingPuzzleOrdering.keyAfter(puzzle.getPack().getId(), request.afterPuzzleId(), puzzleId);
+
+        return trainingPuzzleRepository.save(puzzle.toBuilder()
+                .trainingIndex(index)
+                .build());
     }
 
     // service test, repo test
     @Transactional
     public SolveTrainingPuzzleResponse solveTrainingPuzzle(UserEntity user, Long puzzleId, Boolean getReward) {
-        return applySolveTrainingPuzzle(user, puzzleId, getReward);
+        UserEntity persistentUser = userRepository.findByIdForUpdate(user.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_USER));
+        return applySolveTrainingPuzzle(persistentUser, puzzleId, getReward);
     }
 
+    // The caller holds the user row lock, the same one syncSolvedTrainingPuzzles takes,
+    // so a solve and a sync of one user cannot both insert the same solved row
     private SolveTrainingPuzzleResponse applySolveTrainingPuzzle(UserEntity user, Long puzzleId, Boolean getReward) {
         Optional<SolvedTrainingPuzzle> existInfo =
                 solvedTrainingPuzzleRepository.findByUserIdAndPuzzleId(user.getId(), puzzleId);
@@ -162,21 +196,13 @@ public class TrainingService {
                 .user(user)
                 .puzzle(trainingPuzzle)
                 .build());
+        solvedTrainingPuzzleLookup.markSolved(user.getId(), puzzleId);
 
         userPackRepository.increaseSolvedCount(user.getId(), trainingPuzzle.getPack().getId());
 
-        // Difficulty -> reward mapping
-        Difficulty difficulty = trainingPuzzle.getPack().getDifficulty();
-        int reward = switch (difficulty.getName()) {
-            case "LOW" -> TRAINING_LOW_REWARD.getPrice();
-            case "MIDDLE" -> TRAINING_MIDDLE_REWARD.getPrice();
-            case "HIGH" -> TRAINING_HIGH_REWARD.getPrice();
-            default -> 0;
-        };
+        int reward = rewardOf(trainingPuzzle.getPack().getDifficulty());
         if(Boolean.TRUE.equals(getReward)){
-            UserEntity persistentUser = userRepository.findById(user.getId())
-                    .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_USER));
-            persistentUser.getReward(reward);
+            user.getReward(reward);
         }
 
         return SolveTrainingPuzzleResponse.builder()
@@ -184,6 +210,84 @@ public class TrainingService {
                 .build();
     }
 
+    /**
+     * Applies solves recorded offline in one transaction. Replaying the same list changes nothing:
+     * - already solved or repeated puzzles are skipped, unknown puzzle ids are reported back
+     * - new solves are inserted in one JDBC batch, with one UserPack update per pack and one currency update
+     */
+    @Transactional
+    public SyncTrainingSolvesResponse syncSolvedTrainingPuzzles(UserEntity user, SyncTrainingSolvesRequest request) {
+        // Serializes syncs of one user, so concurrent replays cannot record or reward a puzzle twice
+        UserEntity persistentUser = userRepository.findByIdForUpdate(user.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_USER));
+        Instant now = clock.instant();
+
+        Map<Long, SyncTrainingSolvesRequest.SolveRecord> records = new LinkedHashMap<>();
+        for (SyncTrainingSolvesRequest.SolveRecord record : request.solves()) {
+            records.merge(record.puzzleId(), record, TrainingService::mergeSolveRecords);
+        }
+
+        Set<Long> alreadySolved = solvedTrainingPuzzleRepository.findSolvedPuzzleIdsIn(user.getId(), records.keySet());
+        Map<Long, TrainingPuzzle> puzzles = trainingPuzzleRepository.findAllWithPackByIdIn(records.keySet()).stream()
+                .collect(Collectors.toMap(TrainingPuzzle::getId, puzzle -> puzzle));
+
+        Map<Long, Instant> newlySolved = new LinkedHashMap<>();
+        Map<Long, Integer> solvedCountByPack = new HashMap<>();
+        List<Long> unknownPuzzleIds = new ArrayList<>();
+        int reward = 0;
+        for (SyncTrainingSolvesRequest.SolveRecord record : records.values()) {
+            TrainingPuzzle puzzle = puzzles.get(record.puzzleId());
+            if (puzzle == null) {
+                unknownPuzzleIds.add(record.puzzleId());
+                continue;
+            }
+            if (alreadySolved.contains(puzzle.getId())) {
+                continue;
+            }
+            Instant solvedAt = record.solvedAt() == null || record.solvedAt().isAfter(now) ? now : record.solvedAt();
+            newlySolved.put(puzzle.getId(), solvedAt);
+            solvedCountByPack.merge(puzzle.getPack().getId(), 1, Integer::sum);
+            if (record.reward()) {
+                reward += rewardOf(puzzle.getPack().getDifficulty());
+            }
+        }
+
+        if (!newlySolved.isEmpty()) {
+            trainingPuzzleBatchRepository.insertSolved(user.getId(), newlySolved);
+            solvedCountByPack.forEach((packId, count) ->
+                    userPackRepository.increaseSolvedCountBy(user.getId(), packId, count));
+            solvedTrainingPuzzleLookup.markSolvedAll(user.getId(), newlySolved.keySet());
+        }
+        if (reward > 0) {
+            persistentUser.getReward(reward);
+        }
+
+        return SyncTrainingSolvesResponse.builder()
+                .solvedCount(newlySolved.size())
+                .reward(reward)
+                .unknownPuzzleIds(unknownPuzzleIds)
+                .build();
+    }
+
+    // The same puzzle twice in one batch: the earliest solve time, rewarded if either asked for it
+    private static SyncTrainingSolvesRequest.SolveRecord mergeSolveRecords(SyncTrainingSolvesRequest.SolveRecord a,
+                                                                           SyncTrainingSolvesRequest.SolveRecord b) {
+        Instant solvedAt = a.solvedAt() == null ? b.solvedAt()
+                : b.solvedAt() == null ? a.solvedAt()
+                : a.solvedAt().isBefore(b.solvedAt()) ? a.solvedAt() : b.solvedAt();
+        return new SyncTrainingSolvesRequest.SolveRecord(a.puzzleId(), solvedAt, a.reward() || b.reward());
+    }
+
+    // Difficulty -> reward mapping
+    private static int rewardOf(Difficulty difficulty) {
+        return switch (difficulty.getName()) {
+            case "LOW" -> TRAINING_LOW_REWARD.getPrice();
+            case "MIDDLE" -> TRAINING_MIDDLE_REWARD.getPrice();
+            case "HIGH" -> TRAINING_HIGH_REWARD.getPrice();
+            default -> 0;
+        };
+    }
+
     // service test, repo test
     @Transactional(readOnly = true)
     public List<GetTrainingPuzzleResponse> getTrainingPuzzleList(UserEntity user, Long packId) {
@@ -198,9 +302,12 @@ public class TrainingService {
             throw new CustomException(ErrorCode.NO_SUCH_TRAINING_PACK);
         }
 
+        List<Long> puzzleIds = trainingPuzzles.stream().map(TrainingPuzzle::getId).toList();
+        Set<Long> solvedIds = solvedTrainingPuzzleLookup.findSolvedIds(user.getId(), packId, puzzleIds);
+
         List<GetTrainingPuzzleResponse> response = new ArrayList<>();
         trainingPuzzles.forEach(trainingPuzzle -> {
-            boolean isSolved = solvedTrainingPuzzleRepository.existsByUserAndPuzzle(user, trainingPuzzle);
+            boolean isSolved = solvedIds.contains(trainingPuzzle.getId());
 
             response.add(GetTrainingPuzzleResponse.builder()
                     .id(trainingPuzzle.getId())
@@ -236,6 +343,7 @@ public class TrainingService {
                 .toList();
 
         packTranslationRepository.saveAll(translations);
+        trainingCatalogCache.bumpVersion();
 
         return savedPack;
     }
@@ -264,6 +372,7 @@ public class TrainingService {
                         .build())
                 .toList();
         packTranslationRepository.saveAll(newTranslations);
+        trainingCatalogCache.bumpVersion();
 
         return updatedPack;
     }
@@ -289,30 +398,22 @@ public class TrainingService {
                 .build();
 
         packTranslationRepository.save(translation);
+        trainingCatalogCache.bumpVersion();
     }
 
     // service test, repo test
     @Transactional(readOnly = true)
     public List<GetPackResponse> getTrainingPackList(UserEntity user, GetTrainingPackRequest request){
-        List<Pack> packs = packRepository.findByDifficulty(Difficulty.getDifficulty(request.difficulty()));
+        // Packs and translations come from the in-memory catalog; only the user's progress is read from the database
+        List<TrainingCatalog.CatalogPack> packs = trainingCatalogCache.get()
+                .findPacksByDifficulty(Difficulty.getDifficulty(request.difficulty()).getName());
 
         if (packs.isEmpty()) {
             throw new CustomException(ErrorCode.NO_SUCH_TRAINING_PACKS);
         }
 
-        List<Long> packIds = packs.stream().map(Pack::getId).toList();
-        LangCode requestedLangCode = LangCode.getLangCode(request.lang());
-        LangCode defaultLangCode = LangCode.getLangCode(LangCode.LangCodeName.EN);
-
-        List<PackTranslation> requestedTranslations =
-                packTranslationRepository.findAllByPack_IdInAndLangCode(packIds, requestedLangCode);
-        List<PackTranslation> defaultTranslations =
-                packTranslationRepository.findAllByPack_IdInAndLangCode(packIds, defaultLangCode);
-
-        Map<Long, PackTranslation> requestedMap = requestedTranslations.stream()
-                .collect(Collectors.toMap(t -> t.getPack().getId(), t -> t));
-        Map<Long, PackTranslation> defaultMap = defaultTranslations.stream()
-                .collect(Collectors.toMap(t -> t.getPack().getId(), t -> t));
+        List<Long> packIds = packs.stream().map(TrainingCatalog.CatalogPack::id).toList();
+        String langCode = LangCode.getLangCode(request.lang()).getName();
 
         Long userId = user.getId();
         List<UserPack> userPacks = userPackRepository.findAllByUserIdAndPackIdIn(userId, packIds);
@@ -320,20 +421,20 @@ public class TrainingService {
                 .collect(Collectors.toMap(up -> up.getPack().getId(), up -> up));
 
         List<GetPackResponse> result = new ArrayList<>();
-        for (Pack pack : packs) {
-            PackTranslation translation = requestedMap.getOrDefault(pack.getId(), defaultMap.get(pack.getId()));
+        for (TrainingCatalog.CatalogPack pack : packs) {
+            TrainingCatalog.CatalogTranslation translation = pack.translation(langCode).orElse(null);
 
-            UserPack up = userPackMap.get(pack.getId());
+            UserPack up = userPackMap.get(pack.id());
             boolean locked = (up == null);
             int solvedCount = (up != null) ? up.getSolvedCount() : 0;
 
             GetPackResponse dto = new GetPackResponse(
-                    pack.getId(),
-                    translation != null ? translation.getTitle() : null,
-                    translation != null ? translation.getAuthor() : null,
-                    translation != null ? translation.getDescription() : null,
-                    pack.getPrice(),
-                    pack.getPuzzleCount(),
+                    pack.id(),
+                    translation != null ? translation.title() : null,
+                    translation != null ? translation.author() : null,
+                    translation != null ? translation.description() : null,
+                    pack.price(),
+                    pack.puzzleCount(),
                     solvedCount,
                     locked
             );
@@ -367,14 +468,14 @@ public class TrainingService {
 
     @Transactional
     public GetTrainingPuzzleAnswerResponse purchaseTrainingPuzzleAnswer(UserEntity user, Long puzzleId) {
-        UserEntity newUser = userRepository.findById(user.getId())
+        UserEntity newUser = userRepository.findByIdForUpdate(user.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_USER));
         TrainingPuzzle puzzle = trainingPuzzleRepository.findById(puzzleId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CANNOT_FIND_TRAINING_PUZZLE));
 
         newUser.purchase(ItemPrice.HINT.getPrice());
 
-        applySolveTrainingPuzzle(user, puzzle.getId(), false);
+        applySolveTrainingPuzzle(newUser, puzzle.getId(), false);
 
         return GetTrainingPuzzleAnswerResponse.builder()
                 .answer(puzzle.getAnswer())
@@ -427,18 +528,20 @@ public class TrainingService {
             return List.of();
         }
 
+        // trainingIndex in responses is the 0-based position, not the sparse key
         List<GetTrainingPuzzleForAdminResponse> response = new ArrayList<>();
-        trainingPuzzles.forEach(trainingPuzzle ->
-                response.add(GetTrainingPuzzleForAdminResponse.builder()
-                        .id(trainingPuzzle.getId())
-                        .boardStatus(trainingPuzzle.getBoardStatus())
-                        .answer(trainingPuzzle.getAnswer())
-                        .depth(trainingPuzzle.getDepth())
-                        .winColor(trainingPuzzle.getWinColor().getName())
-                        .trainingIndex(trainingPuzzle.getTrainingIndex())
-                        .isSolved(false)
-                        .build())
-        );
+        for (int position = 0; position < trainingPuzzles.size(); position++) {
+            TrainingPuzzle trainingPuzzle = trainingPuzzles.get(position);
+            response.add(GetTrainingPuzzleForAdminResponse.builder()
+                    .id(trainingPuzzle.getId())
+                    .boardStatus(trainingPuzzle.getBoardStatus())
+                    .answer(trainingPuzzle.getAnswer())
+                    .depth(trainingPuzzle.getDepth())
+                    .winColor(trainingPuzzle.getWinColor().getName())
+                    .trainingIndex(position)
+                    .isSolved(false)
+                    .build());
+        }
         return response;
     }
 
@@ -452,7 +555,8 @@ public class TrainingService {
                 .answer(puzzle.getAnswer())
                 .depth(puzzle.getDepth())
                 .winColor(puzzle.getWinColor().getName())
-                .trainingIndex(puzzle.getTrainingIndex())
+                .trainingIndex(trainingPuzzleRepository.countByPack_IdAndTrainingIndexLessThan(
+                        puzzle.getPack().getId(), puzzle.getTrainingIndex()))
                 .isSolved(false)
                 .build();
     }
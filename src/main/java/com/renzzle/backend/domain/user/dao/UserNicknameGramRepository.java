@@ -0,0 +1,71 @@
+package com.renzzle.backend.domain.user.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plain JDBC access to user_nickname_gram.
+ * Searches seek the (gram, user_id) unique index and never touch the user table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserNicknameGramRepository {
+
+    private static final String DELETE_GRAMS = "DELETE FROM user_nickname_gram WHERE user_id = ?";
+
+    private static final String INSERT_GRAM = "INSERT IGNORE INTO user_nickname_gram (user_id, gram) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void replace(Long userId, Set<String> grams) {
+        jdbcTemplate.update(DELETE_GRAMS, userId);
+        insert(Map.of(userId, grams));
+    }
+
+    public void insert(Map<Long, Set<String>> gramsByUser) {
+        List<Object[]> rows = new ArrayList<>();
+        gramsByUser.forEach((userId, grams) -> grams.forEach(gram -> rows.add(new Object[]{userId, gram})));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_GRAM, rows);
+        }
+    }
+
+    // Users holding every gram, at most limit of them
+    public List<Long> findUserIdsWithAll(Collection<String> grams, int limit) {
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", grams.stream().map(gram -> "?").toList());
+        List<Object> args = new ArrayList<>(grams);
+        args.add(grams.size());
+        args.add(limit);
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM user_nickname_gram " +
+                        "WHERE gram IN (" + placeholders + ") " +
+                        "GROUP BY user_id HAVING COUNT(*) = ? " +
+                        "LIMIT ?",
+                Long.class, args.toArray());
+    }
+
+    // (id, nickname) of up to limit users that have no grams yet
+    public Map<Long, String> findUnindexedUsers(int limit) {
+        Map<Long, String> users = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT u.id, u.nickname FROM user u " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM user_nickname_gram g WHERE g.user_id = u.id) " +
+                        "ORDER BY u.id LIMIT ?",
+                rs -> {
+                    users.put(rs.getLong("id"), rs.getString("nickname"));
+                },
+                limit);
+        return users;
+    }
+}
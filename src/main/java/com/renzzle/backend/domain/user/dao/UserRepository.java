@@ -2,7 +2,9 @@ package com.renzzle.backend.domain.user.dao;
 
 import com.renzzle.backend.domain.user.domain.Title;
 import com.renzzle.backend.domain.user.domain.UserEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,6 +23,10 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByEmail(String email);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM UserEntity u WHERE u.id = :userId")
+    Optional<UserEntity> findByIdForUpdate(@Param("userId") Long userId);
+
     @Modifying
     @Query("UPDATE UserEntity u SET u.status = (SELECT s FROM Status s WHERE s.name = 'DELETED'), " +
             "u.deletedAt = :deletedAt WHERE u.id = :userId")
@@ -28,7 +34,7 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     @Modifying
     @Query("UPDATE UserEntity u SET u.currency = u.currency + :amount WHERE u.id = :userId")
-    void addUserCurrency(@Param("userId") Long userId, @Param("amount") int amount);
+    int addUserCurrency(@Param("userId") Long userId, @Param("amount") int amount);
 
     @Query(value = """
     SELECT (
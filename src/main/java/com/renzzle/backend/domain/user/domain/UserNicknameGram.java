@@ -0,0 +1,70 @@
+package com.renzzle.backend.domain.user.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One 1- or 2-character piece of a user's nickname, lower-cased, for infix nickname search.
+ * Rows are written in bulk by UserNicknameGramRepository; the entity only defines the table.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "user_nickname_gram",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_nickname_gram", columnNames = {"gram", "user_id"})
+        }
+)
+public class UserNicknameGram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private UserEntity user;
+
+    @Column(name = "gram", nullable = false, length = 2)
+    private String gram;
+
+    // Every single character and every adjacent pair of the nickname
+    public static Set<String> gramsOf(String nickname) {
+        int[] codePoints = normalize(nickname);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    // A nickname containing the query holds all of these grams: the character itself, or every adjacent pair
+    public static Set<String> queryGramsOf(String query) {
+        int[] codePoints = normalize(query);
+        Set<String> grams = new LinkedHashSet<>();
+        if (codePoints.length == 1) {
+            grams.add(new String(codePoints, 0, 1));
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    private static int[] normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT).codePoints().toArray();
+    }
+}
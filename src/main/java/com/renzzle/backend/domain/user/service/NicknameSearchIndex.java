@@ -0,0 +1,68 @@
+package com.renzzle.backend.domain.user.service;
+
+import com.renzzle.backend.domain.user.dao.UserNicknameGramRepository;
+import com.renzzle.backend.domain.user.domain.UserNicknameGram;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Infix nickname search backed by the user_nickname_gram table.
+ * - Signup and nickname changes rewrite a user's grams in the same transaction
+ * - A periodic backfill indexes users created before the table existed
+ * Candidates share all grams of the query; callers still confirm the actual substring match.
+ * A query shared by more than MAX_CANDIDATES users (short, common ones) is too broad for the index:
+ * no candidates are returned and callers scan nicknames instead, since a truncated list would drop authors.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NicknameSearchIndex {
+
+    // Upper bound of the author id list handed to the puzzle query
+    public static final int MAX_CANDIDATES = 1000;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final UserNicknameGramRepository userNicknameGramRepository;
+
+    public void index(Long userId, String nickname) {
+        userNicknameGramRepository.replace(userId, UserNicknameGram.gramsOf(nickname));
+    }
+
+    // Users whose nickname may contain the query; empty when more than MAX_CANDIDATES users match
+    public Optional<List<Long>> findUserIds(String query) {
+        List<Long> userIds = userNicknameGramRepository.findUserIdsWithAll(
+                UserNicknameGram.queryGramsOf(query), MAX_CANDIDATES + 1);
+        return userIds.size() > MAX_CANDIDATES ? Optional.empty() : Optional.of(userIds);
+    }
+
+    @Scheduled(fixedDelay = 1000 * 60 * 10) // Runs 10 minutes after the previous run
+    public void backfill() {
+        int indexed = 0;
+        while (true) {
+            Map<Long, String> users = userNicknameGramRepository.findUnindexedUsers(BACKFILL_BATCH_SIZE);
+            Map<Long, Set<String>> grams = new LinkedHashMap<>();
+            users.forEach((userId, nickname) -> grams.put(userId, UserNicknameGram.gramsOf(nickname)));
+            // A batch that yields no grams would be found again on the next round
+            if (grams.values().stream().allMatch(Set::isEmpty)) {
+                break;
+            }
+            userNicknameGramRepository.insert(grams);
+            indexed += users.size();
+            if (users.size() < BACKFILL_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (indexed > 0) {
+            log.info("Nickname search index backfilled: users={}", indexed);
+        }
+    }
+}
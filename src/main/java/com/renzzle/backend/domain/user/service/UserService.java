@@ -1,9 +1,15 @@
 package com.renzzle.backend.domain.user.service;
 
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
 import com.renzzle.backend.domain.puzzle.community.api.response.GetCommunityPuzzlesResponse;
 import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.CommunityPuzzleSummary;
 import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleUserState;
+import com.renzzle.backend.domain.puzzle.community.service.CommunityPuzzleStateResolver;
+import com.renzzle.backend.domain.puzzle.community.service.CommunityPuzzleViewCounter;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankingRepository;
+import com.renzzle.backend.domain.puzzle.rank.service.RankPuzzlePool;
 import com.renzzle.backend.domain.user.api.response.ChangeNicknameResponse;
 import com.renzzle.backend.domain.user.api.response.UserResponse;
 import com.renzzle.backend.domain.user.dao.UserRepository;
@@ -17,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.util.*;
 
 @Service
@@ -27,7 +34,11 @@ public class UserService {
     private final Clock clock;
     private final UserRepository userRepository;
     private final CommunityPuzzleRepository communityPuzzleRepository;
-    private final UserCommunityPuzzleRepository userCommunityPuzzleRepository;
+    private final CommunityPuzzleStateResolver communityPuzzleStateResolver;
+    private final CommunityPuzzleViewCounter communityPuzzleViewCounter;
+    private final RankPuzzlePool rankPuzzlePool;
+    private final RankingRepository rankingRepository;
+    private final NicknameSearchIndex nicknameSearchIndex;
 
     public UserResponse getUserResponse(UserEntity user) {
         return UserResponse.builder()
@@ -61,6 +72,8 @@ public class UserService {
         }
 
         persistedUser.get().changeNickname(nickname);
+        nicknameSearchIndex.index(user.getId(), nickname);
+        rankingRepository.updateNickname(user.getId(), nickname);
         return ChangeNicknameResponse.builder()
                 .price(ItemPrice.CHANGE_NICKNAME.getPrice())
                 .build();
@@ -68,26 +81,29 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public List<GetCommunityPuzzlesResponse> getUserLikedPuzzleList(UserEntity user, Long cursorId, int size) {
-        List<CommunityPuzzle> puzzles = communityPuzzleRepository.getUserLikedPuzzles(user.getId(), cursorId, size);
+        List<CommunityPuzzleSummary> puzzles = communityPuzzleRepository.getUserLikedPuzzles(user.getId(), cursorId, size);
+        List<Long> puzzleIds = puzzles.stream().map(CommunityPuzzleSummary::id).toList();
+        Map<Long, CommunityPuzzleUserState> states = communityPuzzleStateResolver.resolve(user.getId(), puzzleIds);
+        Map<Long, Long> unflushedViews = communityPuzzleViewCounter.findUnflushedViews(puzzleIds);
 
         List<GetCommunityPuzzlesResponse> response = new ArrayList<>();
-        for (CommunityPuzzle puzzle : puzzles) {
-            boolean isSolved = userCommunityPuzzleRepository.checkIsSolvedPuzzle(user.getId(), puzzle.getId());
+        for (CommunityPuzzleSummary puzzle : puzzles) {
+            boolean isSolved = states.get(puzzle.id()).solved();
 
             response.add(
                     GetCommunityPuzzlesResponse.builder()
-                            .id(puzzle.getId())
-                            .boardStatus(puzzle.getBoardStatus())
-                            .authorId(puzzle.getUser().getId())
-                            .authorName(puzzle.getUser().getNickname())
-                            .depth(puzzle.getDepth())
-                            .winColor(puzzle.getWinColor().getName())
-                            .solvedCount(puzzle.getSolvedCount())
-                            .views(puzzle.getView())
-                            .likeCount(puzzle.getLikeCount())
-                            .createdAt(puzzle.getCreatedAt().toString())
+                            .id(puzzle.id())
+                            .boardStatus(puzzle.boardStatus())
+                            .authorId(puzzle.authorId())
+                            .authorName(puzzle.authorName())
+                            .depth(puzzle.depth())
+                            .winColor(puzzle.winColor())
+                            .solvedCount(puzzle.solvedCount())
+                            .views((int) (puzzle.view() + unflushedViews.getOrDefault(puzzle.id(), 0L)))
+                            .likeCount(puzzle.likeCount())
+                            .createdAt(puzzle.createdAt().toString())
                             .isSolved(isSolved)
-                            .isVerified(puzzle.getIsVerified())
+                            .isVerified(puzzle.isVerified())
                             .build()
             );
         }
@@ -97,26 +113,39 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public List<GetCommunityPuzzlesResponse> getUserPuzzleList(UserEntity user, Long cursorId, int size) {
-        List<CommunityPuzzle> puzzles = communityPuzzleRepository.getUserPuzzles(user.getId(), cursorId, size);
+        // The cursor puzzle may have been deleted since the previous page, so it is looked up including deleted rows
+        Instant cursorCreatedAt = null;
+        if (cursorId != null) {
+            CommunityPuzzle last = communityPuzzleRepository.findByIdIncludingDeleted(cursorId);
+            if (last == null) {
+                throw new CustomException(ErrorCode.INVALID_COMMUNITY_CURSOR);
+            }
+            cursorCreatedAt = last.getCreatedAt();
+        }
+        List<CommunityPuzzleSummary> puzzles =
+                communityPuzzleRepository.getUserPuzzles(user.getId(), cursorCreatedAt, cursorId, size);
+        List<Long> puzzleIds = puzzles.stream().map(CommunityPuzzleSummary::id).toList();
+        Map<Long, CommunityPuzzleUserState> states = communityPuzzleStateResolver.resolve(user.getId(), puzzleIds);
+        Map<Long, Long> unflushedViews = communityPuzzleViewCounter.findUnflushedViews(puzzleIds);
 
         List<GetCommunityPuzzlesResponse> response = new ArrayList<>();
-        for (CommunityPuzzle puzzle : puzzles) {
-            boolean isSolved = userCommunityPuzzleRepository.checkIsSolvedPuzzle(user.getId(), puzzle.getId());
+        for (CommunityPuzzleSummary puzzle : puzzles) {
+            boolean isSolved = states.get(puzzle.id()).solved();
 
             response.add(
                     GetCommunityPuzzlesResponse.builder()
-                            .id(puzzle.getId())
-                            .boardStatus(puzzle.getBoardStatus())
-                            .authorId(puzzle.getUser().getId())
-                            .authorName(puzzle.getUser().getNickname())
-                            .depth(puzzle.getDepth())
-                            .winColor(puzzle.getWinColor().getName())
-                            .solvedCount(puzzle.getSolvedCount())
-                            .views(puzzle.getView())
-                            .likeCount(puzzle.getLikeCount())
-                            .createdAt(puzzle.getCreatedAt().toString())
+                            .id(puzzle.id())
+                            .boardStatus(puzzle.boardStatus())
+                            .authorId(puzzle.authorId())
+                            .authorName(puzzle.authorName())
+                            .depth(puzzle.depth())
+                            .winColor(puzzle.winColor())
+                            .solvedCount(puzzle.solvedCount())
+                            .views((int) (puzzle.view() + unflushedViews.getOrDefault(puzzle.id(), 0L)))
+                            .likeCount(puzzle.likeCount())
+                            .createdAt(puzzle.createdAt().toString())
                             .isSolved(isSolved)
-                            .isVerified(puzzle.getIsVerified())
+                            .isVerified(puzzle.isVerified())
                             .build()
             );
         }
@@ -137,6 +166,7 @@ public class UserService {
         if (updatedRows == 0) {
             throw new CustomException(ErrorCode.CANNOT_FIND_COMMUNITY_PUZZLE);
         }
+        rankPuzzlePool.remove(PuzzleType.COMMUNITY, puzzleId);
 
         return puzzleId;
     }
@@ -1,5 +1,6 @@
 package com.renzzle.backend.global.config;
 
+import com.renzzle.backend.domain.puzzle.rank.dao.RankSessionDataSerializer;
 import com.renzzle.backend.domain.puzzle.rank.domain.RankSessionData;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +10,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -38,9 +40,9 @@ public class RedisConfig {
         RedisTemplate<String, RankSessionData> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
 
-        // Serialize Key as a string and Value as JSON
+        // Serialize Key as a string and Value with the compact binary session codec
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(new RankSessionDataSerializer());
 
         return template;
     }
@@ -67,4 +69,12 @@ public class RedisConfig {
         return new StringRedisTemplate(redisConnectionFactory());
     }
 
+    // Pub/sub between instances; listeners subscribe themselves to their channels
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
 }
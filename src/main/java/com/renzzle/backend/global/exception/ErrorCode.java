@@ -61,6 +61,10 @@ public enum ErrorCode {
     IS_NOT_STARTED(HttpStatus.BAD_REQUEST, "P4003", "잘못된 랭킹전 결과 호출입니다."),
     NO_BOARD_STATUS(HttpStatus.BAD_REQUEST, "P4005", "퍼즐 ID 또는 보드 상태가 없습니다."),
     INVALID_ANSWER_POSITION(HttpStatus.BAD_REQUEST, "P4006", "정답 수의 좌표가 올바르지 않습니다. (a~o, 1~15)"),
+    INVALID_ARCHIVE_CURSOR(HttpStatus.BAD_REQUEST, "P4007", "올바르지 않은 랭킹전 기록 커서입니다."),
+    INVALID_RATING_HISTORY_RANGE(HttpStatus.BAD_REQUEST, "P4008", "레이팅 기록 조회 기간이 올바르지 않습니다."),
+    INVALID_COMMUNITY_CURSOR(HttpStatus.BAD_REQUEST, "P4009", "올바르지 않은 커뮤니티 퍼즐 커서입니다."),
+    TRAINING_PACK_FULL(HttpStatus.BAD_REQUEST, "P4010", "팩에 더 이상 퍼즐을 추가할 수 없습니다."),
     INVALID_RANK_PUZZLE_TYPE(HttpStatus.BAD_REQUEST, "R4004", "올바르지 않은 랭크 퍼즐 타입입니다."),
     COMMUNITY_PUZZLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "P4030", "해당하는 커뮤니티 퍼즐에 대한 권한이 없습니다."),
     CANNOT_FIND_COMMUNITY_PUZZLE(HttpStatus.NOT_FOUND, "P4040", "해당하는 커뮤니티 퍼즐을 찾을 수 없습니다."),
@@ -76,6 +80,7 @@ public enum ErrorCode {
     EMPTY_SESSION_DATA(HttpStatus.NOT_FOUND, "P4047", "세션 데이터가 존재하지 않습니다."),
     LATEST_PUZZLE_NOT_FOUND(HttpStatus.NOT_FOUND, "P4048", "이전 랭크 퍼즐이 존재하지 않습니다."),
     TREND_PUZZLE_DUPLICATED(HttpStatus.CONFLICT, "P4090", "트렌드 퍼즐이 중복되었습니다."),
+    RANK_SESSION_CONFLICT(HttpStatus.CONFLICT, "P4091", "이미 처리된 랭킹전 결과 요청입니다."),
     SESSION_ALREADY_ENDED(HttpStatus.GONE, "P4100", "세션이 이미 만료되었습니다."),
     SESSION_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "P5000", "세션 ID 생성에 실패하였습니다."),
 
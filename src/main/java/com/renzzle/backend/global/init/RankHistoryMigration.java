@@ -0,0 +1,118 @@
+package com.renzzle.backend.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-time migration of latest_rank_puzzle from copied puzzle data (board_status, answer, win_color)
+ * to a reference to the source puzzle (puzzle_type, puzzle_id).
+ * - Rows are matched to their source puzzle by board status, a range of ids at a time
+ * - Rows whose source puzzle no longer exists cannot be referenced and are deleted
+ * - The copied columns are dropped at the end, which rebuilds (compacts) the table
+ * Runs once all singletons exist (after Hibernate has updated the schema) and before the web server
+ * starts, so no request sees a half-migrated table. Instances starting together serialize on a MySQL
+ * named lock; whoever gets it second finds the old columns gone and does nothing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankHistoryMigration implements SmartInitializingSingleton {
+
+    private static final String TABLE = "latest_rank_puzzle";
+    private static final long BATCH_SIZE = 10_000;
+    private static final String LOCK_NAME = "rank_history_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 1800;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!hasColumn(jdbcTemplate, "board_status")) {
+            return;
+        }
+
+        // GET_LOCK belongs to the connection, so the whole migration runs on the one that holds it
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate locked = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Integer acquired = locked.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+            if (acquired == null || acquired != 1) {
+                throw new IllegalStateException("Could not acquire lock " + LOCK_NAME + " to migrate " + TABLE);
+            }
+            try {
+                if (hasColumn(locked, "board_status")) {
+                    migrate(locked);
+                }
+            } finally {
+                locked.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+            }
+            return null;
+        });
+    }
+
+    private void migrate(JdbcTemplate jdbc) {
+        log.info("Migrating {} to puzzle references", TABLE);
+
+        Long minId = jdbc.queryForObject("SELECT MIN(id) FROM " + TABLE, Long.class);
+        Long maxId = jdbc.queryForObject("SELECT MAX(id) FROM " + TABLE, Long.class);
+        if (minId != null && maxId != null) {
+            for (long from = minId; from <= maxId; from += BATCH_SIZE) {
+                backfill(jdbc, from, from + BATCH_SIZE - 1);
+            }
+        }
+
+        dropCopiedColumns(jdbc);
+        log.info("Migrated {} to puzzle references", TABLE);
+    }
+
+    private void backfill(JdbcTemplate jdbc, long fromId, long toId) {
+        jdbc.update("DELETE FROM " + TABLE + " " +
+                "WHERE id BETWEEN ? AND ? " +
+                "AND NOT EXISTS (SELECT 1 FROM training_puzzle tp WHERE tp.board_status = " + TABLE + ".board_status) " +
+                "AND NOT EXISTS (SELECT 1 FROM community_puzzle cp WHERE cp.board_status = " + TABLE + ".board_status)",
+                fromId, toId);
+
+        // Training puzzles are applied last, so they win when both sources share a board
+        jdbc.update("UPDATE " + TABLE + " lrp " +
+                "JOIN community_puzzle cp ON cp.board_status = lrp.board_status " +
+                "SET lrp.puzzle_type = 'COMMUNITY', lrp.puzzle_id = cp.id " +
+                "WHERE lrp.id BETWEEN ? AND ?",
+                fromId, toId);
+        jdbc.update("UPDATE " + TABLE + " lrp " +
+                "JOIN training_puzzle tp ON tp.board_status = lrp.board_status " +
+                "SET lrp.puzzle_type = 'TRAINING', lrp.puzzle_id = tp.id " +
+                "WHERE lrp.id BETWEEN ? AND ?",
+                fromId, toId);
+    }
+
+    private void dropCopiedColumns(JdbcTemplate jdbc) {
+        List<String> foreignKeys = jdbc.queryForList(
+                "SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = 'win_color' " +
+                        "AND REFERENCED_TABLE_NAME IS NOT NULL",
+                String.class, TABLE);
+        for (String foreignKey : foreignKeys) {
+            jdbc.execute("ALTER TABLE " + TABLE + " DROP FOREIGN KEY `" + foreignKey + "`");
+        }
+
+        StringBuilder alter = new StringBuilder("ALTER TABLE " + TABLE + " DROP COLUMN board_status, DROP COLUMN answer");
+        if (hasColumn(jdbc, "win_color")) {
+            alter.append(", DROP COLUMN win_color");
+        }
+        jdbc.execute(alter.toString());
+    }
+
+    private boolean hasColumn(JdbcTemplate jdbc, String column) {
+        Integer count = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                Integer.class, TABLE, column);
+        return count != null && count > 0;
+    }
+}
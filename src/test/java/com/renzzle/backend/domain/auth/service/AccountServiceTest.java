@@ -6,6 +6,7 @@ import com.renzzle.backend.domain.auth.api.response.LoginResponse;
 import com.renzzle.backend.domain.user.dao.UserRepository;
 import com.renzzle.backend.domain.puzzle.training.service.TrainingService;
 import com.renzzle.backend.domain.user.domain.UserEntity;
+import com.renzzle.backend.domain.user.service.NicknameSearchIndex;
 import com.renzzle.backend.global.exception.CustomException;
 import com.renzzle.backend.global.exception.ErrorCode;
 import com.renzzle.backend.support.TestUserEntityBuilder;
@@ -37,6 +38,8 @@ class AccountServiceTest {
     private AuthService authService;
     @Mock
     private TrainingService trainingService;
+    @Mock
+    private NicknameSearchIndex nicknameSearchIndex;
 
     @InjectMocks
     private AccountService accountService;
@@ -73,6 +76,7 @@ class AccountServiceTest {
         // then
         assertNotNull(response);
         verify(userRepository).save(any(UserEntity.class));
+        verify(nicknameSearchIndex).index(1L, nickname);
     }
 
     @Test
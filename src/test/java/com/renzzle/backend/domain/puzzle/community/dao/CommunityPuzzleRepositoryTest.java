@@ -2,9 +2,13 @@ package com.renzzle.backend.domain.puzzle.community.dao;
 
 import com.renzzle.backend.support.DataJpaTestWithInitContainers;
 import com.renzzle.backend.domain.puzzle.community.api.request.GetCommunityPuzzleRequest;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.CommunityPuzzleSummary;
 import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleCursor;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleSearchMatch;
 import com.renzzle.backend.domain.user.dao.UserRepository;
 import com.renzzle.backend.domain.user.domain.UserEntity;
+import com.renzzle.backend.global.common.constant.SortOption;
 import com.renzzle.backend.global.common.domain.Status;
 import com.renzzle.backend.support.TestCommunityPuzzleBuilder;
 import com.renzzle.backend.support.TestUserCommunityPuzzleBuilder;
@@ -52,8 +56,10 @@ class CommunityPuzzleRepositoryTest {
                 .save(userCommunityPuzzleRepository);
 
         // When
-        List<CommunityPuzzle> result = communityPuzzleRepository.searchCommunityPuzzles(
-                new GetCommunityPuzzleRequest(null, null, null, "BLACK", true, 6, 7, true, "test"),
+        List<CommunityPuzzleSummary> result = communityPuzzleRepository.searchCommunityPuzzles(
+                new GetCommunityPuzzleRequest(null, null, null, "BLACK", true, 6, 7, true, "test", null),
+                null,
+                new CommunityPuzzleSearchMatch("test", null, List.of(user.getId())),
                 user.getId()
         );
 
@@ -62,14 +68,39 @@ class CommunityPuzzleRepositoryTest {
                 .hasSize(1)
                 .first()
                 .satisfies(p -> {
-                    assertThat(p.getId()).isEqualTo(puzzle.getId());
-                    assertThat(p.getUser().getNickname()).isEqualTo(user.getNickname());
-                    assertThat(p.getWinColor()).isEqualTo(getWinColor("BLACK"));
-                    assertThat(p.getDepth()).isEqualTo(7);
-                    assertThat(p.getIsVerified()).isTrue();
+                    assertThat(p.id()).isEqualTo(puzzle.getId());
+                    assertThat(p.authorId()).isEqualTo(user.getId());
+                    assertThat(p.authorName()).isEqualTo(user.getNickname());
+                    assertThat(p.winColor()).isEqualTo("BLACK");
+                    assertThat(p.depth()).isEqualTo(7);
+                    assertThat(p.isVerified()).isTrue();
                 });
     }
 
+    @Test
+    void searchCommunityPuzzles_WhenAuthorIdsAreNotListed_ThenMatchesNicknameOnEveryRow() {
+        // Given
+        UserEntity author = TestUserEntityBuilder.builder()
+                .withNickname("matching")
+                .save(userRepository);
+        UserEntity other = TestUserEntityBuilder.builder()
+                .withNickname("other")
+                .save(userRepository);
+        CommunityPuzzle puzzle = TestCommunityPuzzleBuilder.builder(author).save(communityPuzzleRepository);
+        TestCommunityPuzzleBuilder.builder(other).save(communityPuzzleRepository);
+
+        // When
+        List<CommunityPuzzleSummary> result = communityPuzzleRepository.searchCommunityPuzzles(
+                new GetCommunityPuzzleRequest(null, null, null, null, null, null, null, null, "atch", null),
+                null,
+                new CommunityPuzzleSearchMatch("atch", null, null),
+                author.getId()
+        );
+
+        // Then
+        assertThat(result).extracting(CommunityPuzzleSummary::id).containsExactly(puzzle.getId());
+    }
+
     @Test
     void searchCommunityPuzzles_WhenCursorIdAndSizeProvided_ThenReturnsCorrectSubset() {
         // Given
@@ -79,13 +110,19 @@ class CommunityPuzzleRepositoryTest {
         CommunityPuzzle puzzle2 = TestCommunityPuzzleBuilder.builder(user).save(communityPuzzleRepository);
         CommunityPuzzle puzzle3 = TestCommunityPuzzleBuilder.builder(user).save(communityPuzzleRepository);
 
+        GetCommunityPuzzleRequest request = new GetCommunityPuzzleRequest(null, 1, null, null, null, null, null, null, null, null);
+        CommunityPuzzleSummary first = communityPuzzleRepository.searchCommunityPuzzles(request, null, null, user.getId()).get(0);
+
         // When
-        List<CommunityPuzzle> result = communityPuzzleRepository.searchCommunityPuzzles(
-                new GetCommunityPuzzleRequest(puzzle3.getId(), 2, null, null, null, null, null, null, null),
+        List<CommunityPuzzleSummary> result = communityPuzzleRepository.searchCommunityPuzzles(
+                new GetCommunityPuzzleRequest(null, 2, null, null, null, null, null, null, null, null),
+                CommunityPuzzleCursor.of(SortOption.LATEST, first),
+                null,
                 user.getId()
         );
 
         // Then
+        assertThat(first.id()).isEqualTo(puzzle3.getId());
         assertThat(result)
                 .hasSize(2)
                 .extracting("id")
@@ -108,8 +145,10 @@ class CommunityPuzzleRepositoryTest {
                 .save(communityPuzzleRepository);
 
         // When
-        List<CommunityPuzzle> result = communityPuzzleRepository.searchCommunityPuzzles(
-                new GetCommunityPuzzleRequest(null, 3, "LIKE", null, null, null, null, null, null),
+        List<CommunityPuzzleSummary> result = communityPuzzleRepository.searchCommunityPuzzles(
+                new GetCommunityPuzzleRequest(null, 3, "LIKE", null, null, null, null, null, null, null),
+                null,
+                null,
                 user.getId()
         );
 
@@ -132,8 +171,10 @@ class CommunityPuzzleRepositoryTest {
                 .save(communityPuzzleRepository);
 
         // When
-        List<CommunityPuzzle> result = communityPuzzleRepository.searchCommunityPuzzles(
-                new GetCommunityPuzzleRequest(null, 3, "LATEST", null, null, null, null, null, null),
+        List<CommunityPuzzleSummary> result = communityPuzzleRepository.searchCommunityPuzzles(
+                new GetCommunityPuzzleRequest(null, 3, "LATEST", null, null, null, null, null, null, null),
+                null,
+                null,
                 user.getId()
         );
 
@@ -170,7 +211,7 @@ class CommunityPuzzleRepositoryTest {
                 .save(userCommunityPuzzleRepository);
 
         // When
-        List<CommunityPuzzle> result = communityPuzzleRepository.getUserLikedPuzzles(user.getId(), null, 10);
+        List<CommunityPuzzleSummary> result = communityPuzzleRepository.getUserLikedPuzzles(user.getId(), null, 10);
 
         // Then
         assertThat(result)
@@ -206,7 +247,7 @@ class CommunityPuzzleRepositoryTest {
                 .save(userCommunityPuzzleRepository);
 
         // When
-        List<CommunityPuzzle> result = communityPuzzleRepository.getUserLikedPuzzles(user.getId(), puzzle3.getId(), 10);
+        List<CommunityPuzzleSummary> result = communityPuzzleRepository.getUserLikedPuzzles(user.getId(), puzzle3.getId(), 10);
 
         // Then
         assertThat(result)
@@ -235,7 +276,7 @@ class CommunityPuzzleRepositoryTest {
                 .save(communityPuzzleRepository);
 
         // When
-        List<CommunityPuzzle> result = communityPuzzleRepository.getUserPuzzles(user1.getId(), null, 10);
+        List<CommunityPuzzleSummary> result = communityPuzzleRepository.getUserPuzzles(user1.getId(), null, null, 10);
 
         // Then
         assertThat(result)
@@ -259,8 +300,13 @@ class CommunityPuzzleRepositoryTest {
                 .withBoardStatus("C")
                 .save(communityPuzzleRepository);
 
+        entityManager.flush();
+        entityManager.clear();
+        Instant cursorCreatedAt = communityPuzzleRepository.findByIdIncludingDeleted(p3.getId()).getCreatedAt();
+
         // When
-        List<CommunityPuzzle> result = communityPuzzleRepository.getUserPuzzles(user.getId(), p3.getId(), 10);
+        List<CommunityPuzzleSummary> result =
+                communityPuzzleRepository.getUserPuzzles(user.getId(), cursorCreatedAt, p3.getId(), 10);
 
         // Then
         assertThat(result)
@@ -269,6 +315,32 @@ class CommunityPuzzleRepositoryTest {
                 .containsExactly("B", "A");
     }
 
+    @Test
+    void getUserPuzzles_WhenCursorPuzzleDeleted_ThenStillReturnsPreviousOnes() {
+        // Given
+        UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
+
+        TestCommunityPuzzleBuilder.builder(user)
+                .withBoardStatus("A")
+                .save(communityPuzzleRepository);
+        CommunityPuzzle p2 = TestCommunityPuzzleBuilder.builder(user)
+                .withBoardStatus("B")
+                .save(communityPuzzleRepository);
+        communityPuzzleRepository.softDelete(p2.getId(), Instant.parse("2025-04-15T12:00:00Z"));
+        entityManager.flush();
+        entityManager.clear();
+        Instant cursorCreatedAt = communityPuzzleRepository.findByIdIncludingDeleted(p2.getId()).getCreatedAt();
+
+        // When
+        List<CommunityPuzzleSummary> result =
+                communityPuzzleRepository.getUserPuzzles(user.getId(), cursorCreatedAt, p2.getId(), 10);
+
+        // Then
+        assertThat(result)
+                .extracting("boardStatus")
+                .containsExactly("A");
+    }
+
     @Test
     void softDelete_WhenCalled_ThenPuzzleIsMarkedDeleted() {
         // Given
@@ -0,0 +1,86 @@
+package com.renzzle.backend.domain.puzzle.community.service;
+
+import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleStateCacheRepository;
+import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.UserPuzzleStateProjection;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleUserState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommunityPuzzleStateResolverTest {
+
+    @Mock
+    private UserCommunityPuzzleRepository userCommunityPuzzleRepository;
+
+    @Mock
+    private CommunityPuzzleStateCacheRepository communityPuzzleStateCacheRepository;
+
+    @Test
+    @DisplayName("캐시를 쓰지 않으면 페이지 전체를 쿼리 한 번으로 조회한다")
+    void resolve_WhenCacheDisabled_ThenQueriesOnce() {
+        CommunityPuzzleStateResolver resolver = new CommunityPuzzleStateResolver(
+                userCommunityPuzzleRepository, communityPuzzleStateCacheRepository, false);
+        when(userCommunityPuzzleRepository.findStates(1L, List.of(10L, 11L)))
+                .thenReturn(List.of(row(11L, true, false, true)));
+
+        Map<Long, CommunityPuzzleUserState> states = resolver.resolve(1L, List.of(10L, 11L));
+
+        assertThat(states).containsEntry(10L, CommunityPuzzleUserState.NONE)
+                .containsEntry(11L, new CommunityPuzzleUserState(true, false, true));
+        verify(userCommunityPuzzleRepository, times(1)).findStates(any(), any());
+        verifyNoInteractions(communityPuzzleStateCacheRepository);
+    }
+
+    @Test
+    @DisplayName("캐시에 모두 있으면 DB 를 조회하지 않는다")
+    void resolve_WhenAllCached_ThenSkipsDatabase() {
+        CommunityPuzzleStateResolver resolver = new CommunityPuzzleStateResolver(
+                userCommunityPuzzleRepository, communityPuzzleStateCacheRepository, true);
+        when(communityPuzzleStateCacheRepository.findAll(1L, List.of(10L)))
+                .thenReturn(Map.of(10L, new CommunityPuzzleUserState(true, true, false)));
+
+        CommunityPuzzleUserState state = resolver.resolve(1L, 10L);
+
+        assertThat(state).isEqualTo(new CommunityPuzzleUserState(true, true, false));
+        verifyNoInteractions(userCommunityPuzzleRepository);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 퍼즐만 DB 에서 조회하고 캐시에 채운다")
+    void resolve_WhenPartiallyCached_ThenLoadsOnlyMissing() {
+        CommunityPuzzleStateResolver resolver = new CommunityPuzzleStateResolver(
+                userCommunityPuzzleRepository, communityPuzzleStateCacheRepository, true);
+        when(communityPuzzleStateCacheRepository.findAll(1L, List.of(10L, 11L)))
+                .thenReturn(Map.of(10L, CommunityPuzzleUserState.NONE));
+        when(userCommunityPuzzleRepository.findStates(1L, List.of(11L)))
+                .thenReturn(List.of(row(11L, true, false, false)));
+
+        Map<Long, CommunityPuzzleUserState> states = resolver.resolve(1L, List.of(10L, 11L));
+
+        assertThat(states).hasSize(2)
+                .containsEntry(11L, new CommunityPuzzleUserState(true, false, false));
+        verify(communityPuzzleStateCacheRepository).saveAll(eq(1L),
+                eq(Map.of(11L, new CommunityPuzzleUserState(true, false, false))), any());
+    }
+
+    private UserPuzzleStateProjection row(Long puzzleId, boolean solved, boolean liked, boolean disliked) {
+        return new UserPuzzleStateProjection() {
+            public Long getPuzzleId() { return puzzleId; }
+            public Boolean getIsSolved() { return solved; }
+            public Boolean getIsLiked() { return liked; }
+            public Boolean getIsDisliked() { return disliked; }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.renzzle.backend.domain.puzzle.community.service;
+
+import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleBatchRepository;
+import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleViewBufferRepository;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleBufferedViews;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleViewFlush;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommunityPuzzleViewCounterTest {
+
+    @Mock
+    private CommunityPuzzleViewBufferRepository communityPuzzleViewBufferRepository;
+    @Mock
+    private CommunityPuzzleBatchRepository communityPuzzleBatchRepository;
+
+    private CommunityPuzzleViewCounter communityPuzzleViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        communityPuzzleViewCounter = new CommunityPuzzleViewCounter(
+                communityPuzzleViewBufferRepository, communityPuzzleBatchRepository);
+    }
+
+    @Test
+    @DisplayName("조회수는 저장된 값에 아직 반영되지 않은 증가분을 더해 보여준다")
+    void withBuffered_WhenNoFlushApplied_ThenAddsAllBufferedViews() {
+        when(communityPuzzleBatchRepository.findLastViewFlushId()).thenReturn(6L);
+
+        int views = communityPuzzleViewCounter.withBuffered(10, new CommunityPuzzleBufferedViews(1, 8, 3, 7));
+
+        assertThat(views).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("DB에 이미 반영된 반영분은 버퍼에 남아 있어도 다시 더하지 않는다")
+    void withBuffered_WhenFlushAlreadyApplied_ThenSkipsIt() {
+        when(communityPuzzleBatchRepository.findLastViewFlushId()).thenReturn(7L);
+
+        int views = communityPuzzleViewCounter.withBuffered(13, new CommunityPuzzleBufferedViews(1, 8, 3, 7));
+
+        assertThat(views).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("목록의 퍼즐들은 버퍼를 한 번에 읽고, 아직 반영되지 않은 증가분이 있는 퍼즐만 돌려준다")
+    void findUnflushedViews_ReturnsOnlyPuzzlesWithViewsNotYetApplied() {
+        when(communityPuzzleViewBufferRepository.findBuffered(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, new CommunityPuzzleBufferedViews(1, 8, 3, 7),
+                2L, new CommunityPuzzleBufferedViews(0, 8, 5, 7),
+                3L, new CommunityPuzzleBufferedViews(0, 8, 0, 7)));
+        when(communityPuzzleBatchRepository.findLastViewFlushId()).thenReturn(7L);
+
+        Map<Long, Long> views = communityPuzzleViewCounter.findUnflushedViews(List.of(1L, 2L, 3L));
+
+        assertThat(views).containsExactlyEntriesOf(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("버퍼의 증가분을 반영 번호와 함께 한 번의 배치 UPDATE 로 반영한 뒤 버퍼를 비운다")
+    void flush_WhenViewsBuffered_ThenWritesBatchAndClearsBuffer() {
+        when(communityPuzzleViewBufferRepository.tryLock(anyString(), any())).thenReturn(true);
+        when(communityPuzzleBatchRepository.findLastViewFlushId()).thenReturn(6L);
+        when(communityPuzzleViewBufferRepository.beginFlush())
+                .thenReturn(Optional.of(new CommunityPuzzleViewFlush(7L, Map.of(1L, 3L, 2L, 1L))));
+        when(communityPuzzleBatchRepository.addViews(7L, Map.of(1L, 3L, 2L, 1L))).thenReturn(true);
+
+        communityPuzzleViewCounter.flush();
+
+        InOrder inOrder = inOrder(communityPuzzleBatchRepository, communityPuzzleViewBufferRepository);
+        inOrder.verify(communityPuzzleViewBufferRepository).advanceFlushSequence(6L);
+        inOrder.verify(communityPuzzleBatchRepository).addViews(7L, Map.of(1L, 3L, 2L, 1L));
+        inOrder.verify(communityPuzzleViewBufferRepository).endFlush();
+        inOrder.verify(communityPuzzleViewBufferRepository).unlock(anyString());
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 버퍼를 남겨 다음 주기에 다시 시도한다")
+    void flush_WhenUpdateFails_ThenKeepsBuffer() {
+        when(communityPuzzleViewBufferRepository.tryLock(anyString(), any())).thenReturn(true);
+        when(communityPuzzleViewBufferRepository.beginFlush())
+                .thenReturn(Optional.of(new CommunityPuzzleViewFlush(7L, Map.of(1L, 3L))));
+        doThrow(new IllegalStateException("db down")).when(communityPuzzleBatchRepository).addViews(anyLong(), any());
+
+        assertThatThrownBy(() -> communityPuzzleViewCounter.flush()).isInstanceOf(IllegalStateException.class);
+
+        verify(communityPuzzleViewBufferRepository, never()).endFlush();
+        verify(communityPuzzleViewBufferRepository).unlock(anyString());
+    }
+
+    @Test
+    @DisplayName("락은 획득할 때 쓴 토큰으로만 해제한다")
+    void flush_WhenFinished_ThenUnlocksWithItsOwnToken() {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(communityPuzzleViewBufferRepository.tryLock(token.capture(), any())).thenReturn(true);
+        when(communityPuzzleViewBufferRepository.beginFlush()).thenReturn(Optional.empty());
+
+        communityPuzzleViewCounter.flush();
+
+        verify(communityPuzzleViewBufferRepository).unlock(token.getValue());
+        verify(communityPuzzleBatchRepository, never()).addViews(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 반영 중이면 아무것도 하지 않는다")
+    void flush_WhenLockIsHeld_ThenSkips() {
+        when(communityPuzzleViewBufferRepository.tryLock(anyString(), any())).thenReturn(false);
+
+        communityPuzzleViewCounter.flush();
+
+        verifyNoInteractions(communityPuzzleBatchRepository);
+        verify(communityPuzzleViewBufferRepository, never()).beginFlush();
+    }
+}
@@ -8,13 +8,20 @@ import com.renzzle.backend.domain.puzzle.community.api.response.GetCommunityPuzz
 import com.renzzle.backend.domain.puzzle.community.api.response.GetSingleCommunityPuzzleResponse;
 import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.community.dao.projection.LikeDislikeProjection;
+import com.renzzle.backend.domain.puzzle.community.dao.projection.CommunityPuzzleSummary;
 import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleBufferedViews;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleUserState;
 import com.renzzle.backend.domain.puzzle.community.domain.UserCommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleCursor;
+import com.renzzle.backend.domain.puzzle.community.service.dto.CommunityPuzzleSearchMatch;
+import com.renzzle.backend.domain.puzzle.rank.service.RankPuzzlePool;
 import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
 import com.renzzle.backend.domain.puzzle.shared.util.BoardUtils;
 import com.renzzle.backend.domain.user.dao.UserRepository;
 import com.renzzle.backend.domain.user.domain.UserEntity;
+import com.renzzle.backend.domain.user.service.NicknameSearchIndex;
+import com.renzzle.backend.global.common.constant.SortOption;
 import com.renzzle.backend.global.exception.CustomException;
 import com.renzzle.backend.global.exception.ErrorCode;
 import com.renzzle.backend.support.TestCommunityPuzzleBuilder;
@@ -29,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.renzzle.backend.global.common.constant.ItemPrice.HINT;
@@ -47,6 +55,14 @@ class CommunityServiceTest {
     private UserCommunityPuzzleRepository userCommunityPuzzleRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private RankPuzzlePool rankPuzzlePool;
+    @Mock
+    private CommunityPuzzleStateResolver communityPuzzleStateResolver;
+    @Mock
+    private NicknameSearchIndex nicknameSearchIndex;
+    @Mock
+    private CommunityPuzzleViewCounter communityPuzzleViewCounter;
 
     @InjectMocks
     private CommunityService communityService;
@@ -96,11 +112,14 @@ class CommunityServiceTest {
         // Given
         UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
         CommunityPuzzle puzzle = TestCommunityPuzzleBuilder.builder(user).save(communityPuzzleRepository);
+        CommunityPuzzleSummary summary = new CommunityPuzzleSummary(puzzle.getId(), puzzle.getBoardStatus(),
+                user.getId(), user.getNickname(), puzzle.getDescription(), puzzle.getDepth(), "BLACK",
+                0, 0, 0, Instant.now(), true);
 
-        when(communityPuzzleRepository.searchCommunityPuzzles(any(GetCommunityPuzzleRequest.class), anyLong()))
-                .thenReturn(List.of(puzzle));
-        when(userCommunityPuzzleRepository.checkIsSolvedPuzzle(anyLong(), anyLong()))
-                .thenReturn(true);
+        when(communityPuzzleRepository.searchCommunityPuzzles(any(GetCommunityPuzzleRequest.class), isNull(), isNull(), anyLong()))
+                .thenReturn(List.of(summary));
+        when(communityPuzzleStateResolver.resolve(user.getId(), List.of(puzzle.getId())))
+                .thenReturn(Map.of(puzzle.getId(), new CommunityPuzzleUserState(true, false, false)));
 
         // When
         List<GetCommunityPuzzlesResponse> result =
@@ -109,6 +128,94 @@ class CommunityServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).id()).isEqualTo(puzzle.getId());
+        assertThat(result.get(0).authorName()).isEqualTo(user.getNickname());
+        assertThat(result.get(0).isSolved()).isTrue();
+        assertThat(CommunityPuzzleCursor.decode(result.get(0).cursor()))
+                .isEqualTo(CommunityPuzzleCursor.of(SortOption.LATEST, summary));
+    }
+
+    @Test
+    void getCommunityPuzzleList_WhenCursorProvided_ThenSeeksAfterIt() {
+        UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
+        CommunityPuzzleCursor cursor = new CommunityPuzzleCursor(SortOption.LIKE, null, 7, 42L);
+        GetCommunityPuzzleRequest request = new GetCommunityPuzzleRequest(
+                null, 10, "LIKE", null, null, null, null, null, null, cursor.encode());
+        when(communityPuzzleRepository.searchCommunityPuzzles(request, cursor, null, user.getId())).thenReturn(List.of());
+
+        List<GetCommunityPuzzlesResponse> result = communityService.getCommunityPuzzleList(request, user);
+
+        assertThat(result).isEmpty();
+        verify(communityPuzzleRepository, never()).findByIdIncludingDeleted(anyLong());
+    }
+
+    @Test
+    void getCommunityPuzzleList_WhenQueryIsNumeric_ThenMatchesPuzzleIdAndAuthors() {
+        UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
+        GetCommunityPuzzleRequest request = new GetCommunityPuzzleRequest(
+                null, 10, null, null, null, null, null, null, "123", null);
+        when(nicknameSearchIndex.findUserIds("123")).thenReturn(Optional.of(List.of(7L)));
+        when(communityPuzzleRepository.searchCommunityPuzzles(request, null,
+                new CommunityPuzzleSearchMatch("123", 123L, List.of(7L)), user.getId())).thenReturn(List.of());
+
+        List<GetCommunityPuzzlesResponse> result = communityService.getCommunityPuzzleList(request, user);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void getCommunityPuzzleList_WhenNumericQueryOverflowsLong_ThenMatchesAuthorsOnly() {
+        UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
+        String query = "12345678901234567890";
+        GetCommunityPuzzleRequest request = new GetCommunityPuzzleRequest(
+                null, 10, null, null, null, null, null, null, query, null);
+        when(nicknameSearchIndex.findUserIds(query)).thenReturn(Optional.of(List.of(7L)));
+        when(communityPuzzleRepository.searchCommunityPuzzles(request, null,
+                new CommunityPuzzleSearchMatch(query, null, List.of(7L)), user.getId())).thenReturn(List.of());
+
+        List<GetCommunityPuzzlesResponse> result = communityService.getCommunityPuzzleList(request, user);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void getCommunityPuzzleList_WhenQueryMatchesTooManyAuthors_ThenScansNicknames() {
+        UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
+        GetCommunityPuzzleRequest request = new GetCommunityPuzzleRequest(
+                null, 10, null, null, null, null, null, null, "a", null);
+        when(nicknameSearchIndex.findUserIds("a")).thenReturn(Optional.empty());
+        when(communityPuzzleRepository.searchCommunityPuzzles(request, null,
+                new CommunityPuzzleSearchMatch("a", null, null), user.getId())).thenReturn(List.of());
+
+        List<GetCommunityPuzzlesResponse> result = communityService.getCommunityPuzzleList(request, user);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void getCommunityPuzzleList_WhenNoAuthorMatchesQuery_ThenSkipsPuzzleQuery() {
+        UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
+        GetCommunityPuzzleRequest request = new GetCommunityPuzzleRequest(
+                null, 10, null, null, null, null, null, null, "nobody", null);
+        when(nicknameSearchIndex.findUserIds("nobody")).thenReturn(Optional.of(List.of()));
+
+        List<GetCommunityPuzzlesResponse> result = communityService.getCommunityPuzzleList(request, user);
+
+        assertThat(result).isEmpty();
+        verify(communityPuzzleRepository, never()).searchCommunityPuzzles(any(), any(), any(), any());
+    }
+
+    @Test
+    void getCommunityPuzzleList_WhenCursorDoesNotMatchSort_ThenThrows() {
+        UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
+        String latestCursor = new CommunityPuzzleCursor(SortOption.LATEST, Instant.now(), null, 42L).encode();
+
+        CustomException mismatch = assertThrows(CustomException.class, () -> communityService.getCommunityPuzzleList(
+                new GetCommunityPuzzleRequest(null, 10, "LIKE", null, null, null, null, null, null, latestCursor), user));
+        CustomException malformed = assertThrows(CustomException.class, () -> communityService.getCommunityPuzzleList(
+                new GetCommunityPuzzleRequest(null, 10, null, null, null, null, null, null, null, "not-a-cursor"), user));
+
+        assertThat(mismatch.getErrorCode()).isEqualTo(ErrorCode.INVALID_COMMUNITY_CURSOR);
+        assertThat(malformed.getErrorCode()).isEqualTo(ErrorCode.INVALID_COMMUNITY_CURSOR);
     }
 
     @Test
@@ -117,20 +224,20 @@ class CommunityServiceTest {
         UserEntity user = TestUserEntityBuilder.builder().save(userRepository);
         CommunityPuzzle puzzle = TestCommunityPuzzleBuilder.builder(user).save(communityPuzzleRepository);
 
-        LikeDislikeProjection projection = new LikeDislikeProjection() {
-            public Boolean getIsLiked() { return true; }
-            public Boolean getIsDisliked() { return false; }
-        };
-
         when(communityPuzzleRepository.findById(puzzle.getId())).thenReturn(Optional.of(puzzle));
-        when(userCommunityPuzzleRepository.checkIsSolvedPuzzle(user.getId(), puzzle.getId())).thenReturn(true);
-        when(userCommunityPuzzleRepository.getMyLikeDislike(user.getId(), puzzle.getId())).thenReturn(Optional.of(projection));
+        when(communityPuzzleStateResolver.resolve(user.getId(), puzzle.getId()))
+                .thenReturn(new CommunityPuzzleUserState(true, true, false));
+        CommunityPuzzleBufferedViews buffered = new CommunityPuzzleBufferedViews(3, 2, 0, 0);
+        when(communityPuzzleViewCounter.findBuffered(puzzle.getId())).thenReturn(buffered);
+        when(communityPuzzleViewCounter.withBuffered(puzzle.getView(), buffered)).thenReturn(puzzle.getView() + 3);
 
         // When
         GetSingleCommunityPuzzleResponse result = communityService.getCommunityPuzzleById(puzzle.getId(), user);
 
         // Then
+        verify(communityPuzzleViewCounter).record(puzzle.getId());
         assertThat(result.id()).isEqualTo(puzzle.getId());
+        assertThat(result.views()).isEqualTo(puzzle.getView() + 3);
         assertThat(result.isSolved()).isTrue();
         assertThat(result.myLike()).isTrue();
         assertThat(result.myDislike()).isFalse();
@@ -2,18 +2,19 @@ package com.renzzle.backend.domain.puzzle.content.service;
 
 import com.renzzle.backend.domain.puzzle.community.api.response.GetCommunityPuzzlesResponse;
 import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzleUserState;
+import com.renzzle.backend.domain.puzzle.community.service.CommunityPuzzleStateResolver;
+import com.renzzle.backend.domain.puzzle.community.service.CommunityPuzzleViewCounter;
 import com.renzzle.backend.domain.puzzle.content.api.request.GetRecommendRequest;
 import com.renzzle.backend.domain.puzzle.content.api.response.GetTrendPuzzlesResponse;
 import com.renzzle.backend.domain.puzzle.content.api.response.GetRecommendPackResponse;
 import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
 import com.renzzle.backend.domain.puzzle.shared.util.BoardUtils;
-import com.renzzle.backend.domain.puzzle.training.dao.PackRepository;
-import com.renzzle.backend.domain.puzzle.training.dao.PackTranslationRepository;
 import com.renzzle.backend.domain.puzzle.training.dao.SolvedTrainingPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.training.dao.UserPackRepository;
 import com.renzzle.backend.domain.puzzle.training.domain.*;
+import com.renzzle.backend.domain.puzzle.training.service.TrainingCatalogCache;
 import com.renzzle.backend.domain.user.domain.UserEntity;
 import com.renzzle.backend.global.common.domain.LangCode;
 import com.renzzle.backend.global.common.domain.Status;
@@ -32,8 +33,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -47,10 +51,7 @@ class ContentServiceTest {
     private SolvedTrainingPuzzleRepository solvedTrainingPuzzleRepository;
 
     @Mock
-    private PackRepository packRepository;
-
-    @Mock
-    private PackTranslationRepository packTranslationRepository;
+    private TrainingCatalogCache trainingCatalogCache;
 
     @Mock
     private UserPackRepository userPackRepository;
@@ -59,7 +60,10 @@ class ContentServiceTest {
     private CommunityPuzzleRepository communityPuzzleRepository;
 
     @Mock
-    private UserCommunityPuzzleRepository userCommunityPuzzleRepository;
+    private CommunityPuzzleStateResolver communityPuzzleStateResolver;
+
+    @Mock
+    private CommunityPuzzleViewCounter communityPuzzleViewCounter;
 
     @Mock
     private Clock clock;
@@ -118,8 +122,8 @@ class ContentServiceTest {
 
         when(solvedTrainingPuzzleRepository.findTopByUserOrderBySolvedAtDesc(user.getId()))
                 .thenReturn(Optional.of(solvedTrainingPuzzle));
-        when(packTranslationRepository.findByPackAndLangCode(eq(pack), any()))
-                .thenReturn(Optional.of(translation));
+        when(trainingCatalogCache.get())
+                .thenReturn(TrainingCatalog.of(1L, List.of(pack), List.of(translation)));
         when(userPackRepository.findByUserIdAndPackId(user.getId(), pack.getId()))
                 .thenReturn(Optional.of(userPack));
 
@@ -151,10 +155,8 @@ class ContentServiceTest {
         when(solvedTrainingPuzzleRepository.findTopByUserOrderBySolvedAtDesc(user.getId()))
                 .thenReturn(Optional.empty());
 
-        when(packRepository.findFirstByOrderByIdAsc())
-                .thenReturn(Optional.of(pack));
-        when(packTranslationRepository.findByPackAndLangCode(eq(pack), any()))
-                .thenReturn(Optional.of(translation));
+        when(trainingCatalogCache.get())
+                .thenReturn(TrainingCatalog.of(1L, List.of(pack), List.of(translation)));
 
         // When
         GetRecommendPackResponse response = contentService.getRecommendedPack(new GetRecommendRequest("EN"), user);
@@ -172,8 +174,8 @@ class ContentServiceTest {
         when(solvedTrainingPuzzleRepository.findTopByUserOrderBySolvedAtDesc(user.getId()))
                 .thenReturn(Optional.empty());
 
-        when(packRepository.findFirstByOrderByIdAsc())
-                .thenReturn(Optional.empty());
+        when(trainingCatalogCache.get())
+                .thenReturn(TrainingCatalog.of(1L, List.of(), List.of()));
 
         // When & Then
         assertThatThrownBy(() -> contentService.getRecommendedPack(new GetRecommendRequest("EN"), user))
@@ -191,11 +193,8 @@ class ContentServiceTest {
         when(solvedTrainingPuzzleRepository.findTopByUserOrderBySolvedAtDesc(user.getId()))
                 .thenReturn(Optional.empty());
 
-        when(packRepository.findFirstByOrderByIdAsc())
-                .thenReturn(Optional.of(pack));
-
-        when(packTranslationRepository.findByPackAndLangCode(eq(pack), any()))
-                .thenReturn(Optional.empty());
+        when(trainingCatalogCache.get())
+                .thenReturn(TrainingCatalog.of(1L, List.of(pack), List.of()));
 
         // When & Then
         assertThatThrownBy(() -> contentService.getRecommendedPack(new GetRecommendRequest("EN"), user))
@@ -236,8 +235,8 @@ class ContentServiceTest {
 
         when(solvedTrainingPuzzleRepository.findTopByUserOrderBySolvedAtDesc(user.getId()))
                 .thenReturn(Optional.of(solvedTrainingPuzzle));
-        when(packTranslationRepository.findByPackAndLangCode(eq(pack), any()))
-                .thenReturn(Optional.of(translation));
+        when(trainingCatalogCache.get())
+                .thenReturn(TrainingCatalog.of(1L, List.of(pack), List.of(translation)));
         when(userPackRepository.findByUserIdAndPackId(user.getId(), pack.getId()))
                 .thenReturn(Optional.empty());
 
@@ -300,10 +299,11 @@ class ContentServiceTest {
         lenient().when(communityPuzzleRepository.findTop30ByCreatedAtBeforeOrderByCreatedAtDesc(any()))
                 .thenReturn(List.of()); // no backup puzzles
 
-        for (CommunityPuzzle puzzle : puzzles) {
-            lenient().when(userCommunityPuzzleRepository.checkIsSolvedPuzzle(user.getId(), puzzle.getId()))
-                    .thenReturn(false);
-        }
+        when(communityPuzzleStateResolver.resolve(eq(user.getId()), anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(1);
+                    return ids.stream().collect(Collectors.toMap(id -> id, id -> CommunityPuzzleUserState.NONE));
+                });
 
 
         // when
@@ -344,8 +344,10 @@ class ContentServiceTest {
         lenient().when(communityPuzzleRepository.findTop30ByCreatedAtBeforeOrderByCreatedAtDesc(any()))
                 .thenReturn(List.of());
 
-        lenient().when(userCommunityPuzzleRepository.checkIsSolvedPuzzle(user.getId(), puzzle.getId()))
-                .thenReturn(true);
+        when(communityPuzzleStateResolver.resolve(eq(user.getId()), anyCollection()))
+                .thenReturn(Map.of(puzzle.getId(), new CommunityPuzzleUserState(true, false, false)));
+        when(communityPuzzleViewCounter.findUnflushedViews(List.of(puzzle.getId())))
+                .thenReturn(Map.of(puzzle.getId(), 4L));
 
         // When
         GetTrendPuzzlesResponse response = contentService.getTrendCommunityPuzzles(user);
@@ -360,7 +362,7 @@ class ContentServiceTest {
         assertThat(dto.depth()).isEqualTo(puzzle.getDepth());
         assertThat(dto.winColor()).isEqualTo(puzzle.getWinColor().getName());
         assertThat(dto.likeCount()).isEqualTo(puzzle.getLikeCount());
-        assertThat(dto.views()).isEqualTo(puzzle.getView());
+        assertThat(dto.views()).isEqualTo(puzzle.getView() + 4);
         assertThat(dto.createdAt()).isEqualTo(puzzle.getCreatedAt().toString());
         assertThat(dto.isSolved()).isTrue();
         assertThat(dto.isVerified()).isEqualTo(puzzle.getIsVerified());
@@ -0,0 +1,104 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.domain.puzzle.rank.domain.RankSessionData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankSessionDataSerializerTest {
+
+    private final RankSessionDataSerializer serializer = new RankSessionDataSerializer();
+
+    @Test
+    @DisplayName("직렬화-역직렬화 후 세션 필드가 보존된다")
+    void serializeAndDeserialize_ShouldRoundTrip() {
+        // given
+        RankSessionData session = sampleSession();
+
+        // when
+        RankSessionData restored = serializer.deserialize(serializer.serialize(session));
+
+        // then
+        assertThat(restored).isEqualTo(session);
+    }
+
+    @Test
+    @DisplayName("null 필드가 있어도 직렬화-역직렬화된다")
+    void serializeAndDeserialize_ShouldKeepNullFields() {
+        // given
+        RankSessionData session = new RankSessionData();
+        session.setStarted(true);
+
+        // when
+        RankSessionData restored = serializer.deserialize(serializer.serialize(session));
+
+        // then
+        assertThat(restored.getUserId()).isNull();
+        assertThat(restored.getBoardState()).isNull();
+        assertThat(restored.isStarted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 저장된 세션도 읽을 수 있다")
+    void deserialize_ShouldReadLegacyJsonSession() {
+        // given
+        RankSessionData session = sampleSession();
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(session);
+
+        // when
+        RankSessionData restored = serializer.deserialize(legacy);
+
+        // then
+        assertThat(restored).isEqualTo(session);
+        assertThat(serializer.serialize(session).length).isLessThan(legacy.length);
+    }
+
+    @Test
+    @DisplayName("카운터가 추가되기 전의 9개 필드 세션은 카운터 0 으로 읽힌다")
+    void deserialize_ShouldReadSessionWithoutCounters() throws Exception {
+        // given
+        byte[] bytes;
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packInt(RankSessionDataSerializer.SCHEMA_VERSION);
+            packer.packArrayHeader(9);
+            packer.packLong(42L);
+            packer.packString("h8i9j10");
+            packer.packDouble(1432.5);
+            packer.packString("BLACK");
+            packer.packDouble(1510.25);
+            packer.packDouble(1490.75);
+            packer.packDouble(0.65);
+            packer.packBoolean(true);
+            packer.packLong(3);
+            bytes = packer.toByteArray();
+        }
+
+        // when
+        RankSessionData restored = serializer.deserialize(bytes);
+
+        // then
+        assertThat(restored.getVersion()).isEqualTo(3);
+        assertThat(restored.getSolvedCount()).isZero();
+        assertThat(restored.getAttemptedCount()).isZero();
+    }
+
+    private static RankSessionData sampleSession() {
+        RankSessionData session = new RankSessionData();
+        session.setUserId(42L);
+        session.setBoardState("h8i9j10");
+        session.setLastProblemRating(1432.5);
+        session.setWinnerColor("BLACK");
+        session.setMmrBeforePenalty(1510.25);
+        session.setRatingBeforePenalty(1490.75);
+        session.setTargetWinProbability(0.65);
+        session.setStarted(true);
+        session.setVersion(3);
+        session.setSolvedCount(4);
+        session.setAttemptedCount(6);
+        return session;
+    }
+}
@@ -0,0 +1,99 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.config.TestContainersConfig;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankSessionData;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestContainersConfig.class)
+class RankSessionRepositoryTest {
+
+    private static final Long USER_ID = 9001L;
+
+    @Autowired private RankSessionRepository rankSessionRepository;
+    @Autowired private RedisTemplate<String, RankSessionData> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(String.valueOf(USER_ID));
+    }
+
+    @Test
+    void transition_WhenVersionMatches_ThenWritesNewStateAndKeepsTtl() {
+        rankSessionRepository.save(startedSession(), 600);
+
+        RankSessionData session = rankSessionRepository.findByUserId(USER_ID).orElseThrow();
+        session.setBoardState("next");
+        rankSessionRepository.transition(session, 0L);
+
+        RankSessionData stored = rankSessionRepository.findByUserId(USER_ID).orElseThrow();
+        assertThat(stored.getBoardState()).isEqualTo("next");
+        assertThat(stored.getVersion()).isEqualTo(1L);
+        assertThat(redisTemplate.getExpire(String.valueOf(USER_ID), TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    void transition_WhenSameVersionSubmittedTwice_ThenSecondIsRejected() {
+        rankSessionRepository.save(startedSession(), 600);
+
+        RankSessionData first = rankSessionRepository.findByUserId(USER_ID).orElseThrow();
+        RankSessionData duplicate = rankSessionRepository.findByUserId(USER_ID).orElseThrow();
+
+        rankSessionRepository.transition(first, 0L);
+        CustomException ex = assertThrows(CustomException.class, () -> rankSessionRepository.transition(duplicate, 0L));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.RANK_SESSION_CONFLICT);
+    }
+
+    @Test
+    void transition_WhenClientVersionIsBehind_ThenRejectsReplayedSubmit() {
+        rankSessionRepository.save(startedSession(), 600);
+        rankSessionRepository.transition(rankSessionRepository.findByUserId(USER_ID).orElseThrow(), 0L);
+
+        // The retry of the first submit, after its response was lost, reads the already advanced session
+        RankSessionData retried = rankSessionRepository.findByUserId(USER_ID).orElseThrow();
+        CustomException ex = assertThrows(CustomException.class, () -> rankSessionRepository.transition(retried, 0L));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.RANK_SESSION_CONFLICT);
+        assertThat(rankSessionRepository.findByUserId(USER_ID).orElseThrow().getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void transition_WhenSessionExpired_ThenThrowsInvalidSessionTtl() {
+        RankSessionData session = startedSession();
+
+        CustomException ex = assertThrows(CustomException.class, () -> rankSessionRepository.transition(session, 0L));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_SESSION_TTL);
+    }
+
+    @Test
+    void removeByUserId_WhenCalledTwice_ThenOnlyFirstGetsSession() {
+        rankSessionRepository.save(startedSession(), 600);
+
+        assertThat(rankSessionRepository.removeByUserId(USER_ID)).isPresent();
+        assertThat(rankSessionRepository.removeByUserId(USER_ID)).isEmpty();
+    }
+
+    private static RankSessionData startedSession() {
+        RankSessionData session = new RankSessionData();
+        session.setUserId(USER_ID);
+        session.setBoardState("start");
+        session.setStarted(true);
+        return session;
+    }
+}
@@ -0,0 +1,82 @@
+package com.renzzle.backend.domain.puzzle.rank.dao;
+
+import com.renzzle.backend.config.TestContainersConfig;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = TestContainersConfig.class)
+class RankingRepositoryTest {
+
+    private static final String KEY = "ranking:test";
+
+    @Autowired private RankingRepository rankingRepository;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Users 1..TOP_SIZE score 10000 down to 10000 - TOP_SIZE + 1, filling the rendered top
+        List<RankingEntry> entries = new ArrayList<>();
+        for (int i = 1; i <= RankingRepository.TOP_SIZE; i++) {
+            entries.add(new RankingEntry((long) i, "user" + i, 10001 - i));
+        }
+        rankingRepository.beginRebuild(KEY);
+        rankingRepository.replaceAll(KEY, entries);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(KEY, KEY + ":dirty", "ranking:version:" + KEY));
+    }
+
+    @Test
+    void add_WhenScoreStaysBelowTop_ThenKeepsVersion() {
+        String version = rankingRepository.findVersion(KEY);
+
+        rankingRepository.add(KEY, 5000L, "low", 100);
+        rankingRepository.add(KEY, 5000L, "low", 200);
+
+        assertThat(rankingRepository.findVersion(KEY)).isEqualTo(version);
+        assertThat(rankingRepository.findScore(KEY, 5000L)).contains(200.0);
+    }
+
+    @Test
+    void add_WhenScoreEntersTop_ThenBumpsVersion() {
+        String version = rankingRepository.findVersion(KEY);
+
+        rankingRepository.add(KEY, 5000L, "high", 20000);
+
+        assertThat(rankingRepository.findVersion(KEY)).isNotEqualTo(version);
+    }
+
+    @Test
+    void add_WhenTopMemberDropsOut_ThenBumpsVersion() {
+        String version = rankingRepository.findVersion(KEY);
+
+        rankingRepository.add(KEY, 1L, "user1", 1);
+
+        assertThat(rankingRepository.findVersion(KEY)).isNotEqualTo(version);
+    }
+
+    @Test
+    void add_WhenTopMemberScoreUnchanged_ThenKeepsVersion() {
+        String version = rankingRepository.findVersion(KEY);
+
+        rankingRepository.add(KEY, 1L, "user1", 10000);
+
+        assertThat(rankingRepository.findVersion(KEY)).isEqualTo(version);
+    }
+}
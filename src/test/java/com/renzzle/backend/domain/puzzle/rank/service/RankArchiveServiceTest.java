@@ -0,0 +1,122 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzzle.backend.domain.puzzle.rank.api.response.RankArchivePageResponse;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankArchiveRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankArchiveEntry;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankArchiveCursor;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RankArchiveServiceTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private RankArchiveRepository rankArchiveRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RankArchiveService rankArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rankArchiveService = new RankArchiveService(rankArchiveRepository, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 항목의 커서를 반환한다")
+    void getArchivePage_WhenMoreEntriesExist_ThenReturnsNextCursor() {
+        when(rankArchiveRepository.findPage(1L, null, 3))
+                .thenReturn(List.of(entry(1L, 0), entry(2L, 1), entry(3L, 2)));
+
+        RankArchivePageResponse response = rankArchiveService.getArchivePage(1L, null, 2);
+
+        assertThat(response.archives()).extracting("boardStatus").containsExactly("board1", "board2");
+        assertThat(RankArchiveCursor.decode(response.nextCursor()))
+                .isEqualTo(new RankArchiveCursor(T0.plusSeconds(1), 2L));
+        assertThat(meterRegistry.get("rank.archive.fetch").tag("mode", "page").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지에서는 커서가 없고, 페이지 크기는 최대값으로 제한된다")
+    void getArchivePage_WhenLastPage_ThenCursorIsNullAndSizeIsCapped() {
+        RankArchiveCursor cursor = new RankArchiveCursor(T0, 1L);
+        when(rankArchiveRepository.findPage(1L, cursor, RankArchiveService.MAX_PAGE_SIZE + 1))
+                .thenReturn(List.of(entry(2L, 1)));
+
+        RankArchivePageResponse response = rankArchiveService.getArchivePage(1L, cursor.encode(), 10_000);
+
+        assertThat(response.archives()).hasSize(1);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외를 던진다")
+    void getArchivePage_WhenCursorIsMalformed_ThenThrows() {
+        CustomException ex = assertThrows(CustomException.class,
+                () -> rankArchiveService.getArchivePage(1L, "not-a-cursor", 10));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_ARCHIVE_CURSOR);
+    }
+
+    @Test
+    @DisplayName("전체 기록을 한 줄에 하나씩 NDJSON 으로 내보낸다")
+    void exportArchive_WritesOneJsonObjectPerLine() throws Exception {
+        when(rankArchiveRepository.findPage(1L, null, RankArchiveService.EXPORT_CHUNK_SIZE))
+                .thenReturn(List.of(entry(1L, 0), entry(2L, 1)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rankArchiveService.exportArchive(1L, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"boardStatus\":\"board1\"");
+        assertThat(lines[1]).contains("\"boardStatus\":\"board2\"");
+        assertThat(meterRegistry.get("rank.archive.export.rows").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("내보내기는 마지막 항목 다음부터 청크 단위로 이어서 읽는다")
+    void exportArchive_WhenChunkIsFull_ThenReadsNextChunkAfterLastEntry() throws Exception {
+        List<RankArchiveEntry> firstChunk = new ArrayList<>();
+        for (long id = 1; id <= RankArchiveService.EXPORT_CHUNK_SIZE; id++) {
+            firstChunk.add(entry(id, id));
+        }
+        RankArchiveEntry last = firstChunk.get(firstChunk.size() - 1);
+        when(rankArchiveRepository.findPage(1L, null, RankArchiveService.EXPORT_CHUNK_SIZE))
+                .thenReturn(firstChunk);
+        when(rankArchiveRepository.findPage(1L, RankArchiveCursor.of(last), RankArchiveService.EXPORT_CHUNK_SIZE))
+                .thenReturn(List.of(entry(last.id() + 1, last.id() + 1)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rankArchiveService.exportArchive(1L, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(RankArchiveService.EXPORT_CHUNK_SIZE + 1);
+        assertThat(meterRegistry.get("rank.archive.export.rows").summary().totalAmount())
+                .isEqualTo(RankArchiveService.EXPORT_CHUNK_SIZE + 1);
+    }
+
+    private static RankArchiveEntry entry(long id, long secondsAfterT0) {
+        return new RankArchiveEntry(id, T0.plusSeconds(secondsAfterT0), "board" + id, "answer" + id, "BLACK", true);
+    }
+}
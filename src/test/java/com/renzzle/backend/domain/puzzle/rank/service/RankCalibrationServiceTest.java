@@ -0,0 +1,118 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankCalibrationRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankCalibrationStateRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankOutcome;
+import com.renzzle.backend.domain.puzzle.shared.util.ELOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankCalibrationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-02T04:00:00Z");
+    private static final long WATERMARK = 100L;
+    private static final long LAST_OUTCOME_ID = 200L;
+
+    @Mock
+    private RankCalibrationRepository rankCalibrationRepository;
+    @Mock
+    private RankCalibrationStateRepository rankCalibrationStateRepository;
+    @Mock
+    private RankPuzzlePool rankPuzzlePool;
+
+    private RankCalibrationService rankCalibrationService;
+
+    @BeforeEach
+    void setUp() {
+        rankCalibrationService = new RankCalibrationService(rankCalibrationRepository, rankCalibrationStateRepository,
+                rankPuzzlePool, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보정 중이면 아무것도 하지 않는다")
+    void calibrate_WhenLockIsHeld_ThenSkips() {
+        when(rankCalibrationStateRepository.lockWatermark()).thenReturn(Optional.empty());
+
+        rankCalibrationService.calibrate();
+
+        verifyNoInteractions(rankCalibrationRepository, rankPuzzlePool);
+        verify(rankCalibrationStateRepository, never()).saveWatermark(anyLong());
+    }
+
+    @Test
+    @DisplayName("워터마크 이후 기록된 결과가 없으면 레이팅도 워터마크도 건드리지 않는다")
+    void calibrate_WhenNoNewOutcomes_ThenSkips() {
+        when(rankCalibrationStateRepository.lockWatermark()).thenReturn(Optional.of(WATERMARK));
+        when(rankCalibrationRepository.findLastOutcomeId(any())).thenReturn(Optional.of(WATERMARK));
+
+        rankCalibrationService.calibrate();
+
+        verify(rankCalibrationRepository, never()).streamOutcomes(anyLong(), anyLong(), any());
+        verify(rankCalibrationStateRepository, never()).saveWatermark(anyLong());
+        verifyNoInteractions(rankPuzzlePool);
+    }
+
+    @Test
+    @DisplayName("예상보다 자주 풀린 퍼즐은 레이팅이 내려가고, 풀 재적재와 워터마크 저장이 이어진다")
+    void calibrate_WhenPuzzleIsSolvedMoreThanExpected_ThenLowersRating() {
+        when(rankCalibrationStateRepository.lockWatermark()).thenReturn(Optional.of(WATERMARK));
+        when(rankCalibrationRepository.findLastOutcomeId(NOW.minusSeconds(60))).thenReturn(Optional.of(LAST_OUTCOME_ID));
+        List<RankOutcome> outcomes = List.of(
+                new RankOutcome(PuzzleType.TRAINING, 10L, 1400.0, 1500.0, true),
+                new RankOutcome(PuzzleType.TRAINING, 10L, 1400.0, 1500.0, true),
+                new RankOutcome(PuzzleType.TRAINING, 10L, 1400.0, 1500.0, true),
+                new RankOutcome(PuzzleType.TRAINING, 10L, 1400.0, 1500.0, true));
+        doAnswer(invocation -> {
+            Consumer<RankOutcome> consumer = invocation.getArgument(2);
+            outcomes.forEach(consumer);
+            return null;
+        }).when(rankCalibrationRepository).streamOutcomes(eq(WATERMARK), eq(LAST_OUTCOME_ID), any());
+
+        rankCalibrationService.calibrate();
+
+        double expected = 4 * ELOUtils.expectedWinProbability(1500.0, 1400.0);
+        double newRating = 1400.0 + ELOUtils.calculatePuzzleRatingChange(expected, 4);
+        assertThat(newRating).isLessThan(1400.0);
+        verify(rankCalibrationRepository).updateRatings(PuzzleType.TRAINING, Map.of(10L, newRating));
+        verify(rankCalibrationRepository, never()).updateRatings(eq(PuzzleType.COMMUNITY), any());
+        verify(rankCalibrationStateRepository).saveWatermark(LAST_OUTCOME_ID);
+        verify(rankCalibrationRepository).deleteOutcomes(LAST_OUTCOME_ID);
+        verify(rankPuzzlePool).refresh();
+    }
+
+    @Test
+    @DisplayName("기대만큼 풀린 퍼즐은 레이팅이 바뀌지 않는다")
+    void calculateRatings_WhenOutcomesMatchExpectation_ThenNoChange() {
+        doAnswer(invocation -> {
+            Consumer<RankOutcome> consumer = invocation.getArgument(2);
+            consumer.accept(new RankOutcome(PuzzleType.COMMUNITY, 20L, 1500.0, 1500.0, true));
+            consumer.accept(new RankOutcome(PuzzleType.COMMUNITY, 20L, 1500.0, 1500.0, false));
+            return null;
+        }).when(rankCalibrationRepository).streamOutcomes(eq(WATERMARK), eq(LAST_OUTCOME_ID), any());
+
+        Map<PuzzleType, Map<Long, Double>> ratings = rankCalibrationService.calculateRatings(WATERMARK, LAST_OUTCOME_ID);
+
+        assertThat(ratings.get(PuzzleType.COMMUNITY)).isEmpty();
+        assertThat(ratings.get(PuzzleType.TRAINING)).isEmpty();
+    }
+}
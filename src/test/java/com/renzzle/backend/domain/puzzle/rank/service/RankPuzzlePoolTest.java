@@ -0,0 +1,118 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.projection.RankCandidateProjection;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankPuzzleCandidate;
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RankPuzzlePoolTest {
+
+    @Mock
+    private TrainingPuzzleRepository trainingPuzzleRepository;
+
+    @Mock
+    private CommunityPuzzleRepository communityPuzzleRepository;
+
+    @InjectMocks
+    private RankPuzzlePool rankPuzzlePool;
+
+    @BeforeEach
+    void setUp() {
+        when(trainingPuzzleRepository.findAllRankCandidates()).thenReturn(List.of(
+                row(1L, 1200),
+                row(2L, 1400),
+                row(3L, 1450),
+                row(4L, 1600)
+        ));
+        when(communityPuzzleRepository.findAllRankCandidates()).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("목표 레이팅에 가까운 순서로 후보를 반환한다")
+    void pickNearest_ReturnsCandidatesInOrderOfCloseness() {
+        List<RankPuzzleCandidate> result =
+                rankPuzzlePool.pickNearest(PuzzleType.TRAINING, 1430, 3, id -> true);
+
+        assertThat(result).extracting(RankPuzzleCandidate::puzzleId).containsExactly(3L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("필터에 걸린 퍼즐은 건너뛰고 다음으로 가까운 퍼즐을 반환한다")
+    void pickNearest_SkipsFilteredCandidates() {
+        List<RankPuzzleCandidate> result =
+                rankPuzzlePool.pickNearest(PuzzleType.TRAINING, 1430, 2, id -> id != 3L);
+
+        assertThat(result).extracting(RankPuzzleCandidate::puzzleId).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("추가/삭제된 퍼즐이 재로딩 없이 풀에 반영된다")
+    void putAndRemove_UpdatePoolWithoutReload() {
+        assertThat(rankPuzzlePool.size(PuzzleType.TRAINING)).isEqualTo(4);
+
+        rankPuzzlePool.put(PuzzleType.TRAINING, 5L, 1420);
+        rankPuzzlePool.remove(PuzzleType.TRAINING, 3L);
+
+        List<RankPuzzleCandidate> result =
+                rankPuzzlePool.pickNearest(PuzzleType.TRAINING, 1430, 2, id -> true);
+
+        assertThat(rankPuzzlePool.size(PuzzleType.TRAINING)).isEqualTo(4);
+        assertThat(result).extracting(RankPuzzleCandidate::puzzleId).containsExactly(5L, 2L);
+    }
+
+    @Test
+    @DisplayName("여러 퍼즐을 한 번에 추가하면 레이팅 순서를 유지한다")
+    void putAll_KeepsRatingOrder() {
+        rankPuzzlePool.size(PuzzleType.TRAINING);
+
+        rankPuzzlePool.putAll(PuzzleType.TRAINING, Map.of(5L, 1420.0, 6L, 1300.0, 2L, 1000.0));
+
+        List<RankPuzzleCandidate> result =
+                rankPuzzlePool.pickNearest(PuzzleType.TRAINING, 1000, 6, id -> true);
+
+        assertThat(rankPuzzlePool.size(PuzzleType.TRAINING)).isEqualTo(6);
+        assertThat(result).extracting(RankPuzzleCandidate::puzzleId).containsExactly(2L, 1L, 6L, 5L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("재로딩이 DB를 읽는 동안 삭제된 퍼즐은 재로딩 뒤에도 풀에서 빠져 있다")
+    void refresh_WhenPuzzleRemovedDuringLoad_ThenKeepsRemoval() {
+        rankPuzzlePool.size(PuzzleType.TRAINING);
+
+        when(trainingPuzzleRepository.findAllRankCandidates()).thenAnswer(invocation -> {
+            // A write landing between the database read and the snapshot swap
+            rankPuzzlePool.remove(PuzzleType.TRAINING, 3L);
+            return List.of(row(1L, 1200), row(2L, 1400), row(3L, 1450), row(4L, 1600));
+        });
+        rankPuzzlePool.refresh();
+
+        List<RankPuzzleCandidate> result =
+                rankPuzzlePool.pickNearest(PuzzleType.TRAINING, 1450, 1, id -> true);
+
+        assertThat(rankPuzzlePool.size(PuzzleType.TRAINING)).isEqualTo(3);
+        assertThat(result).extracting(RankPuzzleCandidate::puzzleId).containsExactly(2L);
+    }
+
+    private static RankCandidateProjection row(Long id, double rating) {
+        return new RankCandidateProjection() {
+            @Override public Long getId() { return id; }
+            @Override public Double getRating() { return rating; }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankPuzzleQueueRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankSeenPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.QueuedRankPuzzle;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankPuzzleCandidate;
+import com.renzzle.backend.domain.puzzle.rank.support.TestUserFactory;
+import com.renzzle.backend.domain.puzzle.shared.util.ELOUtils;
+import com.renzzle.backend.domain.user.domain.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankPuzzleQueueTest {
+
+    @Mock
+    private RankPuzzleQueueRepository rankPuzzleQueueRepository;
+    @Mock
+    private RankSeenPuzzleRepository rankSeenPuzzleRepository;
+    @Mock
+    private RankPuzzlePool rankPuzzlePool;
+
+    private RankPuzzleQueue rankPuzzleQueue;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        rankPuzzleQueue = new RankPuzzleQueue(rankPuzzleQueueRepository, rankSeenPuzzleRepository, rankPuzzlePool);
+        ReflectionTestUtils.setField(rankPuzzleQueue, "sessionTTLSeconds", 600L);
+
+        user = TestUserFactory.createTestUser("tester", 1500);
+        ReflectionTestUtils.setField(user, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("큐가 비어 있으면 빈 결과를 반환한다")
+    void peek_WhenQueueEmpty_ThenReturnsEmpty() {
+        when(rankPuzzleQueueRepository.findAll(1L)).thenReturn(Collections.emptyList());
+
+        assertThat(rankPuzzleQueue.peek(user, 1500, 0.7)).isEmpty();
+        verifyNoInteractions(rankSeenPuzzleRepository);
+    }
+
+    @Test
+    @DisplayName("이미 출제됐거나 목표 레이팅에서 먼 퍼즐은 후보에서 뺀다")
+    void peek_SkipsSeenAndFarPuzzles() {
+        double desired = ELOUtils.getProblemRatingForTargetWinProbability(1500, 0.7);
+        QueuedRankPuzzle seen = new QueuedRankPuzzle(PuzzleType.TRAINING, 1L, desired);
+        QueuedRankPuzzle far = new QueuedRankPuzzle(PuzzleType.TRAINING, 2L, desired + 500);
+        QueuedRankPuzzle near = new QueuedRankPuzzle(PuzzleType.COMMUNITY, 3L, desired + 10);
+
+        when(rankPuzzleQueueRepository.findAll(1L)).thenReturn(List.of(seen, far, near));
+        when(rankSeenPuzzleRepository.findAll(1L)).thenReturn(Set.of(RankSeenPuzzleRepository.member(PuzzleType.TRAINING, 1L)));
+
+        List<RankPuzzleCandidate> result = rankPuzzleQueue.peek(user, 1500, 0.7);
+
+        assertThat(result).containsExactly(new RankPuzzleCandidate(PuzzleType.COMMUNITY, 3L, desired + 10));
+    }
+
+    @Test
+    @DisplayName("후보를 보여주기만 하고 큐에서 꺼내지는 않는다")
+    void peek_DoesNotClaimEntries() {
+        double desired = ELOUtils.getProblemRatingForTargetWinProbability(1500, 0.7);
+
+        when(rankPuzzleQueueRepository.findAll(1L)).thenReturn(List.of(new QueuedRankPuzzle(PuzzleType.TRAINING, 1L, desired)));
+        when(rankSeenPuzzleRepository.findAll(1L)).thenReturn(Collections.emptySet());
+
+        assertThat(rankPuzzleQueue.peek(user, 1500, 0.7)).hasSize(1);
+        verify(rankPuzzleQueueRepository, never()).remove(anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("풀에서 고른 퍼즐의 참조와 현재 레이팅만 큐에 넣는다")
+    void refill_StoresReferencesFromPool() {
+        when(rankSeenPuzzleRepository.findAll(1L)).thenReturn(Collections.emptySet());
+        when(rankPuzzlePool.pickNearest(eq(PuzzleType.TRAINING), anyDouble(), anyInt(), any())).thenReturn(List.of(
+                new RankPuzzleCandidate(PuzzleType.TRAINING, 1L, 1400),
+                new RankPuzzleCandidate(PuzzleType.TRAINING, 2L, 1450)));
+        when(rankPuzzlePool.pickNearest(eq(PuzzleType.COMMUNITY), anyDouble(), anyInt(), any())).thenReturn(Collections.emptyList());
+
+        rankPuzzleQueue.refill(1L, 1500, 1400, 0.7);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<QueuedRankPuzzle>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rankPuzzleQueueRepository).replaceAll(eq(1L), captor.capture(), eq(600L));
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(
+                new QueuedRankPuzzle(PuzzleType.TRAINING, 1L, 1400),
+                new QueuedRankPuzzle(PuzzleType.TRAINING, 2L, 1450));
+    }
+}
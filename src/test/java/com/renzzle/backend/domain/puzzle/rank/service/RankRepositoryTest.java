@@ -1,5 +1,6 @@
 package com.renzzle.backend.domain.puzzle.rank.service;
 
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
 import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
 import com.renzzle.backend.domain.puzzle.rank.dao.LatestRankPuzzleRepository;
@@ -57,9 +58,8 @@ class RankRepositoryTest {
         TrainingPuzzle training = trainingPuzzleRepository.findAll().get(0);
         LatestRankPuzzle latest = LatestRankPuzzle.builder()
                 .user(user)
-                .boardStatus(training.getBoardStatus())
-                .answer(training.getAnswer())
-                .winColor(training.getWinColor())
+                .puzzleType(PuzzleType.TRAINING)
+                .puzzleId(training.getId())
                 .assignedAt(Instant.now())
                 .isSolved(false)
                 .build();
@@ -68,7 +68,7 @@ class RankRepositoryTest {
         // Verify
         List<LatestRankPuzzle> all = latestRankPuzzleRepository.findAllByUser(user);
         assertThat(all).hasSize(1);
-        assertThat(all.get(0).getBoardStatus()).isEqualTo("a1a2");
+        assertThat(all.get(0).getPuzzleId()).isEqualTo(training.getId());
     }
 
     @Test
@@ -86,9 +86,8 @@ class RankRepositoryTest {
         LatestRankPuzzle latest = latestRankPuzzleRepository.save(
                 LatestRankPuzzle.builder()
                         .user(user)
-                        .boardStatus(community.getBoardStatus())
-                        .answer(community.getAnswer())
-                        .winColor(community.getWinColor())
+                        .puzzleType(PuzzleType.COMMUNITY)
+                        .puzzleId(community.getId())
                         .assignedAt(Instant.now())
                         .isSolved(false)
                         .build()
@@ -99,7 +98,8 @@ class RankRepositoryTest {
 
         // Then
         assertThat(saved).isPresent();
-        assertThat(saved.get().getBoardStatus()).isEqualTo("b1b2");
+        assertThat(saved.get().getPuzzleType()).isEqualTo(PuzzleType.COMMUNITY);
+        assertThat(saved.get().getPuzzleId()).isEqualTo(community.getId());
         assertThat(saved.get().getIsSolved()).isFalse();
     }
 }
@@ -1,17 +1,18 @@
 package com.renzzle.backend.domain.puzzle.rank.service;
 
 import com.renzzle.backend.config.TestContainersConfig;
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
 import com.renzzle.backend.domain.puzzle.rank.api.request.RankResultRequest;
 import com.renzzle.backend.domain.puzzle.rank.api.response.RankEndResponse;
 import com.renzzle.backend.domain.puzzle.rank.api.response.RankResultResponse;
 import com.renzzle.backend.domain.puzzle.rank.api.response.RankStartResponse;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankSeenPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.rank.domain.LatestRankPuzzle;
 import com.renzzle.backend.domain.puzzle.rank.domain.RankSessionData;
 import com.renzzle.backend.domain.puzzle.rank.service.dto.NextPuzzleResult;
 import com.renzzle.backend.domain.puzzle.rank.support.TestUserFactory;
 import com.renzzle.backend.domain.puzzle.rank.util.CommunityPuzzleSeeder;
 import com.renzzle.backend.domain.puzzle.rank.util.TrainingPuzzleSeeder;
-import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
 import com.renzzle.backend.domain.user.dao.UserRepository;
 import com.renzzle.backend.domain.user.domain.UserEntity;
 import com.renzzle.backend.domain.puzzle.shared.util.ELOUtils;
@@ -45,6 +46,8 @@ class RankServiceIntegrationTest {
     @Autowired private TrainingPuzzleSeeder trainingPuzzleSeeder;
     @Autowired private CommunityPuzzleSeeder communityPuzzleSeeder;
     @Autowired private Clock clock;
+    @Autowired private RankPuzzlePool rankPuzzlePool;
+    @Autowired private RankSeenPuzzleRepository rankSeenPuzzleRepository;
 
     @PersistenceContext
     private EntityManager em;
@@ -71,6 +74,9 @@ class RankServiceIntegrationTest {
         communityPuzzleSeeder.seedPuzzle("e1e2", "e3", 6, 1600, "BLACK", testUser);
         communityPuzzleSeeder.seedPuzzle("a1a2a3", "a13", 3, 1353, "BLACK", testUser);
 
+        em.flush();
+        rankPuzzlePool.refresh();
+        rankSeenPuzzleRepository.deleteAll(testUser.getId());
     }
 
     @Test
@@ -86,7 +92,7 @@ class RankServiceIntegrationTest {
         assertThat(startResponse.winColor()).isNotBlank();
 
         // resultRankGame
-        RankResultRequest resultRequest = new RankResultRequest(true);
+        RankResultRequest resultRequest = new RankResultRequest(true, startResponse.version());
         RankResultResponse resultResponse = rankService.resultRankGame(testUser, resultRequest);
 
         assertThat(resultResponse.boardStatus()).isNotBlank();
@@ -124,7 +130,7 @@ class RankServiceIntegrationTest {
         Thread.sleep(1000);
 
         // Call result API - assume the problem is answered correctly
-        RankResultRequest resultRequest = new RankResultRequest(true);
+        RankResultRequest resultRequest = new RankResultRequest(true, startResponse.version());
         RankResultResponse resultResponse = rankService.resultRankGame(beforeUser, resultRequest);
 
         RankSessionData sessionAfterResult = redisTemplate.opsForValue().get(redisKey);
@@ -148,33 +154,13 @@ class RankServiceIntegrationTest {
     }
 
     @Test
-    void endRankGame_WhenSolvedPuzzlesExist_ThenReturnCorrectReward() {
+    void endRankGame_WhenSessionHasSolvedPuzzles_ThenReturnCorrectReward() {
         // Given
-        LatestRankPuzzle solved1 = LatestRankPuzzle.builder()
-                .user(testUser)
-                .boardStatus("p1")
-                .answer("a1")
-                .winColor(WinColor.getWinColor("BLACK"))
-                .isSolved(true)
-                .assignedAt(clock.instant())
-                .build();
-
-        LatestRankPuzzle solved2 = LatestRankPuzzle.builder()
-                .user(testUser)
-                .boardStatus("p2")
-                .answer("a2")
-                .winColor(WinColor.getWinColor("WHITE"))
-                .isSolved(true)
-                .assignedAt(clock.instant())
-                .build();
-
-        em.persist(solved1);
-        em.persist(solved2);
-        em.flush();
-        em.clear();
+        int currencyBefore = testUser.getCurrency();
 
         RankSessionData session = new RankSessionData();
         session.setStarted(true);
+        session.setSolvedCount(2);
         redisTemplate.opsForValue().set(redisKey, session);
 
         // When
@@ -183,6 +169,9 @@ class RankServiceIntegrationTest {
         // Then
         assertThat(response.rating()).isEqualTo(testUser.getRating());
         assertThat(response.reward()).isEqualTo(40); // 2 correct answers * 20
+
+        em.clear();
+        assertThat(userRepository.findById(testUser.getId()).orElseThrow().getCurrency()).isEqualTo(currencyBefore + 40);
     }
 
     @Test
@@ -194,21 +183,20 @@ class RankServiceIntegrationTest {
         double targetWinProb = 0.7;
 
         NextPuzzleResult firstResult = rankService.getNextPuzzle(testUser.getMmr(), targetWinProb, testUser);
-        LatestRankPuzzle firstPuzzle = firstResult.latestPuzzle();
 
         // Save -> to prevent duplicates
         LatestRankPuzzle solved = LatestRankPuzzle.builder()
                 .user(testUser)
-                .boardStatus(firstPuzzle.getBoardStatus())
-                .answer(firstPuzzle.getAnswer())
+                .puzzleType(firstResult.type())
+                .puzzleId(firstResult.puzzleId())
                 .isSolved(true)
                 .assignedAt(clock.instant())
-                .winColor(firstPuzzle.getWinColor())
                 .build();
 
         em.persist(solved);
         em.flush();
         em.clear();
+        rankSeenPuzzleRepository.add(testUser.getId(), firstResult.type(), firstResult.puzzleId(), sessionTtl);
 
         double newMmr = testUser.getMmr() + ELOUtils.calculateMMRIncrease(testUser.getMmr(), firstResult.rating());
         testUser.updateMmrTo(newMmr);
@@ -218,9 +206,8 @@ class RankServiceIntegrationTest {
         em.clear();
 
         NextPuzzleResult secondResult = rankService.getNextPuzzle(testUser.getMmr(), targetWinProb - 0.05, testUser);
-        LatestRankPuzzle secondPuzzle = secondResult.latestPuzzle();
 
-        assertNotEquals(firstPuzzle.getBoardStatus(), secondPuzzle.getBoardStatus(), "같은 문제 다시 출제되면 안 됨");
+        assertNotEquals(firstResult.boardStatus(), secondResult.boardStatus(), "같은 문제 다시 출제되면 안 됨");
 
 //        double diff = Math.abs(secondResult.rating() - ELOUtils.getProblemRatingForTargetWinProbability(testUser.getMmr(), targetWinProb - 0.05));
 //        assertTrue(diff <= 200, "the second problem's rating should be near the expected value");
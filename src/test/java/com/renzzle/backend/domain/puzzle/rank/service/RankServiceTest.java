@@ -1,38 +1,44 @@
 package com.renzzle.backend.domain.puzzle.rank.service;
 
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
 import com.renzzle.backend.domain.puzzle.community.dao.CommunityPuzzleRepository;
-import com.renzzle.backend.domain.puzzle.community.dao.UserCommunityPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.community.domain.CommunityPuzzle;
+import com.renzzle.backend.domain.puzzle.content.util.YearWeek;
 import com.renzzle.backend.domain.puzzle.rank.api.request.RankResultRequest;
 import com.renzzle.backend.domain.puzzle.rank.api.response.*;
 import com.renzzle.backend.domain.puzzle.rank.dao.LatestRankPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankOutcomeLogRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankSeenPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankSessionRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankingRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.projection.PuzzlerActivityProjection;
 import com.renzzle.backend.domain.puzzle.rank.domain.LatestRankPuzzle;
 import com.renzzle.backend.domain.puzzle.rank.domain.RankSessionData;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingEntry;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingWindow;
+import com.renzzle.backend.domain.puzzle.rank.service.dto.RankPuzzleCandidate;
 import com.renzzle.backend.domain.puzzle.rank.support.TestUserFactory;
 import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
 import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleRepository;
 import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzle;
 import com.renzzle.backend.domain.user.dao.UserRepository;
 import com.renzzle.backend.domain.user.domain.UserEntity;
-import com.renzzle.backend.global.common.domain.Status;
 import com.renzzle.backend.global.exception.CustomException;
 import com.renzzle.backend.global.exception.ErrorCode;
-import com.renzzle.backend.support.TestUserEntityBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.DefaultTypedTuple;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -43,13 +49,9 @@ import static org.mockito.Mockito.*;
 class RankServiceTest {
     private RankService rankService;
     @Mock
-    private RedisTemplate<String, Object> redisRankingTemplate;
+    private RankingRepository rankingRepository;
     @Mock
-    private ZSetOperations<String, Object> zSetOperations;
-    @Mock
-    private RedisTemplate<String, RankSessionData> redisSessionTemplate;
-    @Mock
-    private ValueOperations<String, RankSessionData> valueOperations;
+    private RankSessionRepository rankSessionRepository;
     @Mock
     private UserRepository userRepository;
     @Mock
@@ -59,24 +61,35 @@ class RankServiceTest {
     @Mock
     private LatestRankPuzzleRepository latestRankPuzzleRepository;
     @Mock
-    private UserCommunityPuzzleRepository userCommunityPuzzleRepository;
+    private RankPuzzlePool rankPuzzlePool;
+    @Mock
+    private RankSeenPuzzleRepository rankSeenPuzzleRepository;
+    @Mock
+    private RankPuzzleQueue rankPuzzleQueue;
+    @Mock
+    private RatingHistoryService ratingHistoryService;
+    @Mock
+    private RankOutcomeLogRepository rankOutcomeLogRepository;
     @Mock
     private Clock clock;
     @BeforeEach
     void setup() {
         lenient().when(clock.instant()).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
         rankService = new RankService(
-                redisSessionTemplate,
+                rankSessionRepository,
                 trainingPuzzleRepository,
                 communityPuzzleRepository,
                 userRepository,
                 latestRankPuzzleRepository,
-                userCommunityPuzzleRepository,
                 clock,
-                redisRankingTemplate
+                rankingRepository,
+                rankPuzzlePool,
+                rankSeenPuzzleRepository,
+                rankPuzzleQueue,
+                ratingHistoryService,
+                rankOutcomeLogRepository
         );
-
-        lenient().when(redisSessionTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
     // startRankGame Test
@@ -101,6 +114,7 @@ class RankServiceTest {
         ReflectionTestUtils.setField(user, "id", 1L); // force-inject the ID
 
         TrainingPuzzle puzzle = TrainingPuzzle.builder()
+                .id(10L)
                 .boardStatus("a1a2")
                 .answer("a3")
                 .rating(1400)
@@ -111,12 +125,12 @@ class RankServiceTest {
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(latestRankPuzzleRepository.findAllByUser(user)).thenReturn(Collections.emptyList());
 
-        when(trainingPuzzleRepository.findAvailableTrainingPuzzlesSortedByRating(user))
-                .thenReturn(List.of(puzzle));
-        when(communityPuzzleRepository.findAvailableCommunityPuzzlesSortedByRating(user))
+        when(rankPuzzlePool.pickNearest(eq(PuzzleType.TRAINING), anyDouble(), anyInt(), any()))
+                .thenReturn(List.of(new RankPuzzleCandidate(PuzzleType.TRAINING, 10L, 1400)));
+        when(rankPuzzlePool.pickNearest(eq(PuzzleType.COMMUNITY), anyDouble(), anyInt(), any()))
                 .thenReturn(Collections.emptyList());
+        when(trainingPuzzleRepository.findById(10L)).thenReturn(Optional.of(puzzle));
 
-        when(redisSessionTemplate.opsForValue()).thenReturn(valueOperations);
         when(clock.instant()).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
         // When
         RankStartResponse response = rankService.startRankGame(user);
@@ -124,9 +138,15 @@ class RankServiceTest {
         assertThat(response.boardStatus()).isEqualTo("a1a2");
         assertThat(response.winColor()).isEqualTo("BLACK");
 
-        verify(valueOperations).set(eq("1"), any(RankSessionData.class), anyLong(), eq(TimeUnit.SECONDS));
+        verify(rankSessionRepository).save(argThat(session -> session.getUserId() == 1L && session.isStarted()), anyLong());
 
         verify(latestRankPuzzleRepository).save(any());
+        verify(rankSeenPuzzleRepository).deleteAll(1L);
+        verify(rankSeenPuzzleRepository).add(eq(1L), eq(PuzzleType.TRAINING), eq(10L), anyLong());
+        verify(rankPuzzleQueue).clear(1L);
+        verify(rankPuzzleQueue).refill(eq(1L), eq(1500.0), eq(1400.0), anyDouble());
+        verify(rankingRepository).add(eq(RankingRepository.RATING_KEY), eq(1L), eq("tester"), doubleThat(r -> r < 1500.0));
+        verify(ratingHistoryService).record(user, Instant.parse("2025-01-01T00:00:00Z"));
         verify(userRepository).save(argThat(savedUser ->
                 savedUser.getRating() < 1500.0 &&
                         savedUser.getMmr() < 1500.0
@@ -142,9 +162,9 @@ class RankServiceTest {
         ReflectionTestUtils.setField(user, "id", 1L);
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(valueOperations.get("1")).thenReturn(null);
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.empty());
 
-        RankResultRequest request = new RankResultRequest(true);
+        RankResultRequest request = new RankResultRequest(true, 0L);
 
         // When
         CustomException ex = assertThrows(CustomException.class, () -> rankService.resultRankGame(user, request));
@@ -162,9 +182,9 @@ class RankServiceTest {
         session.setStarted(false);
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(valueOperations.get("1")).thenReturn(session);
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.of(session));
 
-        RankResultRequest request = new RankResultRequest(true);
+        RankResultRequest request = new RankResultRequest(true, 0L);
 
         // When
         CustomException ex = assertThrows(CustomException.class, () -> rankService.resultRankGame(user, request));
@@ -173,23 +193,154 @@ class RankServiceTest {
     }
 
     @Test
-    void resultRankGame_WhenSessionTtlInvalid_ThenThrowsInvalidSessionTTL() {
+    void resultRankGame_WhenSessionAlreadyAdvanced_ThenThrowsConflictWithoutUpdatingRanking() {
         //Given
         UserEntity user = TestUserFactory.createTestUser("u1", 1500);
         ReflectionTestUtils.setField(user, "id", 1L);
 
         RankSessionData session = new RankSessionData();
+        session.setUserId(1L);
         session.setStarted(true);
+        session.setMmrBeforePenalty(1500);
+        session.setRatingBeforePenalty(1500);
+        session.setLastProblemRating(1400);
+        session.setTargetWinProbability(0.7);
+
+        LatestRankPuzzle previous = LatestRankPuzzle.builder()
+                .user(user)
+                .puzzleType(PuzzleType.TRAINING)
+                .puzzleId(10L)
+                .isSolved(false)
+                .build();
+        TrainingPuzzle candidatePuzzle = TrainingPuzzle.builder()
+                .id(20L)
+                .boardStatus("nextBoard")
+                .answer("nextAnswer")
+                .depth(3)
+                .rating(1450)
+                .winColor(WinColor.getWinColor("BLACK"))
+                .build();
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(valueOperations.get("1")).thenReturn(session);
-        when(redisSessionTemplate.getExpire("1", TimeUnit.SECONDS)).thenReturn(0L); // or null
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.of(session));
+        when(latestRankPuzzleRepository.findTopByUserOrderByAssignedAtDesc(user)).thenReturn(Optional.of(previous));
+        when(rankPuzzlePool.pickNearest(eq(PuzzleType.TRAINING), anyDouble(), anyInt(), any()))
+                .thenReturn(List.of(new RankPuzzleCandidate(PuzzleType.TRAINING, 20L, 1450)));
+        when(rankPuzzlePool.pickNearest(eq(PuzzleType.COMMUNITY), anyDouble(), anyInt(), any()))
+                .thenReturn(Collections.emptyList());
+        when(trainingPuzzleRepository.findById(20L)).thenReturn(Optional.of(candidatePuzzle));
+        doThrow(new CustomException(ErrorCode.RANK_SESSION_CONFLICT)).when(rankSessionRepository).transition(any(), anyLong());
 
-        RankResultRequest request = new RankResultRequest(true);
+        RankResultRequest request = new RankResultRequest(true, 0L);
         // When
         CustomException ex = assertThrows(CustomException.class, () -> rankService.resultRankGame(user, request));
         // Then
-        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_SESSION_TTL);
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.RANK_SESSION_CONFLICT);
+        verify(rankingRepository, never()).add(anyString(), anyLong(), anyString(), anyDouble());
+        verify(rankSeenPuzzleRepository, never()).add(anyLong(), any(), anyLong(), anyLong());
+        verify(rankPuzzleQueue, never()).refill(anyLong(), anyDouble(), anyDouble(), anyDouble());
+        verify(rankPuzzleQueue, never()).discard(anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void resultRankGame_WhenRequestVersionIsBehindSession_ThenThrowsConflictBeforeScoring() {
+        //Given
+        UserEntity user = TestUserFactory.createTestUser("u1", 1500);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        RankSessionData session = new RankSessionData();
+        session.setUserId(1L);
+        session.setStarted(true);
+        session.setVersion(1L);
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.of(session));
+
+        // When - a retry of the answer already scored at version 0
+        CustomException ex = assertThrows(CustomException.class,
+                () -> rankService.resultRankGame(user, new RankResultRequest(true, 0L)));
+        // Then
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.RANK_SESSION_CONFLICT);
+        verifyNoInteractions(latestRankPuzzleRepository, rankPuzzleQueue);
+        verify(rankSessionRepository, never()).transition(any(), anyLong());
+    }
+
+    @Test
+    void resultRankGame_WhenQueuedPuzzleAvailable_ThenSkipsCandidateSearch() {
+        //Given
+        UserEntity user = TestUserFactory.createTestUser("u1", 1500);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        RankSessionData session = new RankSessionData();
+        session.setUserId(1L);
+        session.setStarted(true);
+        session.setMmrBeforePenalty(1500);
+        session.setRatingBeforePenalty(1500);
+        session.setLastProblemRating(1400);
+        session.setTargetWinProbability(0.7);
+
+        LatestRankPuzzle previous = LatestRankPuzzle.builder()
+                .user(user)
+                .puzzleType(PuzzleType.TRAINING)
+                .puzzleId(10L)
+                .isSolved(false)
+                .build();
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.of(session));
+        when(latestRankPuzzleRepository.findTopByUserOrderByAssignedAtDesc(user)).thenReturn(Optional.of(previous));
+        when(rankPuzzleQueue.peek(eq(user), anyDouble(), anyDouble()))
+                .thenReturn(List.of(new RankPuzzleCandidate(PuzzleType.COMMUNITY, 30L, 1450)));
+        when(communityPuzzleRepository.findById(30L)).thenReturn(Optional.of(verifiedCommunityPuzzle(30L, "queuedBoard")));
+
+        RankResultRequest request = new RankResultRequest(true, 0L);
+        // When
+        RankResultResponse response = rankService.resultRankGame(user, request);
+        // Then
+        assertThat(response.boardStatus()).isEqualTo("queuedBoard");
+        verifyNoInteractions(rankPuzzlePool, trainingPuzzleRepository);
+        verify(rankPuzzleQueue).discard(1L, PuzzleType.COMMUNITY, 30L);
+        verify(rankSeenPuzzleRepository).add(eq(1L), eq(PuzzleType.COMMUNITY), eq(30L), anyLong());
+        verify(rankPuzzleQueue).refill(eq(1L), anyDouble(), eq(1450.0), doubleThat(p -> Math.abs(p - 0.65) < 1e-9));
+    }
+
+    @Test
+    void resultRankGame_WhenQueuedPuzzleWasDeleted_ThenDropsItAndServesNextQueued() {
+        //Given
+        UserEntity user = TestUserFactory.createTestUser("u1", 1500);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        RankSessionData session = new RankSessionData();
+        session.setUserId(1L);
+        session.setStarted(true);
+        session.setMmrBeforePenalty(1500);
+        session.setRatingBeforePenalty(1500);
+        session.setLastProblemRating(1400);
+        session.setTargetWinProbability(0.7);
+
+        LatestRankPuzzle previous = LatestRankPuzzle.builder()
+                .user(user)
+                .puzzleType(PuzzleType.TRAINING)
+                .puzzleId(10L)
+                .isSolved(false)
+                .build();
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.of(session));
+        when(latestRankPuzzleRepository.findTopByUserOrderByAssignedAtDesc(user)).thenReturn(Optional.of(previous));
+        when(rankPuzzleQueue.peek(eq(user), anyDouble(), anyDouble())).thenReturn(List.of(
+                new RankPuzzleCandidate(PuzzleType.COMMUNITY, 30L, 1450),
+                new RankPuzzleCandidate(PuzzleType.COMMUNITY, 31L, 1460)));
+        when(communityPuzzleRepository.findById(30L)).thenReturn(Optional.empty());
+        when(communityPuzzleRepository.findById(31L)).thenReturn(Optional.of(verifiedCommunityPuzzle(31L, "freshBoard")));
+
+        // When
+        RankResultResponse response = rankService.resultRankGame(user, new RankResultRequest(true, 0L));
+        // Then
+        assertThat(response.boardStatus()).isEqualTo("freshBoard");
+        verify(rankPuzzleQueue).discard(1L, PuzzleType.COMMUNITY, 30L);
+        verify(rankPuzzlePool).remove(PuzzleType.COMMUNITY, 30L);
+        verify(rankPuzzleQueue).discard(1L, PuzzleType.COMMUNITY, 31L);
     }
 
     @Test
@@ -206,11 +357,10 @@ class RankServiceTest {
         session.setTargetWinProbability(0.7);
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(valueOperations.get("1")).thenReturn(session);
-        when(redisSessionTemplate.getExpire("1", TimeUnit.SECONDS)).thenReturn(60L);
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.of(session));
         when(latestRankPuzzleRepository.findTopByUserOrderByAssignedAtDesc(user)).thenReturn(Optional.empty());
         // When
-        RankResultRequest request = new RankResultRequest(true);
+        RankResultRequest request = new RankResultRequest(true, 0L);
 
         CustomException ex = assertThrows(CustomException.class, () -> rankService.resultRankGame(user, request));
         // Then
@@ -233,15 +383,16 @@ class RankServiceTest {
         // Existing problem (previous round's problem)
         LatestRankPuzzle previous = LatestRankPuzzle.builder()
                 .user(user)
-                .boardStatus("a1a2")
-                .answer("a3")
+                .puzzleType(PuzzleType.TRAINING)
+                .puzzleId(10L)
                 .isSolved(false)
                 .assignedAt(clock.instant())
-                .winColor(WinColor.getWinColor("WHITE"))
+                .solverMmr(1500.0)
                 .build();
 
         // Next problem candidate (TrainingPuzzle)
         TrainingPuzzle candidatePuzzle = TrainingPuzzle.builder()
+                .id(20L)
                 .boardStatus("nextBoard")
                 .answer("nextAnswer")
                 .depth(3)
@@ -251,22 +402,27 @@ class RankServiceTest {
 
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(valueOperations.get("1")).thenReturn(session);
-        when(redisSessionTemplate.getExpire("1", TimeUnit.SECONDS)).thenReturn(120L);
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.of(session));
         when(latestRankPuzzleRepository.findTopByUserOrderByAssignedAtDesc(user)).thenReturn(Optional.of(previous));
-        when(trainingPuzzleRepository.findAvailableTrainingPuzzlesSortedByRating(user)).thenReturn(List.of(candidatePuzzle));
-        when(communityPuzzleRepository.findAvailableCommunityPuzzlesSortedByRating(user)).thenReturn(Collections.emptyList());
+        when(rankPuzzlePool.pickNearest(eq(PuzzleType.TRAINING), anyDouble(), anyInt(), any()))
+                .thenReturn(List.of(new RankPuzzleCandidate(PuzzleType.TRAINING, 20L, 1450)));
+        when(rankPuzzlePool.pickNearest(eq(PuzzleType.COMMUNITY), anyDouble(), anyInt(), any()))
+                .thenReturn(Collections.emptyList());
+        when(trainingPuzzleRepository.findById(20L)).thenReturn(Optional.of(candidatePuzzle));
         when(clock.instant()).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
 
-        RankResultRequest request = new RankResultRequest(true);
+        RankResultRequest request = new RankResultRequest(true, 0L);
         RankResultResponse response = rankService.resultRankGame(user, request);
 
         // Then
         assertThat(response.boardStatus()).isEqualTo("nextBoard");
         assertThat(response.winColor()).isEqualTo("BLACK");
 
-        verify(redisSessionTemplate.opsForValue())
-                .set(eq("1"), any(RankSessionData.class), anyLong(), eq(TimeUnit.SECONDS));
+        verify(rankSessionRepository).transition(argThat(saved -> saved.getBoardState().equals("nextBoard")
+                && saved.getSolvedCount() == 1 && saved.getAttemptedCount() == 1), eq(0L));
+        verify(rankingRepository).add(RankingRepository.RATING_KEY, 1L, "u1", user.getRating());
+        verify(rankOutcomeLogRepository).save(argThat(outcome -> outcome.getPuzzleId() == 10L
+                && outcome.getIsSolved() && outcome.getSolverMmr() == 1500.0));
     }
 
     // endRankGame test
@@ -277,7 +433,7 @@ class RankServiceTest {
         UserEntity user = TestUserFactory.createTestUser("user1", 1500);
         ReflectionTestUtils.setField(user, "id", 1L);
 
-        when(valueOperations.get("1")).thenReturn(null); // no session
+        when(rankSessionRepository.removeByUserId(1L)).thenReturn(Optional.empty()); // no session
         // When
         CustomException ex = assertThrows(CustomException.class, () ->
                 rankService.endRankGame(user)
@@ -295,7 +451,7 @@ class RankServiceTest {
         RankSessionData session = new RankSessionData();
         session.setStarted(false); // session that has not been started
 
-        when(valueOperations.get("2")).thenReturn(session);
+        when(rankSessionRepository.removeByUserId(2L)).thenReturn(Optional.of(session));
         // When
         CustomException ex = assertThrows(CustomException.class, () ->
                 rankService.endRankGame(user)
@@ -312,21 +468,18 @@ class RankServiceTest {
 
         RankSessionData session = new RankSessionData();
         session.setStarted(true);
+        session.setSolvedCount(2);
+        session.setAttemptedCount(3);
 
-         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-        when(valueOperations.get("3")).thenReturn(session);
-        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user)); // added: userRepository Mock
-        when(latestRankPuzzleRepository.findAllByUser(user))
-                .thenReturn(List.of(
-                        LatestRankPuzzle.builder().isSolved(true).build(),
-                        LatestRankPuzzle.builder().isSolved(true).build()
-                ));
+        when(rankSessionRepository.removeByUserId(3L)).thenReturn(Optional.of(session));
+        when(userRepository.addUserCurrency(3L, 40)).thenReturn(1);
         // When
         RankEndResponse response = rankService.endRankGame(user);
         // Then
         assertThat(response.rating()).isEqualTo(1600);
         assertThat(response.reward()).isEqualTo(40);
-        verify(redisSessionTemplate).delete("3");
+        verify(rankSessionRepository).removeByUserId(3L);
+        verifyNoInteractions(latestRankPuzzleRepository);
     }
 
     // getRankArchive test
@@ -354,25 +507,43 @@ class RankServiceTest {
 
         LatestRankPuzzle puzzle1 = LatestRankPuzzle.builder()
                 .user(user)
-                .boardStatus("a1a2")
-                .answer("a3")
+                .puzzleType(PuzzleType.TRAINING)
+                .puzzleId(10L)
                 .isSolved(true)
-                .winColor(WinColor.getWinColor("WHITE"))
                 .assignedAt(Instant.now())
                 .build();
 
         LatestRankPuzzle puzzle2 = LatestRankPuzzle.builder()
                 .user(user)
+                .puzzleType(PuzzleType.COMMUNITY)
+                .puzzleId(20L)
+                .isSolved(false)
+                .assignedAt(Instant.now().plusSeconds(10))
+                .build();
+
+        TrainingPuzzle training = TrainingPuzzle.builder()
+                .id(10L)
+                .boardStatus("a1a2")
+                .answer("a3")
+                .depth(3)
+                .rating(1400)
+                .winColor(WinColor.getWinColor("WHITE"))
+                .build();
+
+        CommunityPuzzle community = CommunityPuzzle.builder()
+                .id(20L)
                 .boardStatus("b1b2")
                 .answer("b3")
-                .isSolved(false)
+                .depth(3)
+                .rating(1450.0)
                 .winColor(WinColor.getWinColor("BLACK"))
-                .assignedAt(Instant.now().plusSeconds(10))
                 .build();
 
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(latestRankPuzzleRepository.findAllByUserOrderByAssignedAtAsc(user))
                 .thenReturn(List.of(puzzle1, puzzle2));
+        when(trainingPuzzleRepository.findAllById(Set.of(10L))).thenReturn(List.of(training));
+        when(communityPuzzleRepository.findAllById(Set.of(20L))).thenReturn(List.of(community));
 
         // When
         List<RankArchive> archives = rankService.getRankArchive(user);
@@ -394,19 +565,15 @@ class RankServiceTest {
     void getRanking_WhenUsersHaveSameRating_ThenAssignsSameRank() {
         // Given
         UserEntity user = TestUserFactory.createTestUser("me", 1300.0);
+        ReflectionTestUtils.setField(user, "id", 3L);
 
-        UserRatingRankInfo info1 = UserRatingRankInfo.builder().nickname("user1").rating(1500).rank(0).build();
-        UserRatingRankInfo info2 = UserRatingRankInfo.builder().nickname("user2").rating(1500).rank(0).build();
-        UserRatingRankInfo myInfo = UserRatingRankInfo.builder().nickname("me").rating(1300).rank(0).build();
-
-        Set<ZSetOperations.TypedTuple<Object>> zset = new LinkedHashSet<>();
-        zset.add(new DefaultTypedTuple<>(info1, 1500.0));
-        zset.add(new DefaultTypedTuple<>(info2, 1500.0));
-        zset.add(new DefaultTypedTuple<>(myInfo, 1300.0));
-
-        when(zSetOperations.reverseRangeWithScores("user:ranking", 0, 99)).thenReturn(zset);
-        when(zSetOperations.reverseRangeWithScores("user:ranking", 0, -1)).thenReturn(zset);
-        when(redisRankingTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(rankingRepository.findTop(RankingRepository.RATING_KEY, 100)).thenReturn(List.of(
+                new RankingEntry(1L, "user1", 1500.0),
+                new RankingEntry(2L, "user2", 1500.0),
+                new RankingEntry(3L, "me", 1300.0)
+        ));
+        when(rankingRepository.findScore(RankingRepository.RATING_KEY, 3L)).thenReturn(Optional.of(1300.0));
+        when(rankingRepository.countHigherThan(RankingRepository.RATING_KEY, 1300.0)).thenReturn(2L);
 
         // When
         GetRatingRankingResponse response = rankService.getRatingRanking(user);
@@ -419,50 +586,131 @@ class RankServiceTest {
         assertThat(response.myRatingRank().rank()).isEqualTo(3);
     }
 
+    @Test
+    void getRanking_WhenUserNotOnLeaderboard_ThenMyRankIsMinusOne() {
+        // Given
+        UserEntity user = TestUserFactory.createTestUser("me", 1300.0);
+        ReflectionTestUtils.setField(user, "id", 3L);
+
+        when(rankingRepository.findTop(RankingRepository.RATING_KEY, 100)).thenReturn(Collections.emptyList());
+        when(rankingRepository.findScore(RankingRepository.RATING_KEY, 3L)).thenReturn(Optional.empty());
+
+        // When
+        GetRatingRankingResponse response = rankService.getRatingRanking(user);
+
+        // Then
+        assertThat(response.top100()).isEmpty();
+        assertThat(response.myRatingRank().rank()).isEqualTo(-1);
+        verify(rankingRepository, never()).countHigherThan(anyString(), anyDouble());
+    }
+
+    @Test
+    void getRatingRankingAround_WhenWindowStartsInTie_ThenRanksFromLeaderboardPosition() {
+        // Given
+        UserEntity user = TestUserFactory.createTestUser("me", 1300.0);
+        ReflectionTestUtils.setField(user, "id", 3L);
+
+        // Window starts at position 10 (0-based); its first user ties with someone above the window
+        when(rankingRepository.findAround(RankingRepository.RATING_KEY, 3L, 1)).thenReturn(Optional.of(
+                new RankingWindow(10, List.of(
+                        new RankingEntry(1L, "user1", 1400.0),
+                        new RankingEntry(3L, "me", 1300.0),
+                        new RankingEntry(2L, "user2", 1300.0)
+                ))));
+        when(rankingRepository.countHigherThan(RankingRepository.RATING_KEY, 1400.0)).thenReturn(9L);
+
+        // When
+        List<UserRatingRankInfo> result = rankService.getRatingRankingAround(user, 1);
+
+        // Then
+        assertThat(result).extracting(UserRatingRankInfo::rank).containsExactly(10, 12, 12);
+    }
+
+    @Test
+    void resultRankGame_WhenSolved_ThenAddsRatingGainToWeeklyRanking() {
+        // Given
+        UserEntity user = TestUserFactory.createTestUser("u1", 1500);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        RankSessionData session = new RankSessionData();
+        session.setUserId(1L);
+        session.setStarted(true);
+        session.setMmrBeforePenalty(1500);
+        session.setRatingBeforePenalty(1500);
+        session.setLastProblemRating(1400);
+        session.setTargetWinProbability(0.7);
+
+        LatestRankPuzzle previous = LatestRankPuzzle.builder()
+                .user(user)
+                .puzzleType(PuzzleType.TRAINING)
+                .puzzleId(10L)
+                .isSolved(false)
+                .build();
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(rankSessionRepository.findByUserId(1L)).thenReturn(Optional.of(session));
+        when(latestRankPuzzleRepository.findTopByUserOrderByAssignedAtDesc(user)).thenReturn(Optional.of(previous));
+        when(rankPuzzleQueue.peek(eq(user), anyDouble(), anyDouble()))
+                .thenReturn(List.of(new RankPuzzleCandidate(PuzzleType.TRAINING, 20L, 1450)));
+        when(trainingPuzzleRepository.findById(20L)).thenReturn(Optional.of(TrainingPuzzle.builder()
+                .id(20L)
+                .boardStatus("nextBoard")
+                .answer("nextAnswer")
+                .depth(3)
+                .rating(1450)
+                .winColor(WinColor.getWinColor("BLACK"))
+                .build()));
+
+        // When
+        rankService.resultRankGame(user, new RankResultRequest(true, 0L));
+
+        // Then
+        double gain = user.getRating() - 1500;
+        String weeklyKey = RankingRepository.weeklyRatingKey(YearWeek.from(LocalDate.of(2025, 1, 1)));
+        verify(rankingRepository).incrementScore(eq(weeklyKey), eq(1L), eq("u1"), doubleThat(d -> Math.abs(d - gain) < 1e-9), any());
+    }
+
     // updateRankingCache test
     @Test
     void updateRankingCache_WhenCalled_ThenStoresTopUsersInRedis() {
         // Given
         UserEntity user1 = TestUserFactory.createTestUser("u1", 1400);
         UserEntity user2 = TestUserFactory.createTestUser("u2", 1600);
+        ReflectionTestUtils.setField(user1, "id", 1L);
+        ReflectionTestUtils.setField(user2, "id", 2L);
         List<UserEntity> activeUsers = List.of(user1, user2);
 
         when(latestRankPuzzleRepository.findActiveUsersWithinPeriod(any())).thenReturn(activeUsers);
-        when(redisRankingTemplate.opsForZSet()).thenReturn(zSetOperations);
 
         // When
         rankService.updateRankingCache();
 
         // Then
-        verify(redisRankingTemplate).delete("user:ranking");
-        verify(latestRankPuzzleRepository).findActiveUsersWithinPeriod(any());
-
-        verify(zSetOperations, times(2)).add(eq("user:ranking"), any(UserRatingRankInfo.class), anyDouble());
-
-        verify(zSetOperations).add(eq("user:ranking"),
-                argThat(info -> ((UserRatingRankInfo) info).nickname().equals("u1")),
-                eq(1400.0));
-        verify(zSetOperations).add(eq("user:ranking"),
-                argThat(info -> ((UserRatingRankInfo) info).nickname().equals("u2")),
-                eq(1600.0));
+        // Writes made while the database is read must be tracked, so tracking starts first
+        InOrder inOrder = inOrder(rankingRepository, latestRankPuzzleRepository);
+        inOrder.verify(rankingRepository).beginRebuild(RankingRepository.RATING_KEY);
+        inOrder.verify(latestRankPuzzleRepository).findActiveUsersWithinPeriod(any());
+        verify(rankingRepository, never()).add(anyString(), anyLong(), anyString(), anyDouble());
+
+        inOrder.verify(rankingRepository).replaceAll(RankingRepository.RATING_KEY, List.of(
+                new RankingEntry(1L, "u1", 1400.0),
+                new RankingEntry(2L, "u2", 1600.0)
+        ));
     }
+
     @Test
     void getPuzzlerRanking_WhenUsersHaveSameScore_ThenAssignsSameRank() {
         // Given
         UserEntity me = TestUserFactory.createTestUser("me", 0.0);
+        ReflectionTestUtils.setField(me, "id", 3L);
 
-        UserPuzzlerRankInfo info1 = UserPuzzlerRankInfo.builder().nickname("user1").score(1500).rank(0).build();
-        UserPuzzlerRankInfo info2 = UserPuzzlerRankInfo.builder().nickname("user2").score(1500).rank(0).build();
-        UserPuzzlerRankInfo myInfo = UserPuzzlerRankInfo.builder().nickname("me").score(1300).rank(0).build();
-
-        Set<ZSetOperations.TypedTuple<Object>> zset = new LinkedHashSet<>();
-        zset.add(new DefaultTypedTuple<>(info1, 1500.0));
-        zset.add(new DefaultTypedTuple<>(info2, 1500.0));
-        zset.add(new DefaultTypedTuple<>(myInfo, 1300.0));
-
-        when(redisRankingTemplate.opsForZSet()).thenReturn(zSetOperations);
-        when(zSetOperations.reverseRangeWithScores("user:puzzler:ranking", 0, 99)).thenReturn(zset);
-        when(zSetOperations.reverseRangeWithScores("user:puzzler:ranking", 0, -1)).thenReturn(zset);
+        when(rankingRepository.findTop(RankingRepository.PUZZLER_KEY, 100)).thenReturn(List.of(
+                new RankingEntry(1L, "user1", 1500.0),
+                new RankingEntry(2L, "user2", 1500.0),
+                new RankingEntry(3L, "me", 1300.0)
+        ));
+        when(rankingRepository.findScore(RankingRepository.PUZZLER_KEY, 3L)).thenReturn(Optional.of(1300.0));
+        when(rankingRepository.countHigherThan(RankingRepository.PUZZLER_KEY, 1300.0)).thenReturn(2L);
 
         // When
         GetPuzzlerRankingResponse response = rankService.getPuzzlerRanking(me);
@@ -474,107 +722,106 @@ class RankServiceTest {
         assertThat(response.top100().get(2).rank()).isEqualTo(3);
         assertThat(response.myPuzzlerRank().rank()).isEqualTo(3);
         assertThat(response.myPuzzlerRank().nickname()).isEqualTo("me");
+        assertThat(response.myPuzzlerRank().score()).isEqualTo(1300.0);
     }
 
     @Test
-    void updateRankingCache_WhenActivePuzzlerUsersExist_ThenStoreTheirScoreInRedis() {
+    void getPuzzlerRanking_WhenMyScoreIsOutsideTop100_ThenReadsItFromLeaderboard() {
         // Given
-        UserEntity u1 = TestUserEntityBuilder.builder()
-                .withId(1L)
-                .withStatus(Status.getDefaultStatus())
-                .withNickname("user1")
-                .build();
-
-        UserEntity u2 = TestUserEntityBuilder.builder()
-                .withId(2L)
-                .withStatus(Status.getDefaultStatus())
-                .withNickname("user2")
-                .build();
+        UserEntity me = TestUserFactory.createTestUser("me", 0.0);
+        ReflectionTestUtils.setField(me, "id", 500L);
 
-        List<UserEntity> creators = List.of(u1);
-        List<UserEntity> solvers = List.of(u2);
+        when(rankingRepository.findTop(RankingRepository.PUZZLER_KEY, 100))
+                .thenReturn(List.of(new RankingEntry(1L, "user1", 1500.0)));
+        when(rankingRepository.findScore(RankingRepository.PUZZLER_KEY, 500L)).thenReturn(Optional.of(200.0));
+        when(rankingRepository.countHigherThan(RankingRepository.PUZZLER_KEY, 200.0)).thenReturn(321L);
 
-        when(communityPuzzleRepository.findUsersWhoCreatedPuzzlesSince(any())).thenReturn(creators);
-        when(userCommunityPuzzleRepository.findUsersWhoSolvedPuzzlesSince(any())).thenReturn(solvers);
+        // When
+        GetPuzzlerRankingResponse response = rankService.getPuzzlerRanking(me);
 
-        // Mocking for calculating the user's activity score
-        when(communityPuzzleRepository.countByAuthor(anyLong())).thenReturn(1L); // number of puzzles created
-        when(communityPuzzleRepository.sumLikesByUser(anyLong())).thenReturn(10);
-        when(communityPuzzleRepository.sumDislikesByUser(anyLong())).thenReturn(2);
-        when(userCommunityPuzzleRepository.countSolvedByUser(anyLong())).thenReturn(3L); // number of puzzles solved
+        // Then
+        assertThat(response.myPuzzlerRank().rank()).isEqualTo(322);
+        assertThat(response.myPuzzlerRank().score()).isEqualTo(200.0);
+    }
 
-        when(redisRankingTemplate.opsForZSet()).thenReturn(zSetOperations);
+    @Test
+    void updateRankingCache_WhenActivePuzzlerUsersExist_ThenStoreTheirScoreInRedis() {
+        // Given
+        when(communityPuzzleRepository.findPuzzlerActivitiesSince(any())).thenReturn(List.of(
+                activity(1L, "user1", 3, 1, 10, 2),
+                activity(2L, "user2", 3, 1, 10, 2)
+        ));
 
         // When
         rankService.updateRankingCache();
 
         // Then
-        verify(redisRankingTemplate).delete("user:puzzler:ranking");
+        List<RankingEntry> entries = capturePuzzlerEntries();
 
-        verify(zSetOperations, times(2)).add(eq("user:puzzler:ranking"), any(UserPuzzlerRankInfo.class), anyDouble());
-
-        verify(zSetOperations).add(eq("user:puzzler:ranking"),
-                argThat(info -> ((UserPuzzlerRankInfo) info).nickname().equals("user1")), anyDouble());
-
-        verify(zSetOperations).add(eq("user:puzzler:ranking"),
-                argThat(info -> ((UserPuzzlerRankInfo) info).nickname().equals("user2")), anyDouble());
+        assertThat(entries).hasSize(2);
+        assertThat(entries).extracting(RankingEntry::nickname).containsExactlyInAnyOrder("user1", "user2");
+        assertThat(entries.get(0).score())
+                .isEqualTo(Math.floor(Math.log(4.0 * Math.pow(2.0, 2) * Math.pow(9.0, 3) + 1) * 100));
     }
 
-
-
     @Test
     void updateRankingCache_WhenUserActivityVaries_ThenHigherScoreUserRanksAbove() {
         // Given
-        UserEntity user1 = TestUserEntityBuilder.builder()
-                .withId(1L)
-                .withStatus(Status.getDefaultStatus())
-                .withNickname("user1")
-                .build();
-
-        UserEntity user2 = TestUserEntityBuilder.builder()
-                .withId(2L)
-                .withStatus(Status.getDefaultStatus())
-                .withNickname("user2")
-                .build();
-
         // user1: created 2, solved 1
         // user2: created 2, solved 0
-        List<UserEntity> creators = List.of(user1, user2);
-        List<UserEntity> solvers = List.of(user1); // only user1 has solved puzzles
-
-        when(communityPuzzleRepository.findUsersWhoCreatedPuzzlesSince(any())).thenReturn(creators);
-        when(userCommunityPuzzleRepository.findUsersWhoSolvedPuzzlesSince(any())).thenReturn(solvers);
-
-        // Set up activity metrics
-        when(communityPuzzleRepository.countByAuthor(1L)).thenReturn(2L);
-        when(communityPuzzleRepository.countByAuthor(2L)).thenReturn(2L);
-
-        when(userCommunityPuzzleRepository.countSolvedByUser(1L)).thenReturn(1L);
-        when(userCommunityPuzzleRepository.countSolvedByUser(2L)).thenReturn(0L);
-
-        when(communityPuzzleRepository.sumLikesByUser(1L)).thenReturn(10);
-        when(communityPuzzleRepository.sumDislikesByUser(1L)).thenReturn(3);
-
-        when(communityPuzzleRepository.sumLikesByUser(2L)).thenReturn(10);
-        when(communityPuzzleRepository.sumDislikesByUser(2L)).thenReturn(3);
-
-        when(redisRankingTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(communityPuzzleRepository.findPuzzlerActivitiesSince(any())).thenReturn(List.of(
+                activity(1L, "user1", 1, 2, 10, 3),
+                activity(2L, "user2", 0, 2, 10, 3)
+        ));
 
         // When
         rankService.updateRankingCache();
 
         // Then
-        ArgumentCaptor<UserPuzzlerRankInfo> captor = ArgumentCaptor.forClass(UserPuzzlerRankInfo.class);
+        List<RankingEntry> entries = capturePuzzlerEntries();
 
-        verify(zSetOperations, times(2)).add(eq("user:puzzler:ranking"), captor.capture(), anyDouble());
+        double user1Score = entries.stream().filter(e -> e.userId() == 1L).findFirst().orElseThrow().score();
+        double user2Score = entries.stream().filter(e -> e.userId() == 2L).findFirst().orElseThrow().score();
 
-        List<UserPuzzlerRankInfo> captured = captor.getAllValues();
+        // user1 with the higher score is ranked above user2 (reverse order by score)
+        assertThat(user1Score).isGreaterThan(user2Score);
+    }
 
-        // user1 with the higher score should come first (higher score stored first = appears at the top with reverseRangeWithScores)
-        UserPuzzlerRankInfo first = captured.get(0);
-        UserPuzzlerRankInfo second = captured.get(1);
+    @Test
+    void calculatePuzzlerScore_WhenDislikesExceedLikes_ThenTreatsNetLikesAsZero() {
+        double score = RankService.calculatePuzzlerScore(activity(1L, "user1", 0, 0, 1, 5));
 
-        assertThat(first.nickname()).isEqualTo("user1");
-        assertThat(second.nickname()).isEqualTo("user2");
+        assertThat(score).isEqualTo(Math.floor(Math.log(2) * 100));
+    }
+
+    private static PuzzlerActivityProjection activity(Long userId, String nickname,
+                                                      long solved, long authored, long likes, long dislikes) {
+        return new PuzzlerActivityProjection() {
+            @Override public Long getUserId() { return userId; }
+            @Override public String getNickname() { return nickname; }
+            @Override public Long getSolvedCount() { return solved; }
+            @Override public Long getAuthoredCount() { return authored; }
+            @Override public Long getLikeSum() { return likes; }
+            @Override public Long getDislikeSum() { return dislikes; }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RankingEntry> capturePuzzlerEntries() {
+        ArgumentCaptor<List<RankingEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rankingRepository).replaceAll(eq(RankingRepository.PUZZLER_KEY), captor.capture());
+        return captor.getValue();
+    }
+
+    private static CommunityPuzzle verifiedCommunityPuzzle(Long id, String boardStatus) {
+        return CommunityPuzzle.builder()
+                .id(id)
+                .boardStatus(boardStatus)
+                .answer("answer")
+                .depth(3)
+                .rating(1450.0)
+                .isVerified(true)
+                .winColor(WinColor.getWinColor("BLACK"))
+                .build();
     }
 }
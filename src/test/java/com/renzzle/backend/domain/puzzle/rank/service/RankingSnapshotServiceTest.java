@@ -0,0 +1,107 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzzle.backend.domain.puzzle.rank.api.response.UserRatingRankInfo;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankingRepository;
+import com.renzzle.backend.domain.puzzle.rank.dao.RankingSnapshotRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.RankingSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RankingSnapshotServiceTest {
+
+    private static final String KEY = RankingRepository.RATING_KEY;
+
+    @Mock
+    private RankService rankService;
+
+    @Mock
+    private RankingRepository rankingRepository;
+
+    @Mock
+    private RankingSnapshotRepository rankingSnapshotRepository;
+
+    private RankingSnapshotService rankingSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        rankingSnapshotService = new RankingSnapshotService(
+                rankService, rankingRepository, rankingSnapshotRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("버전이 그대로면 로컬 스냅샷을 다시 렌더링하지 않는다")
+    void getRatingTop100_WhenVersionUnchanged_ThenReusesLocalSnapshot() {
+        when(rankingRepository.findVersion(KEY)).thenReturn("1.0");
+        when(rankingSnapshotRepository.find(KEY)).thenReturn(Optional.empty());
+        when(rankService.getRatingTop100()).thenReturn(List.of(new UserRatingRankInfo(1, "user1", 1500.0)));
+
+        RankingSnapshot first = rankingSnapshotService.getRatingTop100();
+        RankingSnapshot second = rankingSnapshotService.getRatingTop100();
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("\"nickname\":\"user1\"");
+        verify(rankService, times(1)).getRatingTop100();
+        verify(rankingSnapshotRepository, times(1)).save(KEY, first);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 다시 렌더링하고 ETag 도 바뀐다")
+    void getRatingTop100_WhenVersionChanged_ThenRendersAgain() {
+        when(rankingRepository.findVersion(KEY)).thenReturn("1.0", "1.0", "2.0", "2.0");
+        when(rankingSnapshotRepository.find(KEY)).thenReturn(Optional.empty());
+        when(rankService.getRatingTop100())
+                .thenReturn(List.of(new UserRatingRankInfo(1, "user1", 1500.0)))
+                .thenReturn(List.of(new UserRatingRankInfo(1, "user2", 1600.0)));
+
+        RankingSnapshot first = rankingSnapshotService.getRatingTop100();
+        RankingSnapshot second = rankingSnapshotService.getRatingTop100();
+
+        assertThat(second.version()).isEqualTo("2.0");
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        verify(rankingSnapshotRepository).save(KEY, second);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 같은 버전으로 만든 스냅샷이 있으면 렌더링 없이 사용한다")
+    void getRatingTop100_WhenSharedSnapshotIsCurrent_ThenSkipsRendering() {
+        RankingSnapshot shared = RankingSnapshot.of("3.1", "{}".getBytes(StandardCharsets.UTF_8));
+        when(rankingRepository.findVersion(KEY)).thenReturn("3.1");
+        when(rankingSnapshotRepository.find(KEY)).thenReturn(Optional.of(shared));
+
+        RankingSnapshot snapshot = rankingSnapshotService.getRatingTop100();
+
+        assertThat(snapshot).isSameAs(shared);
+        verify(rankService, never()).getRatingTop100();
+        verify(rankingSnapshotRepository, never()).save(eq(KEY), any());
+    }
+
+    @Test
+    @DisplayName("렌더링 중 랭킹이 바뀌면 스냅샷을 공유하지 않는다")
+    void getRatingTop100_WhenVersionMovesDuringRender_ThenDoesNotShare() {
+        when(rankingRepository.findVersion(KEY)).thenReturn("1.0", "1.1");
+        when(rankingSnapshotRepository.find(KEY)).thenReturn(Optional.empty());
+        when(rankService.getRatingTop100()).thenReturn(List.of());
+
+        rankingSnapshotService.getRatingTop100();
+
+        verify(rankingSnapshotRepository, never()).save(eq(KEY), any());
+    }
+}
@@ -0,0 +1,111 @@
+package com.renzzle.backend.domain.puzzle.rank.service;
+
+import com.renzzle.backend.domain.puzzle.rank.dao.RatingHistoryRepository;
+import com.renzzle.backend.domain.puzzle.rank.domain.RatingHistory;
+import com.renzzle.backend.domain.puzzle.rank.domain.RatingHistoryPoint;
+import com.renzzle.backend.domain.puzzle.rank.support.TestUserFactory;
+import com.renzzle.backend.domain.user.domain.UserEntity;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RatingHistoryServiceTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-31T23:59:00Z");
+
+    @Mock
+    private RatingHistoryRepository ratingHistoryRepository;
+
+    private RatingHistoryService ratingHistoryService;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        ratingHistoryService = new RatingHistoryService(ratingHistoryRepository, Clock.fixed(T0, ZoneOffset.UTC));
+        user = TestUserFactory.createTestUser("tester", 1500.0);
+        ReflectionTestUtils.setField(user, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("같은 달의 기록은 하나의 블롭에 델타로 이어 붙는다")
+    void record_WhenMonthExists_ThenAppendsDeltaToSameRow() {
+        RatingHistory history = RatingHistory.empty(user, 202501);
+        history.append(T0.minusSeconds(60), 1500.0, 1500.0);
+        int sizeBefore = history.getPoints().length;
+        when(ratingHistoryRepository.findByUserIdAndPeriod(1L, 202501)).thenReturn(Optional.of(history));
+
+        user.updateRatingTo(1512.34);
+        user.updateMmrTo(1488.5);
+        ratingHistoryService.record(user, T0);
+
+        verify(ratingHistoryRepository).save(history);
+        assertThat(history.getPointCount()).isEqualTo(2);
+        // 60 seconds and a few rating points fit in a handful of bytes
+        assertThat(history.getPoints().length - sizeBefore).isLessThanOrEqualTo(7);
+        assertThat(history.decodePoints()).containsExactly(
+                new RatingHistoryPoint(T0.minusSeconds(60), 1500.0, 1500.0),
+                new RatingHistoryPoint(T0, 1512.34, 1488.5));
+    }
+
+    @Test
+    @DisplayName("새로운 달의 첫 기록은 새 행을 만든다")
+    void record_WhenMonthIsNew_ThenCreatesRow() {
+        Instant february = Instant.parse("2025-02-01T00:00:05Z");
+        when(ratingHistoryRepository.findByUserIdAndPeriod(1L, 202502)).thenReturn(Optional.empty());
+
+        ratingHistoryService.record(user, february);
+
+        ArgumentCaptor<RatingHistory> captor = ArgumentCaptor.forClass(RatingHistory.class);
+        verify(ratingHistoryRepository).save(captor.capture());
+        assertThat(captor.getValue().getPeriod()).isEqualTo(202502);
+        assertThat(captor.getValue().decodePoints())
+                .containsExactly(new RatingHistoryPoint(february, 1500.0, 1500.0));
+    }
+
+    @Test
+    @DisplayName("조회 기간에 걸친 달들을 읽고 기간 밖의 점은 제외한다")
+    void getHistory_ReadsMonthsInRangeAndFiltersPoints() {
+        RatingHistory january = RatingHistory.empty(user, 202501);
+        january.append(Instant.parse("2025-01-10T10:00:00Z"), 1400.0, 1400.0);
+        january.append(Instant.parse("2025-01-20T10:00:00Z"), 1450.0, 1460.0);
+        RatingHistory february = RatingHistory.empty(user, 202502);
+        february.append(Instant.parse("2025-02-02T10:00:00Z"), 1470.0, 1480.0);
+        february.append(Instant.parse("2025-02-20T10:00:00Z"), 1490.0, 1500.0);
+        when(ratingHistoryRepository.findAllByUserIdAndPeriodBetweenOrderByPeriodAsc(1L, 202501, 202502))
+                .thenReturn(List.of(january, february));
+
+        List<RatingHistoryPoint> points = ratingHistoryService.getHistory(1L,
+                LocalDate.of(2025, 1, 15), LocalDate.of(2025, 2, 2));
+
+        assertThat(points).extracting(RatingHistoryPoint::rating).containsExactly(1450.0, 1470.0);
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외를 던진다")
+    void getHistory_WhenRangeIsReversed_ThenThrows() {
+        CustomException ex = assertThrows(CustomException.class, () -> ratingHistoryService.getHistory(1L,
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_RATING_HISTORY_RANGE);
+    }
+}
@@ -0,0 +1,83 @@
+package com.renzzle.backend.domain.puzzle.training.dao;
+
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleOrderKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingPuzzleOrderRepositoryTest {
+
+    private static final int GAP = 1 << 16;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TrainingPuzzleOrderRepository trainingPuzzleOrderRepository;
+
+    @Test
+    @DisplayName("작은 팩은 요청한 간격 그대로 재배치한다")
+    void renumber_WhenPackIsSmall_ThenUsesRequestedGap() {
+        givenKeys(3);
+
+        int gap = trainingPuzzleOrderRepository.renumber(1L, GAP);
+
+        assertThat(gap).isEqualTo(GAP);
+        assertThat(spreadKeys()).containsExactly(GAP, 2 * GAP, 3 * GAP);
+    }
+
+    @Test
+    @DisplayName("간격 * 퍼즐 수가 int 범위를 넘는 팩은 간격을 줄여 순서대로 양수 키를 준다")
+    void renumber_WhenPackIsTooLargeForGap_ThenShrinksGap() {
+        int size = 40_000;
+        givenKeys(size);
+
+        int gap = trainingPuzzleOrderRepository.renumber(1L, GAP);
+
+        List<Integer> keys = spreadKeys();
+        assertThat(gap).isLessThan(GAP).isPositive();
+        assertThat(keys).hasSize(size).isSorted().allMatch(key -> key > 0);
+        assertThat((long) keys.get(size - 1) + gap).isLessThanOrEqualTo(Integer.MAX_VALUE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenKeys(int size) {
+        List<TrainingPuzzleOrderKey> keys = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new TrainingPuzzleOrderKey(id, (int) id))
+                .toList();
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L))).thenReturn(keys);
+    }
+
+    // Keys of the second pass, after every row was parked on a negative key
+    @SuppressWarnings("unchecked")
+    private List<Integer> spreadKeys() {
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), batches.capture());
+
+        List<Integer> keys = new ArrayList<>();
+        for (List<Object[]> batch : batches.getAllValues()) {
+            for (Object[] args : batch) {
+                int key = (int) args[0];
+                if (key > 0) {
+                    keys.add(key);
+                }
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,80 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.renzzle.backend.domain.puzzle.training.dao.SolvedTrainingBitmapRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.SolvedTrainingPuzzleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SolvedTrainingPuzzleLookupTest {
+
+    @Mock
+    private SolvedTrainingPuzzleRepository solvedTrainingPuzzleRepository;
+
+    @Mock
+    private SolvedTrainingBitmapRepository solvedTrainingBitmapRepository;
+
+    @Test
+    @DisplayName("캐시를 쓰지 않으면 팩 단위 쿼리 한 번으로 조회한다")
+    void findSolvedIds_WhenCacheDisabled_ThenQueriesOncePerPack() {
+        SolvedTrainingPuzzleLookup lookup = new SolvedTrainingPuzzleLookup(
+                solvedTrainingPuzzleRepository, solvedTrainingBitmapRepository, false);
+        when(solvedTrainingPuzzleRepository.findSolvedPuzzleIds(1L, 7L)).thenReturn(Set.of(11L));
+
+        Set<Long> solved = lookup.findSolvedIds(1L, 7L, List.of(10L, 11L, 12L));
+
+        assertThat(solved).containsExactly(11L);
+        verifyNoInteractions(solvedTrainingBitmapRepository);
+    }
+
+    @Test
+    @DisplayName("비트맵이 적재되어 있으면 DB 를 조회하지 않는다")
+    void findSolvedIds_WhenBitmapLoaded_ThenSkipsDatabase() {
+        SolvedTrainingPuzzleLookup lookup = new SolvedTrainingPuzzleLookup(
+                solvedTrainingPuzzleRepository, solvedTrainingBitmapRepository, true);
+        when(solvedTrainingBitmapRepository.findSolved(1L, List.of(10L, 11L))).thenReturn(Optional.of(Set.of(10L)));
+
+        Set<Long> solved = lookup.findSolvedIds(1L, 7L, List.of(10L, 11L));
+
+        assertThat(solved).containsExactly(10L);
+        verifyNoInteractions(solvedTrainingPuzzleRepository);
+    }
+
+    @Test
+    @DisplayName("비트맵이 없으면 DB 에서 한 번 적재하고 결과를 돌려준다")
+    void findSolvedIds_WhenBitmapMissing_ThenLoadsFromDatabase() {
+        SolvedTrainingPuzzleLookup lookup = new SolvedTrainingPuzzleLookup(
+                solvedTrainingPuzzleRepository, solvedTrainingBitmapRepository, true);
+        when(solvedTrainingBitmapRepository.findSolved(1L, List.of(10L, 11L))).thenReturn(Optional.empty());
+        when(solvedTrainingPuzzleRepository.findAllSolvedPuzzleIds(1L)).thenReturn(Set.of(11L, 99L));
+
+        Set<Long> solved = lookup.findSolvedIds(1L, 7L, List.of(10L, 11L));
+
+        assertThat(solved).containsExactly(11L);
+        verify(solvedTrainingBitmapRepository).load(eq(1L), eq(Set.of(11L, 99L)), any());
+    }
+
+    @Test
+    @DisplayName("캐시를 쓰지 않으면 풀이 시 비트맵을 건드리지 않는다")
+    void markSolved_WhenCacheDisabled_ThenDoesNothing() {
+        SolvedTrainingPuzzleLookup lookup = new SolvedTrainingPuzzleLookup(
+                solvedTrainingPuzzleRepository, solvedTrainingBitmapRepository, false);
+
+        lookup.markSolved(1L, 10L);
+
+        verify(solvedTrainingBitmapRepository, never()).markSolved(anyLong(), anyLong(), any());
+    }
+}
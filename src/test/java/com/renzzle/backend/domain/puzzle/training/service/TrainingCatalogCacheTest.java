@@ -0,0 +1,109 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.renzzle.backend.domain.puzzle.training.dao.PackRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.PackTranslationRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingCatalogVersionRepository;
+import com.renzzle.backend.domain.puzzle.training.domain.Pack;
+import com.renzzle.backend.domain.puzzle.training.domain.PackTranslation;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingCatalog;
+import com.renzzle.backend.global.common.domain.LangCode;
+import com.renzzle.backend.support.TestPackBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingCatalogCacheTest {
+
+    @Mock
+    private PackRepository packRepository;
+    @Mock
+    private PackTranslationRepository packTranslationRepository;
+    @Mock
+    private TrainingCatalogVersionRepository trainingCatalogVersionRepository;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private TrainingCatalogCache trainingCatalogCache;
+    private Pack pack;
+
+    @BeforeEach
+    void setUp() {
+        trainingCatalogCache = new TrainingCatalogCache(packRepository, packTranslationRepository,
+                trainingCatalogVersionRepository, redisMessageListenerContainer);
+        pack = TestPackBuilder.builder().withId(1L).withPuzzleCount(10).build();
+    }
+
+    @Test
+    @DisplayName("시작 시 카탈로그 버전 채널을 스스로 구독한다")
+    void subscribe_RegistersOnCatalogVersionChannel() {
+        trainingCatalogCache.subscribe();
+
+        verify(redisMessageListenerContainer).addMessageListener(trainingCatalogCache,
+                new ChannelTopic(TrainingCatalogVersionRepository.CHANNEL));
+    }
+
+    @Test
+    @DisplayName("버전이 그대로면 카탈로그를 한 번만 적재한다")
+    void get_WhenVersionUnchanged_ThenLoadsOnce() {
+        when(trainingCatalogVersionRepository.findVersion()).thenReturn(3L);
+        when(packRepository.findAllWithDifficulty()).thenReturn(List.of(pack));
+        when(packTranslationRepository.findAllWithPackAndLangCode()).thenReturn(List.of(translation("KO", "제목")));
+
+        TrainingCatalog first = trainingCatalogCache.get();
+        TrainingCatalog second = trainingCatalogCache.get();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.findPack(1L).orElseThrow().translation("KO").orElseThrow().title()).isEqualTo("제목");
+        verify(packRepository, times(1)).findAllWithDifficulty();
+    }
+
+    @Test
+    @DisplayName("더 높은 버전 메시지를 받으면 다음 조회 때 다시 적재한다")
+    void get_WhenNewerVersionPublished_ThenReloads() {
+        when(trainingCatalogVersionRepository.findVersion()).thenReturn(3L, 4L);
+        when(packRepository.findAllWithDifficulty()).thenReturn(List.of(pack));
+        when(packTranslationRepository.findAllWithPackAndLangCode()).thenReturn(List.of());
+
+        TrainingCatalog first = trainingCatalogCache.get();
+        trainingCatalogCache.onMessage(new DefaultMessage(
+                "training:catalog".getBytes(StandardCharsets.UTF_8), "4".getBytes(StandardCharsets.UTF_8)), null);
+        TrainingCatalog second = trainingCatalogCache.get();
+
+        assertThat(first.version()).isEqualTo(3L);
+        assertThat(second.version()).isEqualTo(4L);
+        verify(packRepository, times(2)).findAllWithDifficulty();
+    }
+
+    @Test
+    @DisplayName("요청한 언어의 번역이 없으면 영어 번역을 사용한다")
+    void translation_WhenRequestedLanguageMissing_ThenFallsBackToEnglish() {
+        TrainingCatalog catalog = TrainingCatalog.of(1L, List.of(pack), List.of(translation("EN", "Title")));
+
+        assertThat(catalog.findPack(1L).orElseThrow().translation("KO").orElseThrow().title()).isEqualTo("Title");
+        assertThat(catalog.findPacksByDifficulty("LOW")).extracting(TrainingCatalog.CatalogPack::id).containsExactly(1L);
+        assertThat(catalog.findPacksByDifficulty("HIGH")).isEmpty();
+    }
+
+    private PackTranslation translation(String langCode, String title) {
+        return PackTranslation.builder()
+                .pack(pack)
+                .langCode(LangCode.getLangCode(langCode))
+                .title(title)
+                .author("author")
+                .description("description")
+                .build();
+    }
+}
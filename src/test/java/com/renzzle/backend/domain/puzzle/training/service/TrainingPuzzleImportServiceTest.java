@@ -0,0 +1,149 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renzzle.backend.domain.puzzle.cache.domain.PuzzleType;
+import com.renzzle.backend.domain.puzzle.rank.service.RankPuzzlePool;
+import com.renzzle.backend.domain.puzzle.shared.util.BoardUtils;
+import com.renzzle.backend.domain.puzzle.training.api.response.ImportTrainingPuzzleResponse;
+import com.renzzle.backend.domain.puzzle.training.api.response.ImportTrainingPuzzleResponse.RowError;
+import com.renzzle.backend.domain.puzzle.training.dao.PackRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleRepository;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleDraft;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingPuzzleImportServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private PackRepository packRepository;
+    @Mock
+    private TrainingPuzzleRepository trainingPuzzleRepository;
+    @Mock
+    private TrainingPuzzleImportWriter trainingPuzzleImportWriter;
+    @Mock
+    private RankPuzzlePool rankPuzzlePool;
+    @Mock
+    private TrainingCatalogCache trainingCatalogCache;
+
+    private TrainingPuzzleImportService trainingPuzzleImportService;
+
+    @BeforeEach
+    void setUp() {
+        trainingPuzzleImportService = new TrainingPuzzleImportService(packRepository, trainingPuzzleRepository,
+                trainingPuzzleImportWriter, rankPuzzlePool, trainingCatalogCache,
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("잘못된 줄과 중복 보드는 줄 번호와 함께 보고하고 나머지만 한 번에 넣는다")
+    void importPuzzles_WhenSomeLinesInvalid_ThenImportsTheRest() {
+        when(packRepository.existsById(1L)).thenReturn(true);
+        when(trainingPuzzleRepository.findExistingBoardKeys(anyList())).thenReturn(Set.of());
+        when(trainingPuzzleImportWriter.append(eq(1L), anyList(), eq(NOW))).thenReturn(Map.of(10L, 600.0));
+        String body = """
+                {"boardStatus":"h8i9","answer":"j10","depth":3,"winColor":"BLACK"}
+                {"boardStatus":"z1","answer":"j10","depth":3,"winColor":"BLACK"}
+
+                {"boardStatus":"h8i9","answer":"j10","depth":3,"winColor":"BLACK"}
+                not json
+                """;
+
+        ImportTrainingPuzzleResponse response = trainingPuzzleImportService.importPuzzles(1L, stream(body), false);
+
+        assertThat(response.totalCount()).isEqualTo(4);
+        assertThat(response.importedCount()).isEqualTo(1);
+        assertThat(response.errors()).extracting(RowError::line).containsExactly(2, 4, 5);
+
+        ArgumentCaptor<List<TrainingPuzzleDraft>> drafts = ArgumentCaptor.forClass(List.class);
+        verify(trainingPuzzleImportWriter).append(eq(1L), drafts.capture(), eq(NOW));
+        assertThat(drafts.getValue()).singleElement().satisfies(draft -> {
+            assertThat(draft.boardKey()).isEqualTo(BoardUtils.makeBoardKey("h8i9"));
+            assertThat(draft.rating()).isEqualTo(600.0);
+        });
+        verify(rankPuzzlePool).putAll(PuzzleType.TRAINING, Map.of(10L, 600.0));
+        verify(trainingCatalogCache, times(1)).bumpVersion();
+    }
+
+    @Test
+    @DisplayName("CSV 의 모든 보드가 이미 존재하면 아무것도 넣지 않는다")
+    void importPuzzles_WhenCsvBoardsAlreadyExist_ThenInsertsNothing() {
+        when(packRepository.existsById(1L)).thenReturn(true);
+        when(trainingPuzzleRepository.findExistingBoardKeys(anyList()))
+                .thenReturn(Set.of(BoardUtils.makeBoardKey("h8i9")));
+        String body = """
+                boardStatus,answer,depth,winColor
+                h8i9,j10,3,WHITE
+                """;
+
+        ImportTrainingPuzzleResponse response = trainingPuzzleImportService.importPuzzles(1L, stream(body), true);
+
+        assertThat(response.importedCount()).isZero();
+        assertThat(response.errors()).extracting(RowError::line).containsExactly(2);
+        verifyNoInteractions(trainingPuzzleImportWriter);
+        verifyNoInteractions(trainingCatalogCache);
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패해도 이미 커밋된 청크는 카탈로그 버전에 반영한다")
+    void importPuzzles_WhenLaterChunkFails_ThenBumpsVersionForCommittedChunks() {
+        when(packRepository.existsById(1L)).thenReturn(true);
+        when(trainingPuzzleRepository.findExistingBoardKeys(anyList())).thenReturn(Set.of());
+        when(trainingPuzzleImportWriter.append(eq(1L), anyList(), eq(NOW)))
+                .thenReturn(Map.of(10L, 600.0))
+                .thenThrow(new CustomException(ErrorCode.TRAINING_PACK_FULL));
+        // The first chunk repeats one board; the first line of the second chunk is a new one
+        String line = "{\"boardStatus\":\"h8i9\",\"answer\":\"j10\",\"depth\":3,\"winColor\":\"BLACK\"}\n";
+        String body = line.repeat(TrainingPuzzleImportService.CHUNK_SIZE)
+                + "{\"boardStatus\":\"h8j10\",\"answer\":\"k11\",\"depth\":3,\"winColor\":\"BLACK\"}\n";
+
+        assertThatThrownBy(() -> trainingPuzzleImportService.importPuzzles(1L, stream(body), false))
+                .isInstanceOf(CustomException.class);
+
+        verify(trainingPuzzleImportWriter, times(2)).append(eq(1L), anyList(), eq(NOW));
+        verify(rankPuzzlePool, times(1)).putAll(PuzzleType.TRAINING, Map.of(10L, 600.0));
+        verify(trainingCatalogCache, times(1)).bumpVersion();
+    }
+
+    @Test
+    @DisplayName("팩이 없으면 NO_SUCH_TRAINING_PACK 예외")
+    void importPuzzles_WhenPackMissing_ThenThrows() {
+        when(packRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> trainingPuzzleImportService.importPuzzles(1L, stream(""), false))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NO_SUCH_TRAINING_PACK);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
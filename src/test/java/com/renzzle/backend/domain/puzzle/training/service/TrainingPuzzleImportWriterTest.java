@@ -0,0 +1,52 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.renzzle.backend.domain.puzzle.training.dao.PackRepository;
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleBatchRepository;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleAppendKeys;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleDraft;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingPuzzleImportWriterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private PackRepository packRepository;
+    @Mock
+    private TrainingPuzzleBatchRepository trainingPuzzleBatchRepository;
+    @Mock
+    private TrainingPuzzleOrdering trainingPuzzleOrdering;
+    @InjectMocks
+    private TrainingPuzzleImportWriter trainingPuzzleImportWriter;
+
+    @Test
+    @DisplayName("생성된 id 와 초안의 레이팅을 짝지어 돌려주고 퍼즐 수를 늘린다")
+    void append_ReturnsRatingsByGeneratedId() {
+        List<TrainingPuzzleDraft> drafts = List.of(
+                new TrainingPuzzleDraft("h8i9", "key1", "j10", 3, 600.0, "BLACK"),
+                new TrainingPuzzleDraft("h8j10", "key2", "k11", 5, 1000.0, "WHITE"));
+        when(trainingPuzzleOrdering.appendKeys(1L, 2))
+                .thenReturn(new TrainingPuzzleAppendKeys(TrainingPuzzleOrdering.GAP, TrainingPuzzleOrdering.GAP));
+        when(trainingPuzzleBatchRepository.insertAll(1L, TrainingPuzzleOrdering.GAP, TrainingPuzzleOrdering.GAP, drafts, NOW))
+                .thenReturn(List.of(10L, 11L));
+
+        Map<Long, Double> ratings = trainingPuzzleImportWriter.append(1L, drafts, NOW);
+
+        assertThat(ratings).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 600.0, 11L, 1000.0));
+        verify(packRepository).increasePuzzleCountBy(1L, 2);
+    }
+}
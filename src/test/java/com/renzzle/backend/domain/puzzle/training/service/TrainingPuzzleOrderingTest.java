@@ -0,0 +1,148 @@
+package com.renzzle.backend.domain.puzzle.training.service;
+
+import com.renzzle.backend.domain.puzzle.training.dao.TrainingPuzzleOrderRepository;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleAppendKeys;
+import com.renzzle.backend.domain.puzzle.training.domain.TrainingPuzzleOrderKey;
+import com.renzzle.backend.global.exception.CustomException;
+import com.renzzle.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.renzzle.backend.domain.puzzle.training.service.TrainingPuzzleOrdering.GAP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainingPuzzleOrderingTest {
+
+    @Mock
+    private TrainingPuzzleOrderRepository trainingPuzzleOrderRepository;
+
+    @InjectMocks
+    private TrainingPuzzleOrdering trainingPuzzleOrdering;
+
+    @Test
+    @DisplayName("이웃 사이에 빈 키가 있으면 중간값을 쓰고 재배치하지 않는다")
+    void keyForPosition_WhenGapExists_ThenReturnsMidpoint() {
+        when(trainingPuzzleOrderRepository.findKeys(1L)).thenReturn(List.of(
+                new TrainingPuzzleOrderKey(10L, GAP),
+                new TrainingPuzzleOrderKey(11L, 2 * GAP)));
+
+        int key = trainingPuzzleOrdering.keyForPosition(1L, 1, null);
+
+        assertThat(key).isEqualTo(GAP + GAP / 2);
+        verify(trainingPuzzleOrderRepository).lockPack(1L);
+        verify(trainingPuzzleOrderRepository, never()).renumber(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("범위를 넘는 위치는 팩의 맨 뒤에 붙인다")
+    void keyForPosition_WhenPositionPastEnd_ThenAppends() {
+        when(trainingPuzzleOrderRepository.findKeys(1L)).thenReturn(List.of(new TrainingPuzzleOrderKey(10L, GAP)));
+
+        assertThat(trainingPuzzleOrdering.keyForPosition(1L, 99, null)).isEqualTo(2 * GAP);
+    }
+
+    @Test
+    @DisplayName("이웃 키가 붙어 있으면 해당 팩만 재배치한 뒤 키를 다시 구한다")
+    void keyForPosition_WhenNoGapLeft_ThenRenumbersPack() {
+        when(trainingPuzzleOrderRepository.findKeys(1L)).thenReturn(
+                List.of(new TrainingPuzzleOrderKey(10L, 5), new TrainingPuzzleOrderKey(11L, 6)),
+                List.of(new TrainingPuzzleOrderKey(10L, GAP), new TrainingPuzzleOrderKey(11L, 2 * GAP)));
+
+        int key = trainingPuzzleOrdering.keyForPosition(1L, 1, null);
+
+        assertThat(key).isEqualTo(GAP + GAP / 2);
+        verify(trainingPuzzleOrderRepository).renumber(1L, GAP);
+    }
+
+    @Test
+    @DisplayName("옮기는 퍼즐 자신은 이웃 계산에서 제외한다")
+    void keyAfter_WhenMovingPuzzleIsNeighbour_ThenIgnoresIt() {
+        when(trainingPuzzleOrderRepository.findKeys(1L)).thenReturn(List.of(
+                new TrainingPuzzleOrderKey(10L, GAP),
+                new TrainingPuzzleOrderKey(12L, 2 * GAP),
+                new TrainingPuzzleOrderKey(11L, 3 * GAP)));
+
+        int key = trainingPuzzleOrdering.keyAfter(1L, 10L, 12L);
+
+        assertThat(key).isEqualTo(2 * GAP);
+    }
+
+    @Test
+    @DisplayName("기준 퍼즐이 팩에 없으면 CANNOT_FIND_TRAINING_PUZZLE 예외")
+    void keyAfter_WhenAnchorMissing_ThenThrows() {
+        when(trainingPuzzleOrderRepository.findKeys(1L)).thenReturn(List.of(new TrainingPuzzleOrderKey(10L, GAP)));
+
+        assertThatThrownBy(() -> trainingPuzzleOrdering.keyAfter(1L, 99L, 10L))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CANNOT_FIND_TRAINING_PUZZLE);
+    }
+
+    @Test
+    @DisplayName("맨 뒤에 GAP 간격으로 들어갈 자리가 있으면 재배치하지 않는다")
+    void appendKeys_WhenKeysFit_ThenAppendsGapApart() {
+        when(trainingPuzzleOrderRepository.findLastKey(1L)).thenReturn(3 * GAP);
+
+        TrainingPuzzleAppendKeys keys = trainingPuzzleOrdering.appendKeys(1L, 10);
+
+        assertThat(keys).isEqualTo(new TrainingPuzzleAppendKeys(4 * GAP, GAP));
+        verify(trainingPuzzleOrderRepository, never()).renumber(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GAP 간격으로는 int 범위를 넘으면 추가분까지 고려해 재배치하고 줄어든 간격을 쓴다")
+    void appendKeys_WhenKeysOverflow_ThenRenumbersWithRoomAndShrinksGap() {
+        int count = 40_000;
+        int gap = Integer.MAX_VALUE / (count + 11);
+        when(trainingPuzzleOrderRepository.findLastKey(1L)).thenReturn(10 * GAP, 10 * gap);
+        when(trainingPuzzleOrderRepository.renumber(1L, GAP, count)).thenReturn(gap);
+
+        TrainingPuzzleAppendKeys keys = trainingPuzzleOrdering.appendKeys(1L, count);
+
+        assertThat(keys).isEqualTo(new TrainingPuzzleAppendKeys(11 * gap, gap));
+        assertThat(keys.firstKey() + (long) (count - 1) * keys.gap()).isLessThanOrEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("재배치해도 추가할 키가 int 범위에 들어가지 않으면 TRAINING_PACK_FULL 예외")
+    void appendKeys_WhenPackCannotHoldKeys_ThenThrows() {
+        when(trainingPuzzleOrderRepository.findLastKey(1L)).thenReturn(Integer.MAX_VALUE - 1);
+        when(trainingPuzzleOrderRepository.renumber(1L, GAP, Integer.MAX_VALUE)).thenReturn(0);
+
+        assertThatThrownBy(() -> trainingPuzzleOrdering.appendKeys(1L, Integer.MAX_VALUE))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TRAINING_PACK_FULL);
+    }
+
+    @Test
+    @DisplayName("마지막 키 뒤에 GAP 만큼의 여유가 없어도 남은 범위의 중간 키를 준다")
+    void keyBetween_WhenLessThanGapLeftAfterLast_ThenUsesRemainingRange() {
+        int prev = Integer.MAX_VALUE - 100;
+
+        assertThat(TrainingPuzzleOrdering.keyBetween(prev, null)).isEqualTo(prev + 51);
+        assertThat(TrainingPuzzleOrdering.keyBetween(Integer.MAX_VALUE, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("간격이 좁아진 팩만 백그라운드에서 재배치한다")
+    void rebalance_WhenCrowdedPacksExist_ThenRenumbersEach() {
+        when(trainingPuzzleOrderRepository.findCrowdedPackIds(TrainingPuzzleOrdering.MIN_GAP)).thenReturn(List.of(1L, 2L));
+
+        trainingPuzzleOrdering.rebalance();
+
+        verify(trainingPuzzleOrderRepository).renumber(1L, GAP);
+        verify(trainingPuzzleOrderRepository).renumber(2L, GAP);
+    }
+}
@@ -70,103 +70,6 @@ class TrainingServiceRepositoryTest {
         return user;
     }
 
-    @Test
-    @DisplayName("TrainingPuzzle 저장 및 조회: 유효한 Pack과 TrainingPuzzle을 저장 후 정상 조회")
-    @Transactional
-    void increaseIndexesFrom_WhenCalled_ThenIncrementsAllFollowingIndexes() {
-        // Given
-        Difficulty difficulty = Difficulty.getDifficulty("LOW");
-        WinColor winColor = WinColor.getWinColor("WHITE");
-
-        Pack pack = Pack.builder()
-                .price(1000)
-                .difficulty(difficulty)
-                .puzzleCount(0)
-                .build();
-        Pack savedPack = packRepository.save(pack);
-
-        TrainingPuzzle p1 = TrainingPuzzle.builder().pack(pack).trainingIndex(0)
-                .boardStatus("s1").boardKey("k1").answer("a1").depth(1).rating(100).winColor(winColor).build();
-        TrainingPuzzle p2 = TrainingPuzzle.builder().pack(pack).trainingIndex(1)
-                .boardStatus("s2").boardKey("k2").answer("a2").depth(1).rating(100).winColor(winColor).build();
-
-        trainingPuzzleRepository.saveAll(List.of(p1, p2));
-
-        // When
-        trainingPuzzleRepository.increaseIndexesFrom(pack.getId(), 0);
-        entityManager.flush();
-        entityManager.clear();
-        // Then
-        Optional<TrainingPuzzle> updatedP1 = trainingPuzzleRepository.findById(p1.getId());
-        Optional<TrainingPuzzle> updatedP2 = trainingPuzzleRepository.findById(p2.getId());
-
-        assertThat(updatedP1).isPresent();
-        assertThat(updatedP2).isPresent();
-
-        assertThat(updatedP1.get().getTrainingIndex()).isEqualTo(1);
-        assertThat(updatedP2.get().getTrainingIndex()).isEqualTo(2);
-    }
-
-    @Test
-    @DisplayName("testDeleteAndDecreaseIndexes: 존재하는 퍼즐 삭제 후, 후속 퍼즐의 trainingIndex가 감소된다.")
-    @Transactional
-    void decreaseIndexesFrom_WhenCalled_ThenDecrementsIndexesGreaterThanTarget() {
-        // Given
-        Difficulty difficulty = Difficulty.getDifficulty("LOW");
-        WinColor winColor = WinColor.getWinColor("WHITE");
-        
-        Pack pack = Pack.builder()
-                .price(1000)
-                .difficulty(difficulty)
-                .puzzleCount(2)
-                .build();
-        Pack savedPack = packRepository.save(pack);
-
-        TrainingPuzzle puzzle1 = TrainingPuzzle.builder()
-                .pack(savedPack)
-                .trainingIndex(1)
-                .boardStatus("status1")
-                .boardKey("key1")
-                .answer("answer1")
-                .depth(3)
-                .rating(600.0)
-                .winColor(winColor)
-                .build();
-
-        TrainingPuzzle puzzle2 = TrainingPuzzle.builder()
-                .pack(savedPack)
-                .trainingIndex(2)
-                .boardStatus("status2")
-                .boardKey("key2")
-                .answer("answer2")
-                .depth(3)
-                .rating(600.0)
-                .winColor(winColor)
-                .build();
-
-        TrainingPuzzle savedPuzzle1 = trainingPuzzleRepository.save(puzzle1);
-        TrainingPuzzle savedPuzzle2 = trainingPuzzleRepository.save(puzzle2);
-
-
-        // When
-        trainingPuzzleRepository.deleteById(savedPuzzle1.getId());
-        trainingPuzzleRepository.decreaseIndexesFrom(savedPuzzle1.getTrainingIndex());
-        entityManager.flush();
-        entityManager.clear();
-
-        // Then
-        Optional<TrainingPuzzle> deletedPuzzle = trainingPuzzleRepository.findById(savedPuzzle1.getId());
-
-        assertThat(deletedPuzzle).isNotPresent();
-
-        entityManager.flush();
-        entityManager.clear();
-
-        TrainingPuzzle updatedPuzzle2 = trainingPuzzleRepository.findById(savedPuzzle2.getId())
-                .orElseThrow();
-        assertThat(updatedPuzzle2.getTrainingIndex()).isEqualTo(1);
-    }
-
     @Test
     @DisplayName("testSaveAndFindSolvedTrainingPuzzle: SolvedTrainingPuzzle 저장 후, findByUserIdAndPuzzleId로 조회")
     @Transactional
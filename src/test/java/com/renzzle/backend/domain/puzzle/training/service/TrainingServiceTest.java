@@ -1,5 +1,6 @@
 package com.renzzle.backend.domain.puzzle.training.service;
 
+import com.renzzle.backend.domain.puzzle.rank.service.RankPuzzlePool;
 import com.renzzle.backend.domain.puzzle.shared.domain.WinColor;
 import com.renzzle.backend.domain.puzzle.training.api.request.*;
 import com.renzzle.backend.domain.puzzle.training.api.response.*;
@@ -28,12 +29,15 @@ import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,9 +61,24 @@ public class TrainingServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private RankPuzzlePool rankPuzzlePool;
+
     @Mock
     private Clock clock;
 
+    @Mock
+    private SolvedTrainingPuzzleLookup solvedTrainingPuzzleLookup;
+
+    @Mock
+    private TrainingCatalogCache trainingCatalogCache;
+
+    @Mock
+    private TrainingPuzzleOrdering trainingPuzzleOrdering;
+
+    @Mock
+    private TrainingPuzzleBatchRepository trainingPuzzleBatchRepository;
+
     private final Instant fixedNow = Instant.parse("2025-01-01T00:00:00Z");
 
     @InjectMocks
@@ -252,7 +271,7 @@ public class TrainingServiceTest {
                     winColorStr
             );
 
-            when(trainingPuzzleRepository.findTopIndex(packId)).thenReturn(5);
+            when(trainingPuzzleOrdering.keyForPosition(packId, 6, null)).thenReturn(6);
 
             // Create the Pack object (fill in only the required fields)
             Pack pack = Pack.builder()
@@ -295,13 +314,13 @@ public class TrainingServiceTest {
             assertEquals(depth, result.getDepth());
             assertEquals(600.0, result.getRating());
 
-            verify(trainingPuzzleRepository, times(1)).findTopIndex(packId);
+            verify(trainingPuzzleOrdering, times(1)).keyForPosition(packId, 6, null);
             verify(packRepository, times(1)).findById(packId);
             verify(packRepository, times(1)).increasePuzzleCount(packId);
             verify(trainingPuzzleRepository, times(1)).save(any(TrainingPuzzle.class));
         }
 
-        @DisplayName("testDeleteTrainingPuzzle: 존재하는 퍼즐 id가 주어지면 퍼즐 삭제 및 인덱스 감소")
+        @DisplayName("testDeleteTrainingPuzzle: 존재하는 퍼즐 id가 주어지면 퍼즐만 삭제하고 다른 퍼즐의 인덱스는 그대로 둔다")
         @Test
         void testDeleteTrainingPuzzle() {
             // given
@@ -343,11 +362,112 @@ public class TrainingServiceTest {
             // then
             verify(trainingPuzzleRepository, times(1)).findById(puzzleId);
             verify(trainingPuzzleRepository, times(1)).deleteById(puzzleId);
-            verify(trainingPuzzleRepository, times(1)).decreaseIndexesFrom(trainingIndex);
+            verifyNoInteractions(trainingPuzzleOrdering);
             verify(packRepository, times(1)).decreasePuzzleCount(packId);
             verify(userPackRepository, times(1)).decreaseSolvedCount(userId, packId);
         }
 
+        @DisplayName("reorderTrainingPuzzle: 지정한 퍼즐 뒤의 키를 받아 옮기는 퍼즐 한 건만 저장한다")
+        @Test
+        void testReorderTrainingPuzzle() {
+            // given
+            Long puzzleId = 3L;
+            Long packId = 10L;
+            Pack pack = Pack.builder()
+                    .id(packId)
+                    .puzzleCount(3)
+                    .price(1000)
+                    .difficulty(Difficulty.getDifficulty("LOW"))
+                    .build();
+            TrainingPuzzle puzzle = TrainingPuzzle.builder()
+                    .id(puzzleId)
+                    .trainingIndex(3 * TrainingPuzzleOrdering.GAP)
+                    .pack(pack)
+                    .build();
+
+            when(trainingPuzzleRepository.findById(puzzleId)).thenReturn(Optional.of(puzzle));
+            when(trainingPuzzleOrdering.keyAfter(packId, 1L, puzzleId)).thenReturn(98304);
+            when(trainingPuzzleRepository.save(any(TrainingPuzzle.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            TrainingPuzzle result = trainingService.reorderTrainingPuzzle(puzzleId, new ReorderTrainingPuzzleRequest(1L));
+
+            // then
+            assertEquals(98304, result.getTrainingIndex());
+            verify(trainingPuzzleRepository, times(1)).save(any(TrainingPuzzle.class));
+        }
+
+        @DisplayName("syncSolvedTrainingPuzzles: 새로 푼 퍼즐만 한 번에 저장하고 팩별 카운트와 보상을 한 번씩 반영한다")
+        @Test
+        void testSyncSolvedTrainingPuzzles() {
+            // given
+            Long packId = 7L;
+            Pack pack = Pack.builder()
+                    .id(packId)
+                    .puzzleCount(2)
+                    .price(1000)
+                    .difficulty(Difficulty.getDifficulty("LOW"))
+                    .build();
+            TrainingPuzzle newPuzzle = TrainingPuzzle.builder().id(10L).pack(pack).build();
+            TrainingPuzzle solvedPuzzle = TrainingPuzzle.builder().id(11L).pack(pack).build();
+            UserEntity user = TestUserEntityBuilder.builder().withId(1L).withCurrency(0).build();
+            Instant offlineSolvedAt = fixedNow.minus(2, ChronoUnit.HOURS);
+
+            SyncTrainingSolvesRequest request = new SyncTrainingSolvesRequest(List.of(
+                    new SyncTrainingSolvesRequest.SolveRecord(10L, offlineSolvedAt, true),
+                    new SyncTrainingSolvesRequest.SolveRecord(10L, fixedNow.minus(1, ChronoUnit.HOURS), true),
+                    new SyncTrainingSolvesRequest.SolveRecord(11L, offlineSolvedAt, true),
+                    new SyncTrainingSolvesRequest.SolveRecord(99L, offlineSolvedAt, true)
+            ));
+
+            when(userRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(user));
+            when(clock.instant()).thenReturn(fixedNow);
+            when(solvedTrainingPuzzleRepository.findSolvedPuzzleIdsIn(eq(1L), any())).thenReturn(Set.of(11L));
+            when(trainingPuzzleRepository.findAllWithPackByIdIn(any())).thenReturn(List.of(newPuzzle, solvedPuzzle));
+
+            // when
+            SyncTrainingSolvesResponse response = trainingService.syncSolvedTrainingPuzzles(user, request);
+
+            // then
+            assertEquals(1, response.solvedCount());
+            assertEquals(ItemPrice.TRAINING_LOW_REWARD.getPrice(), response.reward());
+            assertEquals(List.of(99L), response.unknownPuzzleIds());
+            assertEquals(ItemPrice.TRAINING_LOW_REWARD.getPrice(), user.getCurrency());
+            verify(trainingPuzzleBatchRepository, times(1)).insertSolved(1L, Map.of(10L, offlineSolvedAt));
+            verify(userPackRepository, times(1)).increaseSolvedCountBy(1L, packId, 1);
+            verify(solvedTrainingPuzzleRepository, never()).save(any());
+        }
+
+        @DisplayName("syncSolvedTrainingPuzzles: 이미 모두 푼 목록을 다시 보내면 아무것도 바뀌지 않는다")
+        @Test
+        void testSyncSolvedTrainingPuzzles_WhenReplayed() {
+            // given
+            Pack pack = Pack.builder()
+                    .id(7L)
+                    .puzzleCount(1)
+                    .price(1000)
+                    .difficulty(Difficulty.getDifficulty("LOW"))
+                    .build();
+            UserEntity user = TestUserEntityBuilder.builder().withId(1L).withCurrency(0).build();
+            SyncTrainingSolvesRequest request = new SyncTrainingSolvesRequest(List.of(
+                    new SyncTrainingSolvesRequest.SolveRecord(10L, null, true)));
+
+            when(userRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(user));
+            when(clock.instant()).thenReturn(fixedNow);
+            when(solvedTrainingPuzzleRepository.findSolvedPuzzleIdsIn(eq(1L), any())).thenReturn(Set.of(10L));
+            when(trainingPuzzleRepository.findAllWithPackByIdIn(any()))
+                    .thenReturn(List.of(TrainingPuzzle.builder().id(10L).pack(pack).build()));
+
+            // when
+            SyncTrainingSolvesResponse response = trainingService.syncSolvedTrainingPuzzles(user, request);
+
+            // then
+            assertEquals(0, response.solvedCount());
+            assertEquals(0, user.getCurrency());
+            verifyNoInteractions(trainingPuzzleBatchRepository);
+            verify(userPackRepository, never()).increaseSolvedCountBy(anyLong(), anyLong(), anyInt());
+        }
+
         @DisplayName("SolveLessonPuzzle: 주어진 user와 puzzleId에 대해 최초 풀이라면 solvedTrainingPuzzle이 저장")
         @Test
         void testSolveLessonPuzzle() {
@@ -386,8 +506,8 @@ public class TrainingServiceTest {
             when(trainingPuzzleRepository.findById(puzzleId))
                     .thenReturn(Optional.of(trainingPuzzle));
 
-            // User lookup succeeds (returns a managed entity)
-            when(userRepository.findById(userId))
+            // User lookup succeeds (returns the locked, managed entity)
+            when(userRepository.findByIdForUpdate(userId))
                     .thenReturn(Optional.of(user));
 
             // Set up a dummy save result
@@ -420,6 +540,7 @@ public class TrainingServiceTest {
                     .status(Status.getDefaultStatus())
                     .build();
 
+            when(userRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(user));
             SolvedTrainingPuzzle existingSolvedPuzzle = mock(SolvedTrainingPuzzle.class);
             when(solvedTrainingPuzzleRepository.findByUserIdAndPuzzleId(user.getId(), puzzleId))
                     .thenReturn(Optional.of(existingSolvedPuzzle));
@@ -461,8 +582,8 @@ public class TrainingServiceTest {
             List<TrainingPuzzle> puzzles = Collections.singletonList(puzzle);
             when(trainingPuzzleRepository.findByPack_IdOrderByTrainingIndex(packId)).thenReturn(puzzles);
 
-            // Assume solvedTrainingPuzzleRepository.existsByUserAndPuzzle(user, puzzle) returns false
-            when(solvedTrainingPuzzleRepository.existsByUserAndPuzzle(user, puzzle)).thenReturn(false);
+            // The user has not solved any puzzle of the pack
+            when(solvedTrainingPuzzleLookup.findSolvedIds(100L, packId, List.of(10L))).thenReturn(Set.of());
 
             // when
             List<GetTrainingPuzzleResponse> response = trainingService.getTrainingPuzzleList(user, packId);
@@ -499,10 +620,8 @@ public class TrainingServiceTest {
                     .id(1L)
                     .price(1000)
                     .puzzleCount(10)
+                    .difficulty(Difficulty.getDifficulty("LOW"))
                     .build();
-            List<Pack> packs = Collections.singletonList(pack);
-            when(packRepository.findByDifficulty(any(Difficulty.class)))
-                    .thenReturn(packs);
 
             // Create PackTranslation (linked pack with ID 1)
             PackTranslation translation = PackTranslation.builder()
@@ -513,10 +632,8 @@ public class TrainingServiceTest {
                     .description("Description")
                     .build();
 
-            when(packTranslationRepository.findAllByPack_IdInAndLangCode(
-                    eq(List.of(1L)),
-                    argThat(arg -> arg.getName().equals("EN"))
-            )).thenReturn(List.of(translation));
+            when(trainingCatalogCache.get())
+                    .thenReturn(TrainingCatalog.of(1L, List.of(pack), List.of(translation)));
 
             // userPackRepository: the user has no record for this pack, so return an empty list (locked = true, solvedCount = 0)
             when(userPackRepository.findAllByUserIdAndPackIdIn(100L, List.of(1L)))
@@ -610,7 +727,7 @@ public class TrainingServiceTest {
                     .build();
 
 
-            when(userRepository.findById(user.getId()))
+            when(userRepository.findByIdForUpdate(user.getId()))
                     .thenReturn(Optional.of(user));
 
             // when
@@ -744,7 +861,6 @@ public class TrainingServiceTest {
 
             verify(trainingPuzzleRepository, times(1)).findById(puzzleId);
             verify(trainingPuzzleRepository, never()).deleteById(anyLong());
-            verify(trainingPuzzleRepository, never()).decreaseIndexesFrom(anyInt());
         }
 
 
@@ -829,8 +945,8 @@ public class TrainingServiceTest {
                     .build();
             GetTrainingPackRequest request = new GetTrainingPackRequest("LOW", null);
 
-            when(packRepository.findByDifficulty(any(Difficulty.class)))
-                    .thenReturn(Collections.emptyList());
+            when(trainingCatalogCache.get())
+                    .thenReturn(TrainingCatalog.of(1L, List.of(), List.of()));
 
             // when & then
             CustomException exception = assertThrows(CustomException.class, () ->
@@ -894,7 +1010,7 @@ public class TrainingServiceTest {
             when(trainingPuzzleRepository.findById(puzzleId))
                     .thenReturn(Optional.empty());
 
-            when(userRepository.findById(user.getId()))
+            when(userRepository.findByIdForUpdate(user.getId()))
                     .thenReturn(Optional.of(user));
 
             // when
@@ -0,0 +1,87 @@
+package com.renzzle.backend.domain.user.service;
+
+import com.renzzle.backend.domain.user.dao.UserNicknameGramRepository;
+import com.renzzle.backend.domain.user.domain.UserNicknameGram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NicknameSearchIndexTest {
+
+    @Mock
+    private UserNicknameGramRepository userNicknameGramRepository;
+
+    private NicknameSearchIndex nicknameSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        nicknameSearchIndex = new NicknameSearchIndex(userNicknameGramRepository);
+    }
+
+    @Test
+    @DisplayName("닉네임은 소문자 글자 하나와 인접한 두 글자 단위로 쪼갠다")
+    void gramsOf_WhenNickname_ThenSingleAndAdjacentPairs() {
+        assertThat(UserNicknameGram.gramsOf("AbA")).containsExactly("a", "ab", "b", "ba");
+        assertThat(UserNicknameGram.gramsOf("렌즐")).containsExactly("렌", "렌즐", "즐");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 그 글자로, 그 이상은 인접한 두 글자들로 찾는다")
+    void findUserIds_WhenQuery_ThenLooksUpQueryGrams() {
+        when(userNicknameGramRepository.findUserIdsWithAll(Set.of("a"), NicknameSearchIndex.MAX_CANDIDATES + 1))
+                .thenReturn(List.of(1L));
+        when(userNicknameGramRepository.findUserIdsWithAll(Set.of("ab", "bc"), NicknameSearchIndex.MAX_CANDIDATES + 1))
+                .thenReturn(List.of(2L));
+
+        assertThat(nicknameSearchIndex.findUserIds("A")).contains(List.of(1L));
+        assertThat(nicknameSearchIndex.findUserIds("abc")).contains(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("후보가 MAX_CANDIDATES명을 넘으면 잘라내지 않고 후보 없음으로 알린다")
+    void findUserIds_WhenMoreThanMaxCandidates_ThenReturnsEmpty() {
+        List<Long> atCap = LongStream.rangeClosed(1, NicknameSearchIndex.MAX_CANDIDATES).boxed().toList();
+        List<Long> overCap = LongStream.rangeClosed(1, NicknameSearchIndex.MAX_CANDIDATES + 1).boxed().toList();
+        when(userNicknameGramRepository.findUserIdsWithAll(Set.of("a"), NicknameSearchIndex.MAX_CANDIDATES + 1))
+                .thenReturn(atCap, overCap);
+
+        assertThat(nicknameSearchIndex.findUserIds("a")).contains(atCap);
+        assertThat(nicknameSearchIndex.findUserIds("a")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 시 기존 조각을 지우고 새 닉네임으로 다시 색인한다")
+    void index_WhenNicknameChanges_ThenReplacesGrams() {
+        nicknameSearchIndex.index(1L, "ab");
+
+        verify(userNicknameGramRepository).replace(1L, Set.of("a", "ab", "b"));
+    }
+
+    @Test
+    @DisplayName("색인되지 않은 유저가 남아 있는 동안 배치 단위로 채운다")
+    void backfill_WhenUnindexedUsersRemain_ThenIndexesInBatches() {
+        Map<Long, String> fullBatch = new HashMap<>();
+        for (long id = 1; id <= 500; id++) {
+            fullBatch.put(id, "user" + id);
+        }
+        when(userNicknameGramRepository.findUnindexedUsers(500)).thenReturn(fullBatch, Map.of(501L, "last"), Map.of());
+
+        nicknameSearchIndex.backfill();
+
+        verify(userNicknameGramRepository, times(2)).findUnindexedUsers(500);
+        verify(userNicknameGramRepository).insert(Map.of(501L, UserNicknameGram.gramsOf("last")));
+    }
+}